@@ -0,0 +1,60 @@
+package com.gyeongditor.storyfield.service.impl;
+
+import com.gyeongditor.storyfield.util.PngInflateGuardInputStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.GZIPInputStream;
+
+/**
+ * .png.gz 해제 비용 (기존 gunzipToBytes 자리)
+ * JDK GZIPInputStream 과 인제스트 경로(풀링된 Inflater + 해제 가드)를 같은 입력으로 비교한다.
+ */
+@State(Scope.Benchmark)
+public class GunzipBenchmark {
+
+    @Param({"256", "1024", "2048"})
+    public int imageWidth;
+
+    private StoryIngestFixture fixture;
+    private byte[] gz;
+
+    @Setup
+    public void setUp() {
+        fixture = new StoryIngestFixture();
+        gz = StoryIngestFixture.gzip(StoryIngestFixture.png(imageWidth, 42));
+    }
+
+    @TearDown
+    public void tearDown() {
+        fixture.close();
+    }
+
+    @Benchmark
+    public long jdkGzipInputStream() throws IOException {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(gz), 8 * 1024)) {
+            return in.transferTo(OutputStream.nullOutputStream());
+        }
+    }
+
+    @Benchmark
+    public long pooledGuardedInflate() throws IOException {
+        var ingest = fixture.ingestProperties;
+        try (InputStream gzin = fixture.ingestBufferPool.openGzip(new ByteArrayInputStream(gz), new LongAdder());
+             InputStream png = new PngInflateGuardInputStream(
+                     gzin, "page.png.gz", gz.length,
+                     ingest.getMaxInflatedSize().toBytes(), ingest.getMaxCompressionRatio(),
+                     ingest.getMaxImageDimension(), ingest.getMaxImagePixels())) {
+            return png.transferTo(OutputStream.nullOutputStream());
+        }
+    }
+}
@@ -0,0 +1,90 @@
+package com.gyeongditor.storyfield.service.impl;
+
+import com.gyeongditor.storyfield.service.ObjectStorage;
+import org.springframework.core.io.InputStreamSource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.WritableByteChannel;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+/**
+ * 네트워크 없이 업로드 경로만 측정하기 위한 스토리지 스텁
+ * 실제 구현처럼 스트림을 끝까지 읽지만 내용은 보관하지 않는다 (반복 측정 중 힙이 커지지 않도록).
+ */
+class InMemoryObjectStorage implements ObjectStorage {
+
+    private final LongAdder uploadedBytes = new LongAdder();
+    private final LongAdder uploadedObjects = new LongAdder();
+
+    @Override
+    public CompletableFuture<String> upload(String objectKey, InputStreamSource source, long contentLength, String contentType) {
+        try (InputStream in = source.getInputStream()) {
+            uploadedBytes.add(in.transferTo(OutputStream.nullOutputStream()));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        uploadedObjects.increment();
+        return CompletableFuture.completedFuture(objectKey);
+    }
+
+    @Override
+    public long transferTo(String key, WritableByteChannel target) {
+        return 0;
+    }
+
+    @Override
+    public long transferTo(String key, long offset, long length, WritableByteChannel target) {
+        return 0;
+    }
+
+    @Override
+    public Optional<ObjectInfo> stat(String key) {
+        return Optional.empty();
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return false;
+    }
+
+    @Override
+    public void delete(String key) {
+    }
+
+    @Override
+    public List<String> deleteAll(Collection<String> keys) {
+        return List.of();
+    }
+
+    @Override
+    public Stream<StoredObject> list(String prefix) {
+        return Stream.empty();
+    }
+
+    @Override
+    public String url(String key) {
+        return "memory://" + key;
+    }
+
+    @Override
+    public List<String> presign(List<String> keys, Instant expiresAt) {
+        return keys.stream().map(key -> key != null ? url(key) : null).toList();
+    }
+
+    long uploadedBytes() {
+        return uploadedBytes.sum();
+    }
+
+    long uploadedObjects() {
+        return uploadedObjects.sum();
+    }
+}
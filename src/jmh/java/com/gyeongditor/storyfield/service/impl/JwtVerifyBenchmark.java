@@ -0,0 +1,89 @@
+package com.gyeongditor.storyfield.service.impl;
+
+import com.gyeongditor.storyfield.config.JwtSigningProperties;
+import com.gyeongditor.storyfield.jwt.JwtSigningKeys;
+import com.gyeongditor.storyfield.jwt.JwtTokenProvider;
+import com.gyeongditor.storyfield.repository.JwtTokenRedisRepository;
+import com.gyeongditor.storyfield.service.TokenRevocationService;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.security.Key;
+import java.time.Duration;
+import java.util.Date;
+import java.util.UUID;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * validateOrThrow 한 번의 비용 (요청 컨텍스트 밖이라 요청 내 재사용은 없음)
+ * cold: 캐시보다 많은 서로 다른 토큰을 돌려가며 검증 (매번 서명 검증 + JSON 파싱 + 캐시 저장)
+ * warm: 같은 토큰 반복 (다이제스트 + 캐시 조회 + 폐기 확인만)
+ * legacyParse 는 요청마다 문자열 secret 으로 파서를 만들던 이전 방식
+ */
+@State(Scope.Benchmark)
+public class JwtVerifyBenchmark {
+
+    // jjwt 는 문자열 키를 base64 로 해석한다
+    private static final String SECRET = "cHJlc2lnbkJlbmNobWFya1NlY3JldFByZXNpZ25CZW5jaG1hcmtTZWNyZXQ=";
+    private static final Key KEY = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+    private static final int CACHE_SIZE = 1024;
+    private static final int COLD_TOKENS = CACHE_SIZE * 8;
+
+    @Param({"cold", "warm"})
+    public String cache;
+
+    private JwtTokenProvider jwtTokenProvider;
+    private String[] tokens;
+    private int next;
+
+    @Setup
+    public void setUp() {
+        JwtTokenRedisRepository tokenRepository = mock(JwtTokenRedisRepository.class, withSettings().stubOnly());
+        TokenRevocationService revocationService = mock(TokenRevocationService.class, withSettings().stubOnly());
+        jwtTokenProvider = new JwtTokenProvider(tokenRepository, null, revocationService,
+                new JwtSigningKeys(new JwtSigningProperties()));
+        ReflectionTestUtils.setField(jwtTokenProvider, "secretKey", SECRET);
+        ReflectionTestUtils.setField(jwtTokenProvider, "verifiedCacheSize", CACHE_SIZE);
+        ReflectionTestUtils.setField(jwtTokenProvider, "verifiedCacheTtl", Duration.ofMinutes(1));
+        jwtTokenProvider.init();
+
+        tokens = new String["cold".equals(cache) ? COLD_TOKENS : 1];
+        for (int i = 0; i < tokens.length; i++) {
+            tokens[i] = Jwts.builder()
+                    .setSubject("bench" + i + "@storyfield.com")
+                    .claim("userUUID", UUID.randomUUID().toString())
+                    .setId(UUID.randomUUID().toString())
+                    .setIssuedAt(new Date())
+                    .setExpiration(new Date(System.currentTimeMillis() + 3_600_000L))
+                    .signWith(KEY, SignatureAlgorithm.HS256)
+                    .compact();
+        }
+    }
+
+    @Benchmark
+    public void validateOrThrow() {
+        jwtTokenProvider.validateOrThrow(nextToken());
+    }
+
+    @Benchmark
+    public void legacyParse(Blackhole blackhole) {
+        blackhole.consume(Jwts.parser().setSigningKey(SECRET).parseClaimsJws(nextToken()).getBody());
+    }
+
+    private String nextToken() {
+        String token = tokens[next];
+        next = (next + 1) % tokens.length;
+        return token;
+    }
+}
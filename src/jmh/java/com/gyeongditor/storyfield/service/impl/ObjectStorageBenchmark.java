@@ -0,0 +1,132 @@
+package com.gyeongditor.storyfield.service.impl;
+
+import com.amazonaws.auth.AWSStaticCredentialsProvider;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.client.builder.AwsClientBuilder;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import com.gyeongditor.storyfield.config.AsyncConfig;
+import com.gyeongditor.storyfield.config.AwsProperties;
+import com.gyeongditor.storyfield.config.LocalStorageProperties;
+import com.gyeongditor.storyfield.service.ObjectStorage;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.util.FileSystemUtils;
+
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+/**
+ * 같은 ObjectStorage 인터페이스로 로컬 / S3 백엔드를 비교한다.
+ * s3 는 S3 호환 엔드포인트가 필요하다 (docker compose --profile local-s3 up minio).
+ * 엔드포인트/키/버킷은 S3_ENDPOINT, S3_ACCESSKEY, S3_SECRETKEY, S3_BUCKET 환경 변수로 바꾼다.
+ * 로컬만 측정: java -jar build/libs/*-jmh.jar ObjectStorageBenchmark -p backend=local
+ */
+@State(Scope.Benchmark)
+public class ObjectStorageBenchmark {
+
+    @Param({"local", "s3"})
+    public String backend;
+
+    @Param({"262144", "4194304"})
+    public int objectSize;
+
+    private ThreadPoolTaskExecutor ioExecutor;
+    private ObjectStorage storage;
+    private Path workDir;
+    private FileSystemResource source;
+    private FileChannel sink;
+    private String key;
+    private List<String> feedKeys;
+
+    @Setup
+    public void setUp() throws IOException {
+        ioExecutor = new AsyncConfig().s3TransferExecutor();
+        workDir = Files.createTempDirectory("storage-bench-");
+        storage = "s3".equals(backend) ? s3Storage() : localStorage();
+
+        byte[] bytes = new byte[objectSize];
+        new Random(42).nextBytes(bytes);
+        Path file = Files.write(workDir.resolve("source.png"), bytes);
+        source = new FileSystemResource(file);
+        // 파일 채널끼리의 transferTo 는 커널 안에서 복사된다
+        sink = FileChannel.open(Paths.get("/dev/null"), StandardOpenOption.WRITE);
+
+        key = "bench/" + objectSize + ".png";
+        storage.upload(key, source, objectSize, "image/png").join();
+        feedKeys = IntStream.range(0, 10).mapToObj(i -> "stories/feed-" + i + ".png").toList();
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        storage.delete(key);
+        sink.close();
+        ioExecutor.shutdown();
+        FileSystemUtils.deleteRecursively(workDir);
+    }
+
+    @Benchmark
+    public String upload() {
+        return storage.upload(key, source, objectSize, "image/png").join();
+    }
+
+    @Benchmark
+    public long read() throws IOException {
+        return storage.transferTo(key, sink);
+    }
+
+    // 피드 한 페이지 (썸네일 10개) 서명
+    @Benchmark
+    public List<String> presignFeedPage() {
+        return storage.presign(feedKeys, Instant.now().plusSeconds(600));
+    }
+
+    private ObjectStorage localStorage() throws IOException {
+        LocalStorageProperties properties = new LocalStorageProperties();
+        properties.setRoot(workDir.resolve("objects").toString());
+        properties.setSigningKey("benchmark-signing-key");
+        return new LocalObjectStorage(properties, ioExecutor);
+    }
+
+    private ObjectStorage s3Storage() {
+        AwsProperties properties = new AwsProperties();
+        AwsProperties.Credentials credentials = new AwsProperties.Credentials();
+        credentials.setAccessKey(env("S3_ACCESSKEY", "minioadmin"));
+        credentials.setSecretKey(env("S3_SECRETKEY", "minioadmin"));
+        properties.setCredentials(credentials);
+        properties.setRegion("ap-northeast-2");
+        properties.setBucket(env("S3_BUCKET", "storyfield-bench"));
+        properties.setEndpoint(env("S3_ENDPOINT", "http://localhost:9000"));
+
+        AmazonS3 amazonS3 = AmazonS3ClientBuilder.standard()
+                .withCredentials(new AWSStaticCredentialsProvider(
+                        new BasicAWSCredentials(credentials.getAccessKey(), credentials.getSecretKey())))
+                .withEndpointConfiguration(new AwsClientBuilder.EndpointConfiguration(
+                        properties.getEndpoint(), properties.getRegion()))
+                .withPathStyleAccessEnabled(true)
+                .build();
+        if (!amazonS3.doesBucketExistV2(properties.getBucket())) {
+            amazonS3.createBucket(properties.getBucket());
+        }
+        return new S3ObjectStorage(amazonS3, properties, new S3TransferServiceImpl(amazonS3, properties, ioExecutor));
+    }
+
+    private static String env(String name, String defaultValue) {
+        String value = System.getenv(name);
+        return value != null && !value.isBlank() ? value : defaultValue;
+    }
+}
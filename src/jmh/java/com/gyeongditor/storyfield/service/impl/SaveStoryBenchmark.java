@@ -0,0 +1,66 @@
+package com.gyeongditor.storyfield.service.impl;
+
+import com.gyeongditor.storyfield.dto.ApiResponseDTO;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * saveStoryFromFastApi 전체 흐름 (용량 확보 → 페이지별 병렬 해제/업로드/파생본 → 저장)
+ * 페이지 수와 이미지 크기에 따라 스토리 하나가 끝나는 처리량을 본다.
+ */
+@State(Scope.Benchmark)
+public class SaveStoryBenchmark {
+
+    @Param({"1", "10", "40"})
+    public int pageCount;
+
+    @Param({"256", "1024"})
+    public int imageWidth;
+
+    private StoryIngestFixture fixture;
+    private MockHttpServletRequest request;
+    private String saveStoryJson;
+    private MockMultipartFile thumbnail;
+    private List<MultipartFile> pageImages;
+
+    @Setup
+    public void setUp() {
+        fixture = new StoryIngestFixture();
+        // 스토리 하나가 예산 전체를 넘지 않도록 (40페이지 + 썸네일)
+        fixture.ingestProperties.setMaxInFlightImages(Math.max(64, pageCount + 1));
+        request = new MockHttpServletRequest();
+
+        StringBuilder json = new StringBuilder("{\"storyTitle\":\"벤치마크 이야기\",\"pages\":[");
+        pageImages = new ArrayList<>(pageCount);
+        for (int i = 1; i <= pageCount; i++) {
+            json.append(i > 1 ? "," : "")
+                    .append("{\"pageNumber\":").append(i).append(",\"content\":\"페이지 ").append(i).append("\"}");
+            byte[] gz = StoryIngestFixture.gzip(StoryIngestFixture.png(imageWidth, i));
+            pageImages.add(new MockMultipartFile("pageImagesGz", "page_" + i + ".png.gz", "application/gzip", gz));
+        }
+        saveStoryJson = json.append("]}").toString();
+        thumbnail = new MockMultipartFile("thumbnailGz", "thumbnail.png.gz", "application/gzip",
+                StoryIngestFixture.gzip(StoryIngestFixture.png(imageWidth, 0)));
+    }
+
+    @TearDown
+    public void tearDown() {
+        fixture.close();
+    }
+
+    @Benchmark
+    public ApiResponseDTO<String> saveStoryFromFastApi() throws IOException {
+        return fixture.storyService.saveStoryFromFastApi(request, null, saveStoryJson, thumbnail, pageImages);
+    }
+}
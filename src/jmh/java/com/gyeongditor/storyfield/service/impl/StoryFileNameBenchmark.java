@@ -0,0 +1,26 @@
+package com.gyeongditor.storyfield.service.impl;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 업로드 키 생성에 쓰이는 파일명 정리 비용
+ */
+@State(Scope.Benchmark)
+public class StoryFileNameBenchmark {
+
+    @Param({"page_01.png.gz", "/tmp/upload/thumbnail.PNG.GZ", ""})
+    public String originalFilename;
+
+    @Benchmark
+    public String safeName() {
+        return StoryServiceImpl.safeName(originalFilename);
+    }
+
+    @Benchmark
+    public String safeNameThenStripGzExtension() {
+        return StoryServiceImpl.stripGzExtension(StoryServiceImpl.safeName(originalFilename));
+    }
+}
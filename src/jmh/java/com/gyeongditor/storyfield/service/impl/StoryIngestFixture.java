@@ -0,0 +1,114 @@
+package com.gyeongditor.storyfield.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gyeongditor.storyfield.Entity.User;
+import com.gyeongditor.storyfield.config.AsyncConfig;
+import com.gyeongditor.storyfield.config.IngestProperties;
+import com.gyeongditor.storyfield.dto.ApiResponseDTO;
+import com.gyeongditor.storyfield.response.SuccessCode;
+import com.gyeongditor.storyfield.service.AuthService;
+import com.gyeongditor.storyfield.service.StoryPersistenceService;
+import com.gyeongditor.storyfield.service.UserService;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Random;
+import java.util.zip.GZIPOutputStream;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import static org.mockito.Mockito.withSettings;
+
+/**
+ * 벤치마크용 인제스트 객체 구성
+ * S3 / Redis / DB / 인증은 스텁으로 바꾸고, 해제 → 임시 파일 → 파생본 생성 → 업로드 경로는 실제 구현을 그대로 쓴다.
+ */
+final class StoryIngestFixture implements AutoCloseable {
+
+    static final String ACCESS_TOKEN = "benchmark-token";
+
+    final IngestProperties ingestProperties = new IngestProperties();
+    final InMemoryObjectStorage objectStorage = new InMemoryObjectStorage();
+    final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    final ThreadPoolTaskExecutor storyImageExecutor;
+    final ThreadPoolTaskExecutor derivativeExecutor;
+    final ThreadPoolTaskExecutor transferExecutor;
+    final IngestBufferPoolImpl ingestBufferPool;
+    final StoryServiceImpl storyService;
+
+    StoryIngestFixture() {
+        AsyncConfig asyncConfig = new AsyncConfig();
+        storyImageExecutor = asyncConfig.taskExecutor(ingestProperties);
+        derivativeExecutor = asyncConfig.imageDerivativeExecutor(ingestProperties);
+        // 스텁은 호출 스레드에서 바로 끝나므로 전송 풀은 스케줄러 지표용으로만 쓰인다
+        transferExecutor = asyncConfig.s3TransferExecutor();
+
+        ingestBufferPool = new IngestBufferPoolImpl(ingestProperties, storyImageExecutor, meterRegistry);
+        StoryIngestSchedulerImpl scheduler = new StoryIngestSchedulerImpl(
+                ingestProperties, storyImageExecutor, transferExecutor, meterRegistry);
+        ImageDerivativeServiceImpl derivativeService =
+                new ImageDerivativeServiceImpl(objectStorage, ingestProperties, derivativeExecutor);
+        // 콘텐츠 주소 모드가 꺼져 있으면 Redis 인덱스와 참조 수 조회는 쓰이지 않는다
+        ImageBlobServiceImpl imageBlobService = new ImageBlobServiceImpl(
+                objectStorage, derivativeService, ingestProperties, null, null, null);
+
+        // stubOnly: 호출 기록을 남기지 않아 반복 측정 중 할당이 쌓이지 않는다
+        User user = User.builder().userId("benchmark-user").username("benchmark").build();
+        AuthService authService = mock(AuthService.class, withSettings().stubOnly());
+        UserService userService = mock(UserService.class, withSettings().stubOnly());
+        StoryPersistenceService persistenceService = mock(StoryPersistenceService.class, withSettings().stubOnly());
+        when(authService.extractAccessToken(any())).thenReturn(ACCESS_TOKEN);
+        when(userService.getUserFromToken(ACCESS_TOKEN)).thenReturn(user);
+        when(persistenceService.saveStory(any(), any(), any(), any()))
+                .thenReturn(ApiResponseDTO.success(SuccessCode.STORY_201_001, "이야기를 저장했습니다."));
+
+        storyService = new StoryServiceImpl(
+                null, null, null, null,
+                userService, authService, new ObjectMapper(), storyImageExecutor, persistenceService,
+                scheduler, imageBlobService, ingestProperties, ingestBufferPool,
+                (userId, key, fingerprint, action) -> action.get(), null, null);
+    }
+
+    // 그림책 삽화처럼 면과 잡음이 섞인 PNG (압축률이 실제 페이지와 비슷하도록)
+    static byte[] png(int width, long seed) {
+        Random random = new Random(seed);
+        BufferedImage image = new BufferedImage(width, width * 3 / 4, BufferedImage.TYPE_INT_ARGB);
+        for (int y = 0; y < image.getHeight(); y++) {
+            for (int x = 0; x < width; x++) {
+                int base = ((x / 32 + y / 32) % 2 == 0) ? 0xFFE8C07A : 0xFF4A7BB0;
+                image.setRGB(x, y, base ^ (random.nextInt(16) * 0x010101));
+            }
+        }
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            ImageIO.write(image, "png", out);
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static byte[] gzip(byte[] bytes) {
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            try (GZIPOutputStream gz = new GZIPOutputStream(out)) {
+                gz.write(bytes);
+            }
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    public void close() {
+        storyImageExecutor.shutdown();
+        derivativeExecutor.shutdown();
+        transferExecutor.shutdown();
+    }
+}
@@ -0,0 +1,40 @@
+package com.gyeongditor.storyfield.service.impl;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+
+/**
+ * 해제된 PNG 한 장의 저장 비용 (임시 파일 + 원본 업로드 + 피드/미리보기 파생본)
+ */
+@State(Scope.Benchmark)
+public class UploadPngBenchmark {
+
+    @Param({"256", "1024", "2048"})
+    public int imageWidth;
+
+    private StoryIngestFixture fixture;
+    private byte[] png;
+
+    @Setup
+    public void setUp() {
+        fixture = new StoryIngestFixture();
+        png = StoryIngestFixture.png(imageWidth, 42);
+    }
+
+    @TearDown
+    public void tearDown() {
+        fixture.close();
+    }
+
+    @Benchmark
+    public String uploadPngWithUuidNaming() throws IOException {
+        return fixture.storyService.uploadPngWithUuidNaming("page.png.gz", new ByteArrayInputStream(png)).join();
+    }
+}
@@ -2,6 +2,8 @@ package com.gyeongditor.storyfield.Controller;
 
 
 import com.gyeongditor.storyfield.dto.ApiResponseDTO;
+import com.gyeongditor.storyfield.dto.File.PresignBatchRequestDTO;
+import com.gyeongditor.storyfield.dto.File.PresignedUrlDTO;
 import com.gyeongditor.storyfield.service.AudioService;
 import com.gyeongditor.storyfield.swagger.api.AudioApi;
 import jakarta.servlet.http.HttpServletRequest;
@@ -9,6 +11,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.List;
+
 @RestController
 @RequiredArgsConstructor
 public class AudioController implements AudioApi {
@@ -31,6 +35,12 @@ public class AudioController implements AudioApi {
         return audioService.generateDownloadPresignedUrl(keyOrFileName, request);
     }
 
+    @Override
+    public ApiResponseDTO<List<PresignedUrlDTO>> getDownloadPresignedUrls(PresignBatchRequestDTO presignBatchRequestDTO,
+                                                                          HttpServletRequest request) {
+        return audioService.generateDownloadPresignedUrls(presignBatchRequestDTO.getKeys(), request);
+    }
+
     @Override
     public ApiResponseDTO<Void> deleteAudio(String fileName, HttpServletRequest request) {
         return audioService.deleteAudio(fileName, request);
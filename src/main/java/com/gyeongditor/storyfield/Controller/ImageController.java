@@ -1,12 +1,16 @@
 package com.gyeongditor.storyfield.Controller;
 
 import com.gyeongditor.storyfield.dto.ApiResponseDTO;
+import com.gyeongditor.storyfield.dto.File.PresignBatchRequestDTO;
+import com.gyeongditor.storyfield.dto.File.PresignedUrlDTO;
 import com.gyeongditor.storyfield.service.S3Service;
 import com.gyeongditor.storyfield.swagger.api.ImageApi;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.List;
+
 @RestController
 @RequiredArgsConstructor
 public class ImageController implements ImageApi {
@@ -18,6 +22,12 @@ public class ImageController implements ImageApi {
         return s3Service.getFileUrlResponse(fileName, request);
     }
 
+    @Override
+    public ApiResponseDTO<List<PresignedUrlDTO>> presignImages(PresignBatchRequestDTO presignBatchRequestDTO,
+                                                               HttpServletRequest request) {
+        return s3Service.generatePresignedUrlBatch(presignBatchRequestDTO.getKeys(), request);
+    }
+
     @Override
     public ApiResponseDTO<Void> deleteImage(String fileName, HttpServletRequest request) {
         return s3Service.deleteFile(fileName, request);
@@ -0,0 +1,26 @@
+package com.gyeongditor.storyfield.Controller;
+
+import com.gyeongditor.storyfield.config.JwtSigningProperties;
+import com.gyeongditor.storyfield.jwt.JwtSigningKeys;
+import com.gyeongditor.storyfield.swagger.api.JwksApi;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+@RestController
+@RequiredArgsConstructor
+public class JwksController implements JwksApi {
+
+    private final JwtSigningKeys jwtSigningKeys;
+    private final JwtSigningProperties jwtSigningProperties;
+
+    @Override
+    public ResponseEntity<Map<String, Object>> getJwks() {
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.maxAge(jwtSigningProperties.getJwksMaxAge()).cachePublic())
+                .body(jwtSigningKeys.jwks());
+    }
+}
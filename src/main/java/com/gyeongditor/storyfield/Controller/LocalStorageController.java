@@ -0,0 +1,46 @@
+package com.gyeongditor.storyfield.Controller;
+
+import com.gyeongditor.storyfield.service.impl.LocalObjectStorage;
+import com.gyeongditor.storyfield.swagger.api.LocalStorageApi;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Profile;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.util.UriUtils;
+
+import java.io.IOException;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Instant;
+
+@RestController
+@Profile("local-storage")
+@RequiredArgsConstructor
+public class LocalStorageController implements LocalStorageApi {
+
+    private static final String PATH_PREFIX = "/storage/";
+
+    private final LocalObjectStorage localObjectStorage;
+
+    @Override
+    public void download(long expires, String signature, HttpServletRequest request, HttpServletResponse response)
+            throws IOException {
+        final String encodedKey = request.getRequestURI().substring(request.getContextPath().length() + PATH_PREFIX.length());
+        final String key = UriUtils.decode(encodedKey, StandardCharsets.UTF_8);
+        final Path path = localObjectStorage.verifiedPath(key, expires, signature);
+
+        response.setContentType(MediaTypeFactory.getMediaType(key).orElse(MediaType.APPLICATION_OCTET_STREAM).toString());
+        response.setContentLengthLong(Files.size(path));
+        // 서명이 만료되기 전까지만 캐시
+        long maxAge = Math.max(0, expires - Instant.now().getEpochSecond());
+        response.setHeader(HttpHeaders.CACHE_CONTROL, "private, max-age=" + maxAge);
+
+        LocalObjectStorage.transferTo(path, Channels.newChannel(response.getOutputStream()));
+    }
+}
@@ -0,0 +1,29 @@
+package com.gyeongditor.storyfield.Controller;
+
+import com.gyeongditor.storyfield.service.ObjectProxyService;
+import com.gyeongditor.storyfield.swagger.api.ObjectProxyApi;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.util.UriUtils;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+@RestController
+@ConditionalOnProperty(prefix = "storage.proxy", name = "enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class ObjectProxyController implements ObjectProxyApi {
+
+    private static final String PATH_PREFIX = "/media/";
+
+    private final ObjectProxyService objectProxyService;
+
+    @Override
+    public void stream(HttpServletRequest request, HttpServletResponse response) throws IOException {
+        final String encodedKey = request.getRequestURI().substring(request.getContextPath().length() + PATH_PREFIX.length());
+        objectProxyService.serve(UriUtils.decode(encodedKey, StandardCharsets.UTF_8), request, response);
+    }
+}
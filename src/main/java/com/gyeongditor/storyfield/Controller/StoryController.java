@@ -1,14 +1,18 @@
 package com.gyeongditor.storyfield.Controller;
 
 import com.gyeongditor.storyfield.dto.ApiResponseDTO;
+import com.gyeongditor.storyfield.dto.Story.StoryFeedResponseDTO;
+import com.gyeongditor.storyfield.dto.Story.StoryIngestJobResponseDTO;
 import com.gyeongditor.storyfield.dto.Story.StoryPageResponseDTO;
 import com.gyeongditor.storyfield.dto.Story.StoryThumbnailResponseDTO;
 import com.gyeongditor.storyfield.response.SuccessCode;
+import com.gyeongditor.storyfield.service.StoryIngestJobService;
 import com.gyeongditor.storyfield.service.StoryService;
 import com.gyeongditor.storyfield.swagger.api.StoryApi;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -20,15 +24,30 @@ import java.util.UUID;
 public class StoryController implements StoryApi {
 
     private final StoryService storyService;
+    private final StoryIngestJobService storyIngestJobService;
 
     @SneakyThrows
     @Override
     public ApiResponseDTO<String> saveStory(HttpServletRequest request,
+                                            String idempotencyKey,
                                             String saveStoryDtoString,
                                             MultipartFile thumbnailGz,
                                             List<MultipartFile> pageImagesGz) {
-        return storyService.saveStoryFromFastApi(request,saveStoryDtoString, thumbnailGz, pageImagesGz);
+        return storyService.saveStoryFromFastApi(request, idempotencyKey, saveStoryDtoString, thumbnailGz, pageImagesGz);
     }
+    @Override
+    public ResponseEntity<ApiResponseDTO<StoryIngestJobResponseDTO>> saveStoryAsync(HttpServletRequest request,
+                                                                                  String saveStoryDtoString,
+                                                                                  MultipartFile thumbnailGz,
+                                                                                  List<MultipartFile> pageImagesGz) {
+        return storyIngestJobService.acceptStory(request, saveStoryDtoString, thumbnailGz, pageImagesGz);
+    }
+
+    @Override
+    public ApiResponseDTO<StoryIngestJobResponseDTO> getStoryIngestJob(HttpServletRequest request, UUID jobId) {
+        return storyIngestJobService.getJob(request, jobId);
+    }
+
     @Override
     public ApiResponseDTO<List<StoryPageResponseDTO>> getStoryPages(HttpServletRequest request, UUID storyId) {
         return storyService.getStoryPages(storyId, request);
@@ -39,6 +58,11 @@ public class StoryController implements StoryApi {
         return storyService.getMainPageStories(page, request);
     }
 
+    @Override
+    public ApiResponseDTO<StoryFeedResponseDTO> getStoryFeed(HttpServletRequest request, String cursor, int size) {
+        return storyService.getStoryFeed(cursor, size, request);
+    }
+
     @Override
     public ApiResponseDTO<Void> deleteStory(HttpServletRequest request, UUID storyId) {
         return storyService.deleteStory(request, storyId);
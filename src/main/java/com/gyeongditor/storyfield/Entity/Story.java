@@ -13,6 +13,12 @@ import java.util.UUID;
 @Builder
 @NoArgsConstructor
 @AllArgsConstructor
+@Table(indexes = {
+        // 공유 썸네일 참조 수 조회용
+        @Index(name = "idx_story_thumbnail_file_name", columnList = "thumbnailFileName"),
+        // 피드 keyset 페이지네이션 (createdAt, storyId 역순 스캔)
+        @Index(name = "idx_story_created_at_story_id", columnList = "createdAt, storyId")
+})
 public class Story {
 
     @Id
@@ -0,0 +1,75 @@
+package com.gyeongditor.storyfield.Entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Entity
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Table(indexes = {
+        // 재시작 시 미완료 작업 복구용
+        @Index(name = "idx_story_ingest_job_status", columnList = "status"),
+        @Index(name = "idx_story_ingest_job_owner_node", columnList = "owner_node")
+})
+public class StoryIngestJob {
+
+    @Id
+    private UUID jobId;
+
+    @Column(name = "user_id", length = 36, nullable = false)
+    private String userId;
+
+    // 원본 SaveStoryDTO JSON (이미지 파일은 디스크 스풀 디렉터리에 보관)
+    @Column(columnDefinition = "TEXT", nullable = false)
+    private String saveStoryDto;
+
+    @Column(nullable = false)
+    private int pageCount;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private StoryIngestStatus status;
+
+    // 완료 시 생성된 스토리
+    private UUID storyId;
+
+    private String errorCode;
+
+    @Column(length = 500)
+    private String errorMessage;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    private LocalDateTime updatedAt;
+
+    // 스풀 디렉터리가 있는 인스턴스와 그 인스턴스가 살아 있다고 보증하는 시각 (하트비트로 연장)
+    // 생성 시에만 엔티티로 쓰고 이후에는 벌크 쿼리로만 바꾼다, 상태 변경도 소유자 조건을 건 UPDATE 로만 기록한다
+    @Column(name = "owner_node", length = 64, updatable = false)
+    private String ownerNode;
+
+    @Column(updatable = false)
+    private LocalDateTime leaseUntil;
+
+    public void changeStatus(StoryIngestStatus status) {
+        this.status = status;
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public void complete(UUID storyId) {
+        this.storyId = storyId;
+        changeStatus(StoryIngestStatus.DONE);
+    }
+
+    public void fail(String errorCode, String errorMessage) {
+        this.errorCode = errorCode;
+        this.errorMessage = errorMessage != null && errorMessage.length() > 500
+                ? errorMessage.substring(0, 500) : errorMessage;
+        changeStatus(StoryIngestStatus.FAILED);
+    }
+}
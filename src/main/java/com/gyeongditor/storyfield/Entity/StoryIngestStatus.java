@@ -0,0 +1,14 @@
+package com.gyeongditor.storyfield.Entity;
+
+// 비동기 스토리 생성 작업 상태 (RECEIVED → UPLOADING → PERSISTING → DONE / FAILED)
+public enum StoryIngestStatus {
+    RECEIVED,
+    UPLOADING,
+    PERSISTING,
+    DONE,
+    FAILED;
+
+    public boolean isFinished() {
+        return this == DONE || this == FAILED;
+    }
+}
@@ -11,12 +11,18 @@ import lombok.*;
 @Table(
         uniqueConstraints = {
                 @UniqueConstraint(name = "uk_story_page_pageNumber", columnNames = {"story_id", "pageNumber"})
+        },
+        indexes = {
+                // 공유 이미지 참조 수 조회용
+                @Index(name = "idx_story_page_image_file_name", columnList = "imageFileName")
         }
 )
 public class StoryPage {
 
+    // IDENTITY 는 JDBC 배치 INSERT 를 막으므로 시퀀스에서 50개씩 미리 할당받는다
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "story_page_seq")
+    @SequenceGenerator(name = "story_page_seq", sequenceName = "story_page_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -25,7 +31,7 @@ public class StoryPage {
     @Column(columnDefinition = "TEXT", nullable = false)
     private String content;
 
-    // presignedUrl 대신 S3에 업로드된 실제 파일 이름만 저장
+    // presignedUrl 대신 S3에 업로드된 실제 파일 이름만 저장 (콘텐츠 주소 모드에서는 여러 페이지가 같은 객체를 공유)
     @Column(nullable = false)
     private String imageFileName;
 
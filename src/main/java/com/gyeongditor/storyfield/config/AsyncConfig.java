@@ -4,11 +4,15 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
-import org.springframework.core.task.TaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
 
 /**
  * 비동기 처리를 위한 설정 클래스
  * 스토리 이미지 업로드 병렬 처리용 ThreadPool 설정
+ * 이미지 파생본 생성용 ThreadPool 설정
+ * S3 멀티파트 파트 전송용 ThreadPool 설정
+ * 대량 URL 서명용 ThreadPool 설정
  */
 @Configuration
 @EnableAsync // @EnableAsync 활성화
@@ -16,17 +20,17 @@ public class AsyncConfig {
 
     /**
      * 스토리 이미지 업로드용 TaskExecutor Bean 등록
+     * 동시에 들어오는 작업 수는 StoryIngestScheduler가 스토리 단위로 제한하므로
+     * 큐는 제한하지 않고 고정 크기 풀로 처리한다 (크기는 런타임에 조정 가능)
      *
      * @return storyImageTaskExecutor 스레드풀
      */
     @Bean(name = "storyImageTaskExecutor")
-    public TaskExecutor taskExecutor() {
+    public ThreadPoolTaskExecutor taskExecutor(IngestProperties ingestProperties) {
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
 
-        // 스레드풀 파라미터 설정 (트래픽 상황에 따라 추후 조정 가능)
-        executor.setCorePoolSize(4);              // 기본 스레드 4개
-        executor.setMaxPoolSize(10);              // 최대 스레드 10개
-        executor.setQueueCapacity(50);            // 큐 크기 50
+        executor.setCorePoolSize(ingestProperties.getPoolSize());
+        executor.setMaxPoolSize(ingestProperties.getPoolSize());
         executor.setThreadNamePrefix("StoryImage-"); // 스레드 이름 접두사
 
         // 애플리케이션 종료 시 설정
@@ -36,4 +40,98 @@ public class AsyncConfig {
         executor.initialize();
         return executor;
     }
+
+    /**
+     * 비동기 스토리 생성 작업용 TaskExecutor Bean 등록
+     * 접수된 작업을 순서대로 꺼내 처리하고, 용량이 없으면 워커가 기다렸다가 다시 시도한다
+     *
+     * @return storyIngestJobExecutor 스레드풀
+     */
+    @Bean(name = "storyIngestJobExecutor")
+    public ThreadPoolTaskExecutor storyIngestJobExecutor(IngestProperties ingestProperties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+        executor.setCorePoolSize(ingestProperties.getJobWorkers());
+        executor.setMaxPoolSize(ingestProperties.getJobWorkers());
+        executor.setThreadNamePrefix("StoryIngestJob-");
+
+        // 종료 시 남은 작업은 DB 상태로 남아 재시작 후 다시 처리된다
+        executor.setWaitForTasksToCompleteOnShutdown(false);
+
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 이미지 파생본 생성용 TaskExecutor Bean 등록
+     * 디코딩/축소는 CPU 작업이므로 업로드 풀과 분리한다
+     *
+     * @return imageDerivativeExecutor 스레드풀
+     */
+    @Bean(name = "imageDerivativeExecutor")
+    public ThreadPoolTaskExecutor imageDerivativeExecutor(IngestProperties ingestProperties) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+        executor.setCorePoolSize(ingestProperties.getDerivativePoolSize());
+        executor.setMaxPoolSize(ingestProperties.getDerivativePoolSize());
+        executor.setQueueCapacity(200);
+        executor.setThreadNamePrefix("ImageDerivative-");
+
+        // 큐가 가득 차면 호출 스레드가 직접 처리 (파생본은 버리지 않는다)
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * S3 파트 전송용 TaskExecutor Bean 등록
+     * 이미지 해제/읽기는 storyImageTaskExecutor, 실제 네트워크 전송은 이 풀에서 수행
+     *
+     * @return s3TransferExecutor 스레드풀
+     */
+    @Bean(name = "s3TransferExecutor")
+    public ThreadPoolTaskExecutor s3TransferExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+        executor.setCorePoolSize(8);               // 기본 스레드 8개
+        executor.setMaxPoolSize(16);               // 최대 스레드 16개
+        executor.setQueueCapacity(200);            // 큐 크기 200
+        executor.setThreadNamePrefix("S3Transfer-");
+
+        // 큐가 가득 차면 호출 스레드가 직접 전송 (파트 업로드는 버리지 않는다)
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 대량 URL 서명용 TaskExecutor Bean 등록
+     * 서명은 네트워크 없이 HMAC 계산만 하므로 CPU 코어 수만큼만 둔다
+     *
+     * @return presignExecutor 스레드풀
+     */
+    @Bean(name = "presignExecutor")
+    public ThreadPoolTaskExecutor presignExecutor() {
+        int cores = Runtime.getRuntime().availableProcessors();
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+        executor.setCorePoolSize(cores);
+        executor.setMaxPoolSize(cores);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("Presign-");
+
+        // 큐가 가득 차면 요청 스레드가 직접 서명
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+
+        executor.initialize();
+        return executor;
+    }
 }
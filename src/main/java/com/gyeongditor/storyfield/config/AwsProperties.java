@@ -4,6 +4,7 @@ import org.springframework.boot.context.properties.ConfigurationProperties;
 import lombok.Getter;
 import lombok.Setter;
 import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
 
 @Getter
 @Setter
@@ -13,6 +14,9 @@ public class AwsProperties {
     private Credentials credentials;
     private String region;
     private String bucket;
+    // S3 호환 스토리지(MinIO 등) 엔드포인트, 비워두면 AWS S3 사용
+    private String endpoint;
+    private Transfer transfer = new Transfer();
 
     @Getter
     @Setter
@@ -21,6 +25,15 @@ public class AwsProperties {
         private String secretKey;
     }
 
+    @Getter
+    @Setter
+    public static class Transfer {
+        // 이 크기 이상이면 멀티파트로 나눠 병렬 업로드
+        private DataSize multipartThreshold = DataSize.ofMegabytes(16);
+        // 길이를 아는 업로드의 파트 크기
+        private DataSize partSize = DataSize.ofMegabytes(8);
+    }
+
     public String getAccessKey() {
         return credentials.getAccessKey();
     }
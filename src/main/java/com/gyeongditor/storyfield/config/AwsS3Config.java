@@ -2,14 +2,18 @@ package com.gyeongditor.storyfield.config;
 
 import com.amazonaws.auth.AWSStaticCredentialsProvider;
 import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.client.builder.AwsClientBuilder;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Profile;
+import org.springframework.util.StringUtils;
 
 @Configuration
+@Profile("!local-storage") // local-storage 프로필에서는 AWS 클라이언트를 만들지 않는다
 @EnableConfigurationProperties(AwsProperties.class)
 public class AwsS3Config {
 
@@ -23,11 +27,18 @@ public class AwsS3Config {
     private String region;
 
     @Bean
-    public AmazonS3 amazonS3() {
+    public AmazonS3 amazonS3(AwsProperties awsProperties) {
         BasicAWSCredentials awsCredentials = new BasicAWSCredentials(accessKey, secretKey);
-        return AmazonS3ClientBuilder.standard()
-                .withRegion(region)
-                .withCredentials(new AWSStaticCredentialsProvider(awsCredentials))
-                .build();
+        AmazonS3ClientBuilder builder = AmazonS3ClientBuilder.standard()
+                .withCredentials(new AWSStaticCredentialsProvider(awsCredentials));
+
+        // 로컬 테스트용 S3 호환 스토리지(MinIO 등)는 엔드포인트 + path-style 접근
+        if (StringUtils.hasText(awsProperties.getEndpoint())) {
+            return builder
+                    .withEndpointConfiguration(new AwsClientBuilder.EndpointConfiguration(awsProperties.getEndpoint(), region))
+                    .withPathStyleAccessEnabled(true)
+                    .build();
+        }
+        return builder.withRegion(region).build();
     }
 }
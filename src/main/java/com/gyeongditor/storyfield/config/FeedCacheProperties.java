@@ -0,0 +1,22 @@
+package com.gyeongditor.storyfield.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "story.feed-cache")
+public class FeedCacheProperties {
+    private boolean enabled = true;
+    // 최신순 앞쪽 몇 개 스토리를 캐시할지 (메인 페이지 10개 기준 앞 6페이지)
+    private int windowSize = 60;
+    // 인스턴스 메모리 사본 유지 시간, 다른 인스턴스의 저장/삭제는 최대 이 시간만큼 늦게 보인다
+    private Duration localTtl = Duration.ofSeconds(2);
+    // Redis 사본 안전 만료 시간 (갱신이 누락돼도 이 시간 뒤에는 DB 에서 다시 만든다)
+    private Duration redisTtl = Duration.ofMinutes(30);
+}
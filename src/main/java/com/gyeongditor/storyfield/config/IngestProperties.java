@@ -0,0 +1,65 @@
+package com.gyeongditor.storyfield.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "story.ingest")
+public class IngestProperties {
+    // 동시에 처리할 수 있는 이미지 수 (썸네일 + 페이지), 스토리 단위로 한 번에 확보한다
+    private int maxInFlightImages = 64;
+    // 용량이 빌 때까지 기다릴 수 있는 스토리 수, 넘으면 즉시 429
+    private int maxWaitingStories = 8;
+    // 용량 대기 최대 시간, 넘으면 503
+    private Duration admissionTimeout = Duration.ofSeconds(3);
+    // 거절 응답의 Retry-After
+    private Duration retryAfter = Duration.ofSeconds(5);
+    // storyImageTaskExecutor 스레드 수
+    private int poolSize = 8;
+    // 이미지를 SHA-256 기반 키(cas/..)로 저장하고 같은 내용은 다시 올리지 않는다
+    private boolean contentAddressed = false;
+    // 비동기 생성 요청의 이미지를 보관하는 디렉터리 (작업 완료 시 삭제)
+    private String spoolDir = System.getProperty("java.io.tmpdir") + "/storyfield-ingest";
+    // 비동기 생성 작업을 처리하는 워커 수
+    private int jobWorkers = 2;
+    // 비동기 작업 소유 인스턴스 ID, 비어 있으면 스풀 디렉터리의 .node-id 파일을 쓴다 (없으면 만든다)
+    private String nodeId;
+    // 소유 인스턴스가 살아 있다고 보는 시간 / 연장 주기, 리스가 끝난 작업만 다른 인스턴스가 가져간다
+    private Duration jobLease = Duration.ofMinutes(2);
+    private Duration jobHeartbeat = Duration.ofSeconds(30);
+    // 피드 썸네일 / 페이지 미리보기 파생본 폭 (px)
+    private int feedWidth = 320;
+    private int previewWidth = 720;
+    // 파생본 디코딩/축소/인코딩 스레드 수
+    private int derivativePoolSize = 4;
+    // 파생본용 디코딩 최대 픽셀 수, 넘으면 서브샘플링으로 줄여 읽는다 (ARGB 기준 4M 픽셀 ≈ 16MB)
+    private long derivativeMaxDecodePixels = 4_000_000L;
+    // 업로드된 .png.gz 최대 크기
+    private DataSize maxCompressedSize = DataSize.ofMegabytes(10);
+    // 해제된 PNG 최대 크기, 해제 크기 / 압축 크기 최대 비율 (먼저 닿는 쪽에서 중단)
+    private DataSize maxInflatedSize = DataSize.ofMegabytes(40);
+    private int maxCompressionRatio = 50;
+    // PNG IHDR 기준 최대 가로/세로 및 픽셀 수
+    private int maxImageDimension = 8192;
+    private long maxImagePixels = 40_000_000L;
+    // gzip 해제 시 한 번에 읽어 들이는 청크 크기 (워커마다 풀링)
+    private DataSize inflateBufferSize = DataSize.ofKilobytes(64);
+    // Inflater 입력을 direct(off-heap) 버퍼로 넘긴다
+    private boolean directBuffers = false;
+    // Idempotency-Key 완료 응답 보관 기간
+    private Duration idempotencyTtl = Duration.ofHours(24);
+    // 처리 중 표식 유지 시간 (인스턴스가 죽어도 이 시간이 지나면 재시도 가능)
+    private Duration idempotencyLease = Duration.ofMinutes(5);
+    // 처리 중인 중복 요청이 결과를 기다리는 최대 시간 / 확인 간격, 넘으면 409 + Retry-After
+    private Duration idempotencyWaitTimeout = Duration.ofSeconds(30);
+    private Duration idempotencyPollInterval = Duration.ofMillis(200);
+    // 공유 이미지를 쓰기 시작한 요청이 스토리를 커밋할 때까지 그 이미지의 삭제를 막는 시간
+    private Duration blobLease = Duration.ofMinutes(30);
+}
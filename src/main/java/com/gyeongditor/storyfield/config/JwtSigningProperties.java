@@ -0,0 +1,37 @@
+package com.gyeongditor.storyfield.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "jwt.signing")
+public class JwtSigningProperties {
+    // 새 토큰 서명에 쓸 키의 kid, 비어 있으면 기존 jwt.secret(HS256)으로 서명한다
+    private String activeKeyId;
+    // HS256 토큰도 계속 받는다 (전환 중 이미 발급된 토큰용, 모두 만료되면 false)
+    private boolean acceptHs256 = true;
+    // JWKS 응답 Cache-Control max-age
+    private Duration jwksMaxAge = Duration.ofMinutes(10);
+    // 서명/검증 키 목록, 교체 후에도 이전 키는 공개키만 남겨 두면 기존 토큰을 계속 검증한다
+    private List<Key> keys = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Key {
+        private String kid;
+        // ES256 | RS256
+        private String algorithm = "ES256";
+        // X.509(SubjectPublicKeyInfo) PEM
+        private String publicKey;
+        // PKCS#8 PEM, 서명에 쓰는 키에만 필요
+        private String privateKey;
+    }
+}
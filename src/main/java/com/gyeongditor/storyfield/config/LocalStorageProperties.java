@@ -0,0 +1,23 @@
+package com.gyeongditor.storyfield.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "storage.local")
+public class LocalStorageProperties {
+    // 객체를 저장할 루트 디렉터리 (키의 / 는 하위 디렉터리가 된다)
+    private String root = System.getProperty("java.io.tmpdir") + "/storyfield-storage";
+    // 서명 URL 앞부분 (이 앱의 외부 주소)
+    private String baseUrl = "http://localhost:8080";
+    // 서명 URL HMAC 키, 비워두면 기동 시 임의 생성 (재시작하면 이전 URL 은 무효)
+    private String signingKey;
+    // url() 로 내려주는 서명 URL 유효 기간
+    private Duration urlTtl = Duration.ofHours(1);
+}
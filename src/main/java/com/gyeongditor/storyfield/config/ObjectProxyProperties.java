@@ -0,0 +1,31 @@
+package com.gyeongditor.storyfield.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+import java.util.List;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "storage.proxy")
+public class ObjectProxyProperties {
+    // true 면 /media/** 로 객체를 앱을 거쳐 내려주고 이미지/오디오 URL 조회도 프록시 URL 을 준다
+    private boolean enabled = false;
+    // 프록시 URL 앞부분 (이 앱의 외부 주소)
+    private String baseUrl = "http://localhost:8080";
+    // 자주 쓰는 객체를 보관하는 로컬 디스크 캐시 (기동 시 비운다)
+    private String cacheDir = System.getProperty("java.io.tmpdir") + "/storyfield-proxy-cache";
+    // 디스크 캐시 최대 크기, 넘으면 가장 오래 안 쓴 객체부터 지운다
+    private DataSize maxCacheSize = DataSize.ofGigabytes(1);
+    // 이보다 큰 객체는 캐시하지 않고 스토리지에서 구간만 바로 읽는다 (긴 오디오 등)
+    private DataSize maxCachedObjectSize = DataSize.ofMegabytes(16);
+    // 같은 키에 내용이 바뀌지 않는 프리픽스 (Cache-Control: immutable)
+    private List<String> immutablePrefixes = List.of("cas/", "stories/");
+    // 그 외 객체의 브라우저 캐시 시간
+    private Duration maxAge = Duration.ofHours(1);
+}
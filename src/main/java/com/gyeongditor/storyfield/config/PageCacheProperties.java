@@ -0,0 +1,24 @@
+package com.gyeongditor.storyfield.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "story.page-cache")
+public class PageCacheProperties {
+    private boolean enabled = true;
+    // 인스턴스 메모리에 둘 스토리 수 (넘으면 가장 오래 안 쓴 것부터 뺀다)
+    private int localMaxEntries = 2000;
+    // Redis 사본 보관 기간 (저장된 스토리 페이지는 바뀌지 않으므로 길게 둔다)
+    private Duration redisTtl = Duration.ofDays(1);
+    // 삭제 표식 유지 시간, 삭제 직전에 DB 를 읽은 요청이 사본을 되살리지 못하게 막는다
+    private Duration tombstoneTtl = Duration.ofMinutes(1);
+    // 무효화 메시지 채널
+    private String channel = "story:page-cache:evict";
+}
@@ -0,0 +1,25 @@
+package com.gyeongditor.storyfield.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "storage.presign")
+public class PresignProperties {
+    // 발급 시점부터 보장하는 최소 유효 기간
+    private Duration ttl = Duration.ofMinutes(10);
+    // 만료 시각을 이 단위로 맞춘다, 같은 구간 안의 요청은 같은 URL 을 받는다 (브라우저/CDN 캐시 적중)
+    private Duration bucket = Duration.ofMinutes(5);
+    // 서명 URL 캐시 최대 키 수 (넘으면 가장 오래 안 쓴 키부터 제거)
+    private int cacheSize = 10_000;
+    // 일괄 발급 API 한 번에 받을 수 있는 최대 키 수
+    private int maxBatchSize = 200;
+    // 서명할 키가 이 수 이상이면 presignExecutor 에서 나눠 병렬로 서명한다
+    private int parallelThreshold = 64;
+}
@@ -0,0 +1,22 @@
+package com.gyeongditor.storyfield.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "auth.principal-cache")
+public class PrincipalCacheProperties {
+    private boolean enabled = true;
+    // 인스턴스 메모리에 둘 사용자 수 (넘으면 가장 오래 안 쓴 것부터 뺀다)
+    private int maxEntries = 10000;
+    // 명시적 무효화가 누락돼도 이 시간이 지나면 DB 에서 다시 읽는다
+    private Duration ttl = Duration.ofMinutes(5);
+    // 무효화 메시지 채널
+    private String channel = "auth:principal:evict";
+}
@@ -0,0 +1,26 @@
+package com.gyeongditor.storyfield.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "story.reaper")
+public class ReaperProperties {
+    private boolean enabled = false;
+    // true 면 삭제 대상만 로그로 남기고 지우지 않는다
+    private boolean dryRun = true;
+    private String cron = "0 30 4 * * *";
+    // 스토리 이미지만 모여 있는 프리픽스 (오디오, /images 업로드 객체는 대상이 아님)
+    private List<String> prefixes = List.of("cas/", "stories/");
+    // 업로드 직후 아직 DB 에 저장되지 않은 객체를 지우지 않도록 이 시간보다 오래된 객체만 본다
+    private Duration gracePeriod = Duration.ofHours(24);
+    // 참조 키 Bloom filter 오탐률 (오탐인 키는 지우지 않고 남길 뿐이다)
+    private double falsePositiveRate = 0.01;
+}
@@ -0,0 +1,27 @@
+package com.gyeongditor.storyfield.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "auth.revocation")
+public class RevocationProperties {
+    // false 면 요청마다 Redis 블랙리스트를 직접 조회한다
+    private boolean replicaEnabled = true;
+    // 사본이 Redis 와 맞춰지지 않은 상태(시작 직후 Redis 장애, 재동기화 실패)에서
+    // true: 가진 사본으로 계속 판단 (로그아웃 직후 토큰이 잠시 통과할 수 있음), false: 모든 토큰을 거절
+    private boolean failOpen = true;
+    // 놓친 메시지를 메우기 위해 전체를 다시 읽는 주기 (@Scheduled 에서 읽으므로 ISO-8601 형식도 허용)
+    private Duration resyncInterval = Duration.ofMinutes(5);
+    // 블랙리스트 등록 알림 채널
+    private String channel = "auth:revocation";
+    // Bloom filter 크기 기준 (예상 등록 수 / 오탐률, 오탐이면 정확한 집합을 한 번 더 본다)
+    private long expectedRevocations = 100_000;
+    private double falsePositiveRate = 0.001;
+}
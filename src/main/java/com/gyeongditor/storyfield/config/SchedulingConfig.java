@@ -0,0 +1,13 @@
+package com.gyeongditor.storyfield.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * 주기 작업 설정 클래스
+ * 고아 S3 객체 정리 등 백그라운드 배치 실행용
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -4,7 +4,6 @@ import com.gyeongditor.storyfield.jwt.JwtAuthenticationFilter;
 import com.gyeongditor.storyfield.jwt.JwtTokenProvider;
 import com.gyeongditor.storyfield.oauth.handler.OAuth2LoginFailureHandler;
 import com.gyeongditor.storyfield.oauth.handler.OAuth2LoginSuccessHandler;
-import com.gyeongditor.storyfield.repository.JwtTokenRedisRepository;
 import com.gyeongditor.storyfield.service.CustomOAuth2UserService;
 import com.gyeongditor.storyfield.service.CustomUserDetailsService;
 import lombok.RequiredArgsConstructor;
@@ -33,7 +32,6 @@ public class SecurityConfig {
     private final CustomOAuth2UserService customOAuth2UserService;
     private final OAuth2LoginSuccessHandler oauth2LoginSuccessHandler;
     private final OAuth2LoginFailureHandler oauth2LoginFailureHandler;
-    private final JwtTokenRedisRepository jwtTokenRedisRepository;
 
     @Bean // 비밀번호 암호화를 위한 PasswordEncoder 빈 생성
     public PasswordEncoder passwordEncoder() {
@@ -52,19 +50,21 @@ public class SecurityConfig {
                 .sessionManagement(session -> session.sessionCreationPolicy(SessionCreationPolicy.STATELESS))
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/oauth2/**","/api/user/verify/**","/api/login", "/api/auth/login","/api/auth/reissue", "/api/auth/logout/", "/api/user/signup", "/","/api/health",
+                                "/.well-known/jwks.json", // 토큰 검증용 공개키
                                 "/swagger-ui.html",
                                 "/swagger-ui/**",
                                 "/swagger-ui/index.html",
                                 "/v3/api-docs",
                                 "/v3/api-docs/**",
                                 "/stories/save",
+                                "/storage/**", // local-storage 프로필의 서명 URL (서명으로 검증)
                                 "/api/swagger-ui/**",
                                 "/api/v3/api-docs/**").permitAll()
                         .anyRequest().authenticated()
                 )
                 .formLogin(AbstractHttpConfigurer::disable)
                 // JWT 인증 필터 추가
-                .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider, customUserDetailsService, jwtTokenRedisRepository), UsernamePasswordAuthenticationFilter.class)
+                .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider, customUserDetailsService), UsernamePasswordAuthenticationFilter.class)
                 .oauth2Login(oauth2 -> oauth2
                         .loginPage("/login")
                         .failureHandler(oauth2LoginFailureHandler)
@@ -0,0 +1,35 @@
+package com.gyeongditor.storyfield.config;
+
+import com.gyeongditor.storyfield.service.StoryIngestScheduler;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.lang.Nullable;
+import org.springframework.stereotype.Component;
+
+/**
+ * 스토리 인제스트 운영용 Actuator 엔드포인트
+ * 웹에는 노출하지 않고 JMX(org.springframework.boot:type=Endpoint,name=Storyingest)로만 연다
+ * snapshot : 현재 용량/풀 상태 조회
+ * resize   : 풀 크기 및 이미지 용량을 재시작 없이 변경 (빈 값은 유지)
+ */
+@Component
+@Endpoint(id = "storyingest")
+@RequiredArgsConstructor
+public class StoryIngestEndpoint {
+
+    private final StoryIngestScheduler storyIngestScheduler;
+
+    @ReadOperation
+    public StoryIngestScheduler.Snapshot snapshot() {
+        return storyIngestScheduler.snapshot();
+    }
+
+    @WriteOperation
+    public StoryIngestScheduler.Snapshot resize(@Nullable Integer ingestPoolSize,
+                                                @Nullable Integer transferPoolSize,
+                                                @Nullable Integer maxInFlightImages) {
+        return storyIngestScheduler.resize(ingestPoolSize, transferPoolSize, maxInFlightImages);
+    }
+}
@@ -0,0 +1,19 @@
+package com.gyeongditor.storyfield.dto.File;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "여러 객체 키 presignedUrl 일괄 발급 요청 DTO")
+public class PresignBatchRequestDTO {
+
+    @Schema(description = "서명할 객체 키 목록 (최대 storage.presign.max-batch-size 개)",
+            example = "[\"stories/a.feed.png\", \"stories/b.feed.png\"]")
+    private List<String> keys;
+}
@@ -0,0 +1,19 @@
+package com.gyeongditor.storyfield.dto.File;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "객체 키별 presignedUrl DTO")
+public class PresignedUrlDTO {
+
+    @Schema(description = "요청한 객체 키", example = "stories/a.feed.png")
+    private String key;
+
+    @Schema(description = "서명된 GET URL", example = "S3.xxx.feed.png?X-Amz-Signature=...")
+    private String url;
+}
@@ -0,0 +1,22 @@
+package com.gyeongditor.storyfield.dto.Story;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "크기별 이미지 presignedUrl DTO")
+public class ImageUrlsDTO {
+
+    @Schema(description = "피드 썸네일 (폭 320px)", example = "S3.xxx.feed.png")
+    private String feed;
+
+    @Schema(description = "페이지 미리보기 (폭 720px)", example = "S3.xxx.preview.png")
+    private String preview;
+
+    @Schema(description = "원본 크기", example = "S3.xxx.png")
+    private String full;
+}
@@ -0,0 +1,39 @@
+package com.gyeongditor.storyfield.dto.Story;
+
+import com.gyeongditor.storyfield.exception.CustomException;
+import com.gyeongditor.storyfield.response.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * 피드 keyset 커서 (마지막으로 내려준 스토리의 createdAt, storyId)
+ * 클라이언트에는 base64url 문자열로만 보이고 그대로 돌려받는다.
+ */
+public record StoryFeedCursor(LocalDateTime createdAt, UUID storyId) {
+
+    private static final String SEPARATOR = "|";
+
+    public static StoryFeedCursor of(StoryFeedView last) {
+        return new StoryFeedCursor(last.createdAt(), last.storyId());
+    }
+
+    public String encode() {
+        String raw = createdAt + SEPARATOR + storyId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static StoryFeedCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = raw.indexOf(SEPARATOR);
+            return new StoryFeedCursor(
+                    LocalDateTime.parse(raw.substring(0, separator)),
+                    UUID.fromString(raw.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            throw new CustomException(ErrorCode.STORY_400_006, "잘못된 피드 커서입니다.");
+        }
+    }
+}
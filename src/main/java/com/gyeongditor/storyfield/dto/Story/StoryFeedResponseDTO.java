@@ -0,0 +1,24 @@
+package com.gyeongditor.storyfield.dto.Story;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "스토리 피드 (커서 기반) 응답 DTO")
+public class StoryFeedResponseDTO {
+
+    @Schema(description = "최신순 스토리 썸네일 목록")
+    private List<StoryThumbnailResponseDTO> stories;
+
+    @Schema(description = "다음 목록 요청 시 cursor 로 보낼 값 (마지막이면 null)", example = "MjAyNS0wMS0wMVQxMjowMDow...")
+    private String nextCursor;
+
+    @Schema(description = "다음 목록 존재 여부", example = "true")
+    private boolean hasNext;
+}
@@ -0,0 +1,7 @@
+package com.gyeongditor.storyfield.dto.Story;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+// 피드 조회용 컬럼 프로젝션 (createdAt 은 다음 커서를 만들 때 쓴다)
+public record StoryFeedView(UUID storyId, String storyTitle, String thumbnailFileName, LocalDateTime createdAt) { }
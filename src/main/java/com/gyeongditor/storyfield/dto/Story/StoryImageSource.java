@@ -0,0 +1,16 @@
+package com.gyeongditor.storyfield.dto.Story;
+
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.web.multipart.MultipartFile;
+
+// 업로드할 .png.gz 이미지 (요청 멀티파트 또는 디스크에 스풀된 파일)
+public record StoryImageSource(String originalFilename, long size, InputStreamSource content) {
+
+    public static StoryImageSource of(MultipartFile file) {
+        return new StoryImageSource(file.getOriginalFilename(), file.getSize(), file);
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+}
@@ -0,0 +1,51 @@
+package com.gyeongditor.storyfield.dto.Story;
+
+import com.gyeongditor.storyfield.Entity.StoryIngestJob;
+import com.gyeongditor.storyfield.Entity.StoryIngestStatus;
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "비동기 스토리 생성 작업 응답 DTO")
+public class StoryIngestJobResponseDTO {
+
+    @Schema(description = "작업 ID", example = "0f8fad5b-d9cb-469f-a165-70867728950e")
+    private UUID jobId;
+
+    @Schema(description = "작업 상태", example = "UPLOADING")
+    private StoryIngestStatus status;
+
+    @Schema(description = "생성된 스토리 ID (DONE 일 때)", example = "123e4567-e89b-12d3-a456-426614174000")
+    private UUID storyId;
+
+    @Schema(description = "실패 코드 (FAILED 일 때)", example = "STORY_400_002")
+    private String errorCode;
+
+    @Schema(description = "실패 사유 (FAILED 일 때)", example = "압축 파일 해제에 실패했습니다.")
+    private String errorMessage;
+
+    @Schema(description = "접수 시각")
+    private LocalDateTime createdAt;
+
+    @Schema(description = "마지막 상태 변경 시각")
+    private LocalDateTime updatedAt;
+
+    public static StoryIngestJobResponseDTO from(StoryIngestJob job) {
+        return StoryIngestJobResponseDTO.builder()
+                .jobId(job.getJobId())
+                .status(job.getStatus())
+                .storyId(job.getStoryId())
+                .errorCode(job.getErrorCode())
+                .errorMessage(job.getErrorMessage())
+                .createdAt(job.getCreatedAt())
+                .updatedAt(job.getUpdatedAt())
+                .build();
+    }
+}
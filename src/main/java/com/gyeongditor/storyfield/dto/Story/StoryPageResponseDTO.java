@@ -23,4 +23,7 @@ public class StoryPageResponseDTO {
     @Schema(description = "이미지 presignedUrl", example = "S3.xxx.xxx")
     private String presignedUrl;    // 서비스 로직에서 추가해서 내려줌
 
+    @Schema(description = "크기별 이미지 presignedUrl (presignedUrl 은 full 과 같음)")
+    private ImageUrlsDTO imageUrls;
+
 }
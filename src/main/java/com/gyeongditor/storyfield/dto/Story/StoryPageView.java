@@ -0,0 +1,8 @@
+package com.gyeongditor.storyfield.dto.Story;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+
+// 페이지 조회용 컬럼 프로젝션 (엔티티를 만들지 않음), 페이지가 없는 스토리는 모든 값이 null 인 한 줄
+// 페이지 캐시에는 필드 이름 없이 [pageNumber, content, imageFileName] 배열로 저장된다
+@JsonFormat(shape = JsonFormat.Shape.ARRAY)
+public record StoryPageView(Integer pageNumber, String content, String imageFileName) { }
@@ -21,4 +21,7 @@ public class StoryThumbnailResponseDTO {
 
     @Schema(description = "썸네일 이미지 URL (3번 페이지 기준)", example = "https://example.com/image3.png")
     private String thumbnailUrl;
+
+    @Schema(description = "크기별 썸네일 URL (thumbnailUrl 은 full 과 같음)")
+    private ImageUrlsDTO thumbnailUrls;
 }
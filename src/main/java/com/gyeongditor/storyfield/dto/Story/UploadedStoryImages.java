@@ -0,0 +1,6 @@
+package com.gyeongditor.storyfield.dto.Story;
+
+import java.util.List;
+
+// 업로드가 끝난 스토리 이미지의 S3 키 (페이지 순서 유지)
+public record UploadedStoryImages(String thumbnailKey, List<String> pageImageKeys) { }
@@ -0,0 +1,22 @@
+package com.gyeongditor.storyfield.exception;
+
+import com.gyeongditor.storyfield.response.ErrorCode;
+import lombok.Getter;
+
+import java.time.Duration;
+
+// 잠시 후 다시 시도하면 되는 거절 (응답에 Retry-After 헤더를 붙인다)
+@Getter
+public class RetryableException extends CustomException {
+    private final Duration retryAfter;
+
+    public RetryableException(ErrorCode errorCode, Duration retryAfter) {
+        super(errorCode);
+        this.retryAfter = retryAfter;
+    }
+
+    public RetryableException(ErrorCode errorCode, String customMessage, Duration retryAfter) {
+        super(errorCode, customMessage);
+        this.retryAfter = retryAfter;
+    }
+}
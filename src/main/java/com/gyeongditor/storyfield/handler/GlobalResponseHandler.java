@@ -2,6 +2,7 @@ package com.gyeongditor.storyfield.handler;
 
 import com.gyeongditor.storyfield.dto.ApiResponseDTO;
 import com.gyeongditor.storyfield.exception.CustomException;
+import com.gyeongditor.storyfield.exception.RetryableException;
 import com.gyeongditor.storyfield.handler.mapper.SuccessCodeMapper;
 import com.gyeongditor.storyfield.handler.mapper.*;
 import com.gyeongditor.storyfield.response.SuccessCode;
@@ -9,6 +10,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.context.properties.bind.BindException;
 import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
@@ -107,6 +109,16 @@ public class GlobalResponseHandler implements ResponseBodyAdvice<Object> {
         return ResponseEntity.status(code.getStatus()).body(ApiResponseDTO.error(code, ex.getCustomMessage()));
     }
 
+    // 과부하로 인한 거절: 클라이언트가 재시도 시점을 알 수 있도록 Retry-After 헤더 추가
+    @ExceptionHandler(RetryableException.class)
+    public ResponseEntity<ApiResponseDTO<Object>> onRetryable(RetryableException ex) {
+        var code = ex.getErrorCode();
+        log.warn("[Retryable] {} - {} (retryAfter={}s)", code.getCode(), ex.getCustomMessage(), ex.getRetryAfter().toSeconds());
+        return ResponseEntity.status(code.getStatus())
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(Math.max(1, ex.getRetryAfter().toSeconds())))
+                .body(ApiResponseDTO.error(code, ex.getCustomMessage()));
+    }
+
     @ExceptionHandler({ AuthenticationException.class, AccessDeniedException.class })
     public ResponseEntity<ApiResponseDTO<Object>> onAuth(Exception ex) {
         var mapped = authErrorMapper.map(ex);
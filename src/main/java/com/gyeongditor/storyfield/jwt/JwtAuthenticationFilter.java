@@ -4,10 +4,8 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import com.gyeongditor.storyfield.Entity.CustomUserDetails;
 import com.gyeongditor.storyfield.dto.ApiResponseDTO;
 import com.gyeongditor.storyfield.exception.CustomException;
-import com.gyeongditor.storyfield.repository.JwtTokenRedisRepository;
 import com.gyeongditor.storyfield.response.ErrorCode;
 import com.gyeongditor.storyfield.service.CustomUserDetailsService;
-import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -26,7 +24,6 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final JwtTokenProvider jwtTokenProvider;
     private final CustomUserDetailsService userDetailsService;
     private final ObjectMapper objectMapper = new ObjectMapper();
-    private final JwtTokenRedisRepository jwtTokenRedisRepository;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request,
@@ -38,18 +35,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
         try {
             if (accessToken != null) {
-                // 1. 서명/만료 검증
-                jwtTokenProvider.validateOrThrow(accessToken);
-
-                // 2. 블랙리스트 확인
-                Claims claims = jwtTokenProvider.parseClaims(accessToken);
-                String jti = claims.getId();
-                if (jwtTokenRedisRepository.isTokenBlacklisted(jti)) {
-                    throw new CustomException(ErrorCode.AUTH_401_008, "이미 로그아웃된 액세스 토큰입니다.");
-                }
-
-                // 3. 정상 인증 처리
-                authenticateWithToken(accessToken, request);
+                // 1. 서명/만료/블랙리스트 검증 (한 번만, 결과는 요청에 남아 서비스에서 재사용)
+                VerifiedPrincipal principal = jwtTokenProvider.verify(accessToken);
+
+                // 2. 정상 인증 처리
+                authenticate(principal.email(), request);
             }
 
             chain.doFilter(request, response);
@@ -62,9 +52,9 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     }
 
 
-    private void authenticateWithToken(String token, HttpServletRequest request) {
-        String email = jwtTokenProvider.getEmail(token);
-        CustomUserDetails userDetails = (CustomUserDetails) userDetailsService.loadUserByUsername(email);
+    private void authenticate(String email, HttpServletRequest request) {
+        // 사용자 정보는 캐시에서 (바뀌면 명시적으로 무효화된다)
+        CustomUserDetails userDetails = userDetailsService.loadPrincipalByEmail(email);
 
         UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
                 userDetails, null, userDetails.getAuthorities()
@@ -85,7 +75,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
             String newAccessToken = jwtTokenProvider.createTokenFromRefreshToken(refreshToken);
             response.setHeader("Authorization", "Bearer " + newAccessToken);
-            authenticateWithToken(newAccessToken, request);
+            authenticate(jwtTokenProvider.getEmail(newAccessToken), request);
             return true;
 
         } catch (CustomException ex) {
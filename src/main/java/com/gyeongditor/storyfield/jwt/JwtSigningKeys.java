@@ -0,0 +1,169 @@
+package com.gyeongditor.storyfield.jwt;
+
+import com.gyeongditor.storyfield.config.JwtSigningProperties;
+import io.jsonwebtoken.SignatureAlgorithm;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+import java.math.BigInteger;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 비대칭(ES256/RS256) JWT 서명 키 모음
+ * 설정된 키를 시작 시 한 번 파싱해 kid 로 찾을 수 있게 두고,
+ * 공개키는 JWKS 형식으로 내보내 다른 서비스(FastAPI 등)가 토큰을 직접 검증할 수 있게 한다.
+ */
+@Slf4j
+@Component
+public class JwtSigningKeys {
+
+    public record SigningKey(String kid, SignatureAlgorithm algorithm, PrivateKey privateKey, PublicKey publicKey) {
+    }
+
+    private final Map<String, SigningKey> keys;
+    private final SigningKey active;
+    private final boolean acceptHs256;
+    private final Map<String, Object> jwks;
+
+    public JwtSigningKeys(JwtSigningProperties properties) {
+        Map<String, SigningKey> parsed = new LinkedHashMap<>();
+        for (JwtSigningProperties.Key key : properties.getKeys()) {
+            if (!StringUtils.hasText(key.getKid())) {
+                throw new IllegalStateException("jwt.signing.keys 에 kid 가 없는 항목이 있습니다.");
+            }
+            if (parsed.put(key.getKid(), parse(key)) != null) {
+                throw new IllegalStateException("jwt.signing.keys 에 중복된 kid 가 있습니다: " + key.getKid());
+            }
+        }
+        this.keys = Collections.unmodifiableMap(parsed);
+
+        String activeKeyId = properties.getActiveKeyId();
+        if (StringUtils.hasText(activeKeyId)) {
+            SigningKey key = keys.get(activeKeyId);
+            if (key == null || key.privateKey() == null) {
+                throw new IllegalStateException("서명 키(개인키)가 설정되지 않은 kid 입니다: " + activeKeyId);
+            }
+            this.active = key;
+        } else {
+            this.active = null;
+        }
+        // 비대칭 서명을 쓰지 않는 동안에는 HS256 을 끌 수 없다
+        this.acceptHs256 = properties.isAcceptHs256() || active == null;
+        this.jwks = buildJwks();
+
+        log.info("JWT서명키 active={} keys={} acceptHs256={}",
+                active != null ? active.kid() : "HS256", keys.keySet(), acceptHs256);
+    }
+
+    // 새 토큰 서명 키, null 이면 HS256(jwt.secret)으로 서명한다
+    public SigningKey active() {
+        return active;
+    }
+
+    // 토큰 헤더의 kid 에 해당하는 키, 없으면 null
+    public SigningKey verificationKey(String kid) {
+        return kid != null ? keys.get(kid) : null;
+    }
+
+    public boolean acceptsHs256() {
+        return acceptHs256;
+    }
+
+    // {"keys":[...]} (RFC 7517), 공개키만 포함한다
+    public Map<String, Object> jwks() {
+        return jwks;
+    }
+
+    private Map<String, Object> buildJwks() {
+        List<Map<String, Object>> entries = new ArrayList<>();
+        for (SigningKey key : keys.values()) {
+            Map<String, Object> jwk = new LinkedHashMap<>();
+            jwk.put("kid", key.kid());
+            jwk.put("use", "sig");
+            jwk.put("alg", key.algorithm().getValue());
+            if (key.publicKey() instanceof RSAPublicKey rsa) {
+                jwk.put("kty", "RSA");
+                jwk.put("n", base64Url(rsa.getModulus(), 0));
+                jwk.put("e", base64Url(rsa.getPublicExponent(), 0));
+            } else if (key.publicKey() instanceof ECPublicKey ec) {
+                int size = (ec.getParams().getCurve().getField().getFieldSize() + 7) / 8;
+                jwk.put("kty", "EC");
+                jwk.put("crv", "P-256");
+                jwk.put("x", base64Url(ec.getW().getAffineX(), size));
+                jwk.put("y", base64Url(ec.getW().getAffineY(), size));
+            }
+            entries.add(Collections.unmodifiableMap(jwk));
+        }
+        return Map.of("keys", Collections.unmodifiableList(entries));
+    }
+
+    private static SigningKey parse(JwtSigningProperties.Key key) {
+        SignatureAlgorithm algorithm;
+        String keyType;
+        switch (key.getAlgorithm()) {
+            case "ES256" -> {
+                algorithm = SignatureAlgorithm.ES256;
+                keyType = "EC";
+            }
+            case "RS256" -> {
+                algorithm = SignatureAlgorithm.RS256;
+                keyType = "RSA";
+            }
+            default -> throw new IllegalStateException(
+                    "지원하지 않는 JWT 서명 알고리즘입니다: " + key.getAlgorithm() + " (kid=" + key.getKid() + ")");
+        }
+        if (!StringUtils.hasText(key.getPublicKey())) {
+            throw new IllegalStateException("공개키가 없는 JWT 서명 키입니다: " + key.getKid());
+        }
+
+        try {
+            KeyFactory factory = KeyFactory.getInstance(keyType);
+            PublicKey publicKey = factory.generatePublic(new X509EncodedKeySpec(pem(key.getPublicKey())));
+            PrivateKey privateKey = StringUtils.hasText(key.getPrivateKey())
+                    ? factory.generatePrivate(new PKCS8EncodedKeySpec(pem(key.getPrivateKey())))
+                    : null;
+            if (publicKey instanceof ECPublicKey ec && ec.getParams().getCurve().getField().getFieldSize() != 256) {
+                throw new IllegalStateException("ES256 키는 P-256 곡선이어야 합니다: " + key.getKid());
+            }
+            return new SigningKey(key.getKid(), algorithm, privateKey, publicKey);
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new IllegalStateException("JWT 서명 키를 읽을 수 없습니다: " + key.getKid(), e);
+        }
+    }
+
+    // PEM 머리/꼬리와 공백을 걷어내고 DER 로 디코딩한다
+    private static byte[] pem(String value) {
+        String body = value.replaceAll("-----(BEGIN|END) [A-Z ]+-----", "").replaceAll("\\s", "");
+        return Base64.getDecoder().decode(body);
+    }
+
+    // 부호 없는 big-endian 바이트를 base64url 로, size > 0 이면 그 길이에 맞춰 앞을 0 으로 채운다
+    private static String base64Url(BigInteger value, int size) {
+        byte[] bytes = value.toByteArray();
+        if (bytes.length > 1 && bytes[0] == 0) {
+            byte[] trimmed = new byte[bytes.length - 1];
+            System.arraycopy(bytes, 1, trimmed, 0, trimmed.length);
+            bytes = trimmed;
+        }
+        if (size > bytes.length) {
+            byte[] padded = new byte[size];
+            System.arraycopy(bytes, 0, padded, size - bytes.length, bytes.length);
+            bytes = padded;
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
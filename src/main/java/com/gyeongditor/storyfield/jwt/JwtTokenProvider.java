@@ -4,10 +4,19 @@ import com.gyeongditor.storyfield.Entity.CustomUserDetails;
 import com.gyeongditor.storyfield.exception.CustomException;
 import com.gyeongditor.storyfield.repository.JwtTokenRedisRepository;
 import com.gyeongditor.storyfield.response.ErrorCode;
+import com.gyeongditor.storyfield.service.TokenRevocationService;
 import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwtParser;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.UnsupportedJwtException;
+import io.jsonwebtoken.io.Decoders;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
@@ -16,7 +25,17 @@ import org.springframework.security.core.Authentication;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Component;
 
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.Base64;
+import java.util.Collections;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.UUID;
 
 @Component
@@ -35,6 +54,50 @@ public class JwtTokenProvider {
 
     private final JwtTokenRedisRepository jwtTokenRedisRepository;
     private final UserDetailsService userDetailsService;
+    private final TokenRevocationService tokenRevocationService;
+    private final JwtSigningKeys jwtSigningKeys;
+
+    // 검증 결과 캐시 크기 (같은 토큰이 반복해서 오면 서명 검증/JSON 파싱을 건너뛴다), 최대 보관 시간
+    @Value("${jwt.verified-cache-size:10000}")
+    private int verifiedCacheSize;
+
+    @Value("${jwt.verified-cache-ttl:PT1M}")
+    private Duration verifiedCacheTtl;
+
+    // 문자열 secret 을 요청마다 base64 로 풀지 않도록 키와 파서를 한 번만 만든다
+    @Getter(AccessLevel.NONE)
+    private Key signingKey;
+
+    @Getter(AccessLevel.NONE)
+    private JwtParser parser;
+
+    // SHA-256(토큰) → 검증된 클레임, 토큰 원문은 보관하지 않는다
+    @Getter(AccessLevel.NONE)
+    private Map<String, VerifiedClaims> verifiedCache;
+
+    private record VerifiedClaims(String email, String userId, String tokenId, Date expiresAt, long cachedUntil) {
+    }
+
+    @PostConstruct
+    public void init() {
+        signingKey = new SecretKeySpec(Decoders.BASE64.decode(secretKey), SignatureAlgorithm.HS256.getJcaName());
+        // 헤더의 alg/kid 로 검증 키를 고른다, HS256 은 전환 기간에만 허용
+        parser = Jwts.parserBuilder().setSigningKeyResolver(new SigningKeyResolverAdapter() {
+            @Override
+            public Key resolveSigningKey(JwsHeader header, Claims claims) {
+                return resolveVerificationKey(header);
+            }
+        }).build();
+
+        final int maxSize = verifiedCacheSize;
+        // accessOrder=true: 조회할 때마다 뒤로 보내 LRU 로 동작
+        verifiedCache = Collections.synchronizedMap(new LinkedHashMap<>(1024, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, VerifiedClaims> eldest) {
+                return size() > maxSize;
+            }
+        });
+    }
 
 
     // AccessToken 생성
@@ -58,24 +121,76 @@ public class JwtTokenProvider {
 
         String jti = UUID.randomUUID().toString();
 
-        return Jwts.builder()
+        JwtBuilder builder = Jwts.builder()
                 .setClaims(claims)
                 .setId(jti)
                 .setIssuedAt(now)
-                .setExpiration(expiry)
-                .signWith(SignatureAlgorithm.HS256, secretKey)
+                .setExpiration(expiry);
+
+        JwtSigningKeys.SigningKey active = jwtSigningKeys.active();
+        if (active == null) {
+            return builder.signWith(signingKey, SignatureAlgorithm.HS256).compact();
+        }
+        return builder
+                .setHeaderParam(JwsHeader.KEY_ID, active.kid())
+                .signWith(active.privateKey(), active.algorithm())
                 .compact();
     }
 
+    private Key resolveVerificationKey(JwsHeader<?> header) {
+        String algorithm = header.getAlgorithm();
+        if (SignatureAlgorithm.HS256.getValue().equals(algorithm)) {
+            if (!jwtSigningKeys.acceptsHs256()) {
+                throw new UnsupportedJwtException("HS256 토큰은 더 이상 허용되지 않습니다.");
+            }
+            return signingKey;
+        }
+        JwtSigningKeys.SigningKey key = jwtSigningKeys.verificationKey(header.getKeyId());
+        if (key == null) {
+            throw new UnsupportedJwtException("알 수 없는 kid 입니다: " + header.getKeyId());
+        }
+        // 키마다 정해진 알고리즘만 받는다 (alg 바꿔치기 방지)
+        if (!key.algorithm().getValue().equals(algorithm)) {
+            throw new UnsupportedJwtException("kid 와 alg 가 맞지 않습니다: " + header.getKeyId());
+        }
+        return key.publicKey();
+    }
+
 
     // 토큰 유효성 검사 실패 시 예외 발생
     public void validateOrThrow(String token) {
+        verify(token);
+    }
+
+    // 서명/만료/블랙리스트를 검사하고 클레임을 돌려준다, 같은 요청 안에서는 처음 결과를 재사용한다
+    public VerifiedPrincipal verify(String token) {
+        VerifiedPrincipal current = VerifiedPrincipal.current(token);
+        if (current != null) {
+            return current;
+        }
+        VerifiedPrincipal verified = verifyAccessToken(token);
+        VerifiedPrincipal.bind(verified);
+        return verified;
+    }
+
+    private VerifiedPrincipal verifyAccessToken(String token) {
         if (token == null || token.trim().isEmpty()) {
             throw new CustomException(ErrorCode.AUTH_401_010, "인증 토큰이 없습니다.");
         }
+
+        // 이미 검증한 토큰이면 만료/폐기만 다시 확인한다
+        final String digest = digest(token);
+        final long now = System.currentTimeMillis();
+        VerifiedClaims cached = verifiedCache.get(digest);
+        if (cached != null && cached.cachedUntil() > now) {
+            if (cached.tokenId() != null && tokenRevocationService.isRevoked(cached.tokenId())) {
+                throw new CustomException(ErrorCode.AUTH_401_012, "유효하지 않은 인증 토큰입니다.");
+            }
+            return new VerifiedPrincipal(token, cached.email(), cached.userId(), cached.tokenId(), cached.expiresAt());
+        }
         
         try {
-            Claims claims = Jwts.parser().setSigningKey(secretKey).parseClaimsJws(token).getBody();
+            Claims claims = parser.parseClaimsJws(token).getBody();
             
             // 토큰 만료 검사
             if (claims.getExpiration().before(new Date())) {
@@ -84,9 +199,17 @@ public class JwtTokenProvider {
             
             // 블랙리스트 검사
             String jti = claims.getId();
-            if (jti != null && jwtTokenRedisRepository.isTokenBlacklisted(jti)) {
+            if (jti != null && tokenRevocationService.isRevoked(jti)) {
                 throw new CustomException(ErrorCode.AUTH_401_012, "유효하지 않은 인증 토큰입니다.");
             }
+
+            // 토큰 만료 시각을 넘겨 보관하지 않는다
+            long cachedUntil = Math.min(claims.getExpiration().getTime(), now + verifiedCacheTtl.toMillis());
+            VerifiedClaims verified = new VerifiedClaims(claims.getSubject(), (String) claims.get("userUUID"),
+                    jti, claims.getExpiration(), cachedUntil);
+            verifiedCache.put(digest, verified);
+
+            return new VerifiedPrincipal(token, verified.email(), verified.userId(), jti, verified.expiresAt());
             
         } catch (CustomException e) {
             throw e; // CustomException은 그대로 재던지기
@@ -101,7 +224,7 @@ public class JwtTokenProvider {
         }
         
         try {
-            Claims claims = Jwts.parser().setSigningKey(secretKey).parseClaimsJws(refreshToken).getBody();
+            Claims claims = parser.parseClaimsJws(refreshToken).getBody();
             
             // 토큰 만료 검사
             if (claims.getExpiration().before(new Date())) {
@@ -110,7 +233,7 @@ public class JwtTokenProvider {
             
             // 블랙리스트 검사
             String jti = claims.getId();
-            if (jti != null && jwtTokenRedisRepository.isTokenBlacklisted(jti)) {
+            if (jti != null && tokenRevocationService.isRevoked(jti)) {
                 throw new CustomException(ErrorCode.AUTH_401_012, "유효하지 않은 RefreshToken입니다.");
             }
             
@@ -121,9 +244,10 @@ public class JwtTokenProvider {
         }
     }
 
-    // Email 추출
+    // Email 추출 (이번 요청에서 검증된 토큰이면 다시 파싱하지 않는다)
     public String getEmail(String token) {
-        return parseClaims(token).getSubject();
+        VerifiedPrincipal current = VerifiedPrincipal.current(token);
+        return current != null ? current.email() : parseClaims(token).getSubject();
     }
 
     public String resolveToken(HttpServletRequest request) {
@@ -161,7 +285,7 @@ public class JwtTokenProvider {
     // 토큰 파싱
     public Claims parseClaims(String token) {
         try {
-            return Jwts.parser().setSigningKey(secretKey).parseClaimsJws(token).getBody();
+            return parser.parseClaimsJws(token).getBody();
         } catch (Exception e) {
             throw new CustomException(ErrorCode.AUTH_401_004, "토큰 파싱에 실패했습니다.");
         }
@@ -185,14 +309,23 @@ public class JwtTokenProvider {
         }
 
         long ttlSeconds = 30 * 60;
-        boolean success = jwtTokenRedisRepository.addTokenToBlacklist(accessJti, ttlSeconds);
+        boolean success = tokenRevocationService.revoke(accessJti, ttlSeconds);
         if (!success) {
             throw new CustomException(ErrorCode.SERVER_500_001, "AccessToken 블랙리스트 등록 실패");
         }
     }
 
+    private static String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     public boolean isRefreshTokenBlacklisted(String refreshToken) {
         String tokenId = parseClaims(refreshToken).getId();
-        return jwtTokenRedisRepository.isTokenBlacklisted(tokenId);
+        return tokenRevocationService.isRevoked(tokenId);
     }
 }
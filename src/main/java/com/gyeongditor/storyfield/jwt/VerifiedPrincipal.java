@@ -0,0 +1,33 @@
+package com.gyeongditor.storyfield.jwt;
+
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+
+import java.util.Date;
+
+/**
+ * 서명/만료/블랙리스트 검사를 통과한 액세스 토큰의 클레임
+ * 필터에서 한 번 검증한 뒤 요청 속성에 넣어 두고, 같은 요청 안의 서비스는 다시 파싱하지 않고 꺼내 쓴다.
+ * 요청 밖(비동기 작업 스레드 등)에서는 비어 있으므로 JwtTokenProvider 가 매번 검증한다.
+ */
+public record VerifiedPrincipal(String token, String email, String userId, String tokenId, Date expiresAt) {
+
+    private static final String ATTRIBUTE = VerifiedPrincipal.class.getName();
+
+    // 현재 요청에서 같은 토큰으로 검증된 결과, 없으면 null
+    static VerifiedPrincipal current(String token) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes == null || token == null) {
+            return null;
+        }
+        Object principal = attributes.getAttribute(ATTRIBUTE, RequestAttributes.SCOPE_REQUEST);
+        return principal instanceof VerifiedPrincipal verified && verified.token().equals(token) ? verified : null;
+    }
+
+    static void bind(VerifiedPrincipal principal) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes != null) {
+            attributes.setAttribute(ATTRIBUTE, principal, RequestAttributes.SCOPE_REQUEST);
+        }
+    }
+}
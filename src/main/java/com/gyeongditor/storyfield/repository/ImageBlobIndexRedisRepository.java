@@ -0,0 +1,91 @@
+package com.gyeongditor.storyfield.repository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+// 콘텐츠 주소(SHA-256) 이미지가 S3에 이미 올라가 있는지 기억하는 인덱스 (S3 HEAD 대신 사용)
+// 해시마다 리스 키를 두어 저장 중인 스토리가 쓰려는 객체를 삭제가 지우지 않게 한다
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImageBlobIndexRedisRepository {
+
+    private static final String INDEX_KEY = "image:blob:index";
+    private static final String LEASE_PREFIX = "image:blob:lease:";
+    private static final String IN_USE = "in-use";
+    private static final String DELETING = "deleting";
+    // 삭제 표식은 S3 삭제가 끝나면 지우고, 그 전에 인스턴스가 죽어도 이 시간이 지나면 풀린다
+    private static final Duration DELETING_TTL = Duration.ofMinutes(10);
+
+    // 삭제 중이 아니면 사용 리스를 남기고(갱신하고) 1
+    private static final DefaultRedisScript<Long> LEASE = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[2] then return 0 end " +
+            "redis.call('set', KEYS[1], ARGV[1], 'PX', ARGV[3]) return 1",
+            Long.class);
+
+    // 리스가 없을 때만 삭제 표식을 남기고 인덱스에서 뺀 뒤 1
+    private static final DefaultRedisScript<Long> MARK_DELETING = new DefaultRedisScript<>(
+            "if redis.call('exists', KEYS[1]) == 1 then return 0 end " +
+            "redis.call('set', KEYS[1], ARGV[1], 'PX', ARGV[2]) " +
+            "redis.call('srem', KEYS[2], ARGV[3]) return 1",
+            Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    // 인덱스 조회 실패는 "없음"으로 본다 (같은 내용을 한 번 더 PUT 할 뿐 결과는 같다)
+    public boolean contains(String hash) {
+        try {
+            return Boolean.TRUE.equals(redisTemplate.opsForSet().isMember(INDEX_KEY, hash));
+        } catch (Exception e) {
+            log.warn("이미지인덱스조회실패 hash={} error={}", hash, e.getMessage());
+            return false;
+        }
+    }
+
+    public void add(String hash) {
+        try {
+            redisTemplate.opsForSet().add(INDEX_KEY, hash);
+        } catch (Exception e) {
+            log.warn("이미지인덱스등록실패 hash={} error={}", hash, e.getMessage());
+        }
+    }
+
+    // 인덱스를 보기 전에 잡아야 한다, 삭제 중이거나 Redis 오류면 false (호출자는 공유하지 않는다)
+    public boolean lease(String hash, Duration ttl) {
+        try {
+            Long result = redisTemplate.execute(LEASE, List.of(LEASE_PREFIX + hash),
+                    IN_USE, DELETING, String.valueOf(ttl.toMillis()));
+            return Long.valueOf(1).equals(result);
+        } catch (Exception e) {
+            log.warn("이미지리스등록실패 hash={} error={}", hash, e.getMessage());
+            return false;
+        }
+    }
+
+    // 리스가 없으면 삭제 표식을 남기고 인덱스에서 뺀다, 리스가 있거나 Redis 오류면 false (객체를 남긴다)
+    public boolean markDeleting(String hash) {
+        try {
+            Long result = redisTemplate.execute(MARK_DELETING, List.of(LEASE_PREFIX + hash, INDEX_KEY),
+                    DELETING, String.valueOf(DELETING_TTL.toMillis()), hash);
+            return Long.valueOf(1).equals(result);
+        } catch (Exception e) {
+            log.warn("이미지삭제표식실패 hash={} error={}", hash, e.getMessage());
+            return false;
+        }
+    }
+
+    // S3 삭제가 끝난 뒤 호출, 그 사이 리스로 바뀌었으면 두고 간다, 실패해도 표식은 TTL 로 풀린다
+    public void clearDeleting(String hash) {
+        try {
+            redisTemplate.execute(RedisScripts.DELETE_IF_EQUALS, List.of(LEASE_PREFIX + hash), DELETING);
+        } catch (Exception e) {
+            log.warn("이미지삭제표식해제실패 hash={} error={}", hash, e.getMessage());
+        }
+    }
+}
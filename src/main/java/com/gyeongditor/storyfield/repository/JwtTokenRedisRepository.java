@@ -1,9 +1,13 @@
 package com.gyeongditor.storyfield.repository;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.Cursor;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
 import org.springframework.stereotype.Component;
 
+import java.util.HashMap;
+import java.util.Map;
 import java.util.concurrent.TimeUnit;
 
 @Component
@@ -54,4 +58,26 @@ public class JwtTokenRedisRepository {
         return redisTemplate.hasKey(key);
     }
 
+    // 블랙리스트 전체 (tokenId → 남은 만료 시간 ms), 인스턴스 메모리 사본을 만들 때 사용
+    public Map<String, Long> scanBlacklist() {
+        Map<String, Long> result = new HashMap<>();
+        ScanOptions options = ScanOptions.scanOptions().match(BLACKLIST_KEY_PREFIX + "*").count(1000).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            while (cursor.hasNext()) {
+                String key = cursor.next();
+                Long ttl = redisTemplate.getExpire(key, TimeUnit.MILLISECONDS);
+                // -2: 그 사이 만료됨, -1: 만료 없음 (등록 경로상 없지만 보수적으로 유지)
+                if (ttl != null && ttl != -2) {
+                    result.put(key.substring(BLACKLIST_KEY_PREFIX.length()), ttl);
+                }
+            }
+        }
+        return result;
+    }
+
+    // 새로 블랙리스트에 올린 토큰을 다른 인스턴스에 알린다 (메시지: "tokenId 만료ms")
+    public void publishBlacklisted(String channel, String tokenId, long expireInMillis) {
+        redisTemplate.convertAndSend(channel, tokenId + " " + expireInMillis);
+    }
+
 }
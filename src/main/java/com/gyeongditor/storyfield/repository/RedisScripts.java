@@ -0,0 +1,15 @@
+package com.gyeongditor.storyfield.repository;
+
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+
+// 여러 저장소가 함께 쓰는 Redis Lua 스크립트
+public final class RedisScripts {
+
+    // KEYS[1] 의 값이 ARGV[1] 과 같을 때만 지운다 (그 사이 다른 주인/표식으로 바뀐 키는 두고 간다), 지웠으면 1
+    public static final DefaultRedisScript<Long> DELETE_IF_EQUALS = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    private RedisScripts() {
+    }
+}
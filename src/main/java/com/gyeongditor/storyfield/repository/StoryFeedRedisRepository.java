@@ -0,0 +1,137 @@
+package com.gyeongditor.storyfield.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 메인 피드 앞부분 사본 저장소
+ * ids(ZSET, score = createdAt 마이크로초, member = storyId) 로 순서를 유지하고 행 내용은 items(HASH) 에 둔다.
+ * 점수가 같으면 member 역순으로 나오므로 (createdAt desc, storyId desc) DB 정렬과 같다.
+ * 저장/삭제는 version 을 올리고, DB 재적재는 읽기 시작할 때의 version 이 그대로일 때만 반영한다
+ * (재적재 중에 들어온 저장/삭제를 오래된 목록으로 덮어쓰지 않도록).
+ */
+@Component
+@RequiredArgsConstructor
+public class StoryFeedRedisRepository {
+
+    private static final String IDS = "story:feed:ids";
+    private static final String ITEMS = "story:feed:items";
+    private static final String VERSION = "story:feed:version";
+    // "1" 이면 전체 스토리가 사본 안에 다 들어 있다 (사본보다 뒤는 비어 있음)
+    private static final String COMPLETE = "story:feed:complete";
+    private static final List<String> KEYS = List.of(IDS, ITEMS, VERSION, COMPLETE);
+
+    // 반환: [complete, json...] (최신순), 사본이 없으면 빈 목록
+    private static final DefaultRedisScript<List> READ = new DefaultRedisScript<>(
+            "local complete = redis.call('get', KEYS[4]) "
+                    + "if not complete then return {} end "
+                    + "local ids = redis.call('zrevrange', KEYS[1], 0, -1) "
+                    + "local result = {complete} "
+                    + "if #ids > 0 then "
+                    + "  local items = redis.call('hmget', KEYS[2], unpack(ids)) "
+                    + "  for i = 1, #items do result[#result + 1] = items[i] or '' end "
+                    + "end "
+                    + "return result",
+            List.class);
+
+    // ARGV: id, score, json, windowSize, ttlMillis
+    private static final DefaultRedisScript<Long> ADD = new DefaultRedisScript<>(
+            "redis.call('incr', KEYS[3]) "
+                    + "if not redis.call('get', KEYS[4]) then return 0 end "
+                    + "redis.call('zadd', KEYS[1], ARGV[2], ARGV[1]) "
+                    + "redis.call('hset', KEYS[2], ARGV[1], ARGV[3]) "
+                    + "local overflow = redis.call('zcard', KEYS[1]) - tonumber(ARGV[4]) "
+                    + "if overflow > 0 then "
+                    + "  local dropped = redis.call('zrange', KEYS[1], 0, overflow - 1) "
+                    + "  redis.call('zremrangebyrank', KEYS[1], 0, overflow - 1) "
+                    + "  redis.call('hdel', KEYS[2], unpack(dropped)) "
+                    + "  redis.call('set', KEYS[4], '0') "
+                    + "end "
+                    + "for i = 1, 4 do redis.call('pexpire', KEYS[i], ARGV[5]) end "
+                    + "return 1",
+            Long.class);
+
+    // ARGV: id
+    private static final DefaultRedisScript<Long> REMOVE = new DefaultRedisScript<>(
+            "redis.call('incr', KEYS[3]) "
+                    + "redis.call('hdel', KEYS[2], ARGV[1]) "
+                    + "return redis.call('zrem', KEYS[1], ARGV[1])",
+            Long.class);
+
+    // ARGV: expectedVersion, complete, ttlMillis, (id, score, json)...
+    private static final DefaultRedisScript<Long> REPLACE = new DefaultRedisScript<>(
+            "if (redis.call('get', KEYS[3]) or '0') ~= ARGV[1] then return 0 end "
+                    + "redis.call('del', KEYS[1], KEYS[2]) "
+                    + "for i = 4, #ARGV, 3 do "
+                    + "  redis.call('zadd', KEYS[1], ARGV[i + 1], ARGV[i]) "
+                    + "  redis.call('hset', KEYS[2], ARGV[i], ARGV[i + 2]) "
+                    + "end "
+                    + "redis.call('set', KEYS[4], ARGV[2]) "
+                    + "for i = 1, 4 do redis.call('pexpire', KEYS[i], ARGV[3]) end "
+                    + "return 1",
+            Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public record Window(List<String> items, boolean complete) {
+    }
+
+    public record Entry(String storyId, long score, String json) {
+    }
+
+    // 사본이 없으면 null
+    @SuppressWarnings("unchecked")
+    public Window read() {
+        List<Object> result = redisTemplate.execute(READ, KEYS);
+        if (result == null || result.isEmpty()) {
+            return null;
+        }
+        List<String> items = new ArrayList<>(result.size() - 1);
+        for (int i = 1; i < result.size(); i++) {
+            items.add(String.valueOf(result.get(i)));
+        }
+        return new Window(items, "1".equals(String.valueOf(result.get(0))));
+    }
+
+    public String version() {
+        String version = redisTemplate.opsForValue().get(VERSION);
+        return version != null ? version : "0";
+    }
+
+    // 사본이 없으면 version 만 올린다 (다음 읽기에서 DB 로 만든다)
+    public void add(Entry entry, int windowSize, Duration ttl) {
+        redisTemplate.execute(ADD, KEYS, entry.storyId(), Long.toString(entry.score()), entry.json(),
+                Integer.toString(windowSize), Long.toString(ttl.toMillis()));
+    }
+
+    public void remove(String storyId) {
+        redisTemplate.execute(REMOVE, KEYS, storyId);
+    }
+
+    // expectedVersion 이후 저장/삭제가 있었으면 반영하지 않고 false
+    public boolean replace(String expectedVersion, List<Entry> entries, boolean complete, Duration ttl) {
+        List<String> args = new ArrayList<>(3 + entries.size() * 3);
+        args.add(expectedVersion);
+        args.add(complete ? "1" : "0");
+        args.add(Long.toString(ttl.toMillis()));
+        for (Entry entry : entries) {
+            args.add(entry.storyId());
+            args.add(Long.toString(entry.score()));
+            args.add(entry.json());
+        }
+        Long replaced = redisTemplate.execute(REPLACE, KEYS, args.toArray());
+        return replaced != null && replaced == 1L;
+    }
+
+    // 갱신에 실패했을 때 사본을 버린다
+    public void clear() {
+        redisTemplate.delete(List.of(IDS, ITEMS, COMPLETE));
+        redisTemplate.opsForValue().increment(VERSION);
+    }
+}
@@ -0,0 +1,36 @@
+package com.gyeongditor.storyfield.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+
+// 스토리 저장 요청의 Idempotency-Key 상태 (처리 중 표식 / 완료된 응답) 저장소
+@Component
+@RequiredArgsConstructor
+public class StoryIdempotencyRedisRepository {
+
+    private static final String KEY_PREFIX = "story:idempotency:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    // 키가 없을 때만 처리 중 표식을 남긴다, 먼저 도착한 요청만 true
+    public boolean claim(String key, String pendingValue, Duration lease) {
+        return Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(KEY_PREFIX + key, pendingValue, lease));
+    }
+
+    public String find(String key) {
+        return redisTemplate.opsForValue().get(KEY_PREFIX + key);
+    }
+
+    public void complete(String key, String resultValue, Duration ttl) {
+        redisTemplate.opsForValue().set(KEY_PREFIX + key, resultValue, ttl);
+    }
+
+    // 처리에 실패하면 표식을 지워 재시도가 처음부터 다시 진행되게 한다 (다른 요청이 이미 가져간 키는 지우지 않는다)
+    public void release(String key, String pendingValue) {
+        redisTemplate.execute(RedisScripts.DELETE_IF_EQUALS, List.of(KEY_PREFIX + key), pendingValue);
+    }
+}
@@ -0,0 +1,56 @@
+package com.gyeongditor.storyfield.repository;
+
+import com.gyeongditor.storyfield.Entity.StoryIngestJob;
+import com.gyeongditor.storyfield.Entity.StoryIngestStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface StoryIngestJobRepository extends JpaRepository<StoryIngestJob, UUID> {
+
+    List<StoryIngestJob> findByOwnerNodeAndStatusInOrderByCreatedAtAsc(String ownerNode, Collection<StoryIngestStatus> statuses);
+
+    // 리스가 끝난(하트비트가 끊긴) 인스턴스의 미완료 작업, 소유자가 없는 이전 작업 포함
+    @Query("SELECT j FROM StoryIngestJob j WHERE j.status IN :statuses " +
+            "AND (j.leaseUntil IS NULL OR j.leaseUntil < :now) ORDER BY j.createdAt ASC")
+    List<StoryIngestJob> findExpired(@Param("statuses") Collection<StoryIngestStatus> statuses,
+                                     @Param("now") LocalDateTime now);
+
+    // 이 인스턴스가 가진 미완료 작업의 리스 연장
+    @Transactional
+    @Modifying
+    @Query("UPDATE StoryIngestJob j SET j.leaseUntil = :leaseUntil " +
+            "WHERE j.ownerNode = :ownerNode AND j.status IN :statuses")
+    int renewLeases(@Param("ownerNode") String ownerNode,
+                    @Param("statuses") Collection<StoryIngestStatus> statuses,
+                    @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    // 리스가 끝난 작업을 가져온다, 다른 인스턴스가 먼저 가져갔으면 0
+    @Transactional
+    @Modifying
+    @Query("UPDATE StoryIngestJob j SET j.ownerNode = :ownerNode, j.leaseUntil = :leaseUntil " +
+            "WHERE j.jobId = :jobId AND j.status IN :statuses AND (j.leaseUntil IS NULL OR j.leaseUntil < :now)")
+    int claimExpired(@Param("jobId") UUID jobId,
+                     @Param("ownerNode") String ownerNode,
+                     @Param("statuses") Collection<StoryIngestStatus> statuses,
+                     @Param("now") LocalDateTime now,
+                     @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    // 이 인스턴스가 아직 가진 미완료 작업일 때만 상태를 기록한다
+    // 리스가 끝나 다른 인스턴스가 가져갔거나 이미 끝난 작업이면 0 (오래된 소유자가 새 소유자의 결과를 덮어쓰지 않도록)
+    @Transactional
+    @Modifying
+    @Query("UPDATE StoryIngestJob j SET j.status = :#{#job.status}, j.storyId = :#{#job.storyId}, " +
+            "j.errorCode = :#{#job.errorCode}, j.errorMessage = :#{#job.errorMessage}, j.updatedAt = :#{#job.updatedAt} " +
+            "WHERE j.jobId = :#{#job.jobId} AND j.ownerNode = :ownerNode AND j.status IN :statuses")
+    int updateStatusIfOwner(@Param("job") StoryIngestJob job,
+                            @Param("ownerNode") String ownerNode,
+                            @Param("statuses") Collection<StoryIngestStatus> statuses);
+}
@@ -0,0 +1,35 @@
+package com.gyeongditor.storyfield.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+// 스토리 페이지 목록 사본 (storyId → 페이지 배열 JSON), 삭제된 스토리는 잠시 표식으로 남긴다
+@Component
+@RequiredArgsConstructor
+public class StoryPageCacheRedisRepository {
+
+    private static final String KEY_PREFIX = "story:pages:";
+    public static final String TOMBSTONE = "-";
+
+    private final RedisTemplate<String, String> redisTemplate;
+
+    public String find(String storyId) {
+        return redisTemplate.opsForValue().get(KEY_PREFIX + storyId);
+    }
+
+    // 이미 값(또는 삭제 표식)이 있으면 덮어쓰지 않는다
+    public void saveIfAbsent(String storyId, String value, Duration ttl) {
+        redisTemplate.opsForValue().setIfAbsent(KEY_PREFIX + storyId, value, ttl);
+    }
+
+    public void markDeleted(String storyId, Duration ttl) {
+        redisTemplate.opsForValue().set(KEY_PREFIX + storyId, TOMBSTONE, ttl);
+    }
+
+    public void publish(String channel, String storyId) {
+        redisTemplate.convertAndSend(channel, storyId);
+    }
+}
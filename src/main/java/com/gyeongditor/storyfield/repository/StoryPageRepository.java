@@ -0,0 +1,20 @@
+package com.gyeongditor.storyfield.repository;
+
+import com.gyeongditor.storyfield.Entity.StoryPage;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import java.util.stream.Stream;
+
+public interface StoryPageRepository extends JpaRepository<StoryPage, Long> {
+
+    // 공유 이미지 참조 수 (콘텐츠 주소 이미지 삭제 판단용)
+    long countByImageFileName(String imageFileName);
+
+    // 전체 이미지 키를 한 번에 올리지 않고 fetch size 단위로 흘려받는다 (트랜잭션 안에서 사용)
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    @Query("select p.imageFileName from StoryPage p")
+    Stream<String> streamAllImageFileNames();
+}
@@ -1,13 +1,56 @@
 package com.gyeongditor.storyfield.repository;
 
 import com.gyeongditor.storyfield.Entity.Story;
+import com.gyeongditor.storyfield.dto.Story.StoryFeedView;
+import com.gyeongditor.storyfield.dto.Story.StoryPageView;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 public interface StoryRepository extends JpaRepository<Story, UUID> {
     Page<Story> findAll(Pageable pageable);
 
+    // 피드 첫 목록 / 페이지 번호 조회 (Slice 라 COUNT 쿼리 없음, Pageable 에는 정렬을 넣지 않는다)
+    @Query("select new com.gyeongditor.storyfield.dto.Story.StoryFeedView(s.storyId, s.storyTitle, s.thumbnailFileName, s.createdAt)"
+            + " from Story s"
+            + " order by s.createdAt desc, s.storyId desc")
+    Slice<StoryFeedView> findFeed(Pageable pageable);
+
+    // 커서 다음 목록, (createdAt, storyId) 인덱스를 그대로 따라 읽는다
+    @Query("select new com.gyeongditor.storyfield.dto.Story.StoryFeedView(s.storyId, s.storyTitle, s.thumbnailFileName, s.createdAt)"
+            + " from Story s"
+            + " where s.createdAt < :createdAt or (s.createdAt = :createdAt and s.storyId < :storyId)"
+            + " order by s.createdAt desc, s.storyId desc")
+    Slice<StoryFeedView> findFeedAfter(@Param("createdAt") LocalDateTime createdAt,
+                                       @Param("storyId") UUID storyId,
+                                       Pageable pageable);
+
+    // 공유 썸네일 참조 수 (콘텐츠 주소 이미지 삭제 판단용)
+    long countByThumbnailFileName(String thumbnailFileName);
+
+    // 전체 썸네일 키를 fetch size 단위로 흘려받는다 (트랜잭션 안에서 사용)
+    @QueryHints(@QueryHint(name = "org.hibernate.fetchSize", value = "1000"))
+    @Query("select s.thumbnailFileName from Story s")
+    Stream<String> streamAllThumbnailFileNames();
+
+    // 페이지 응답에 필요한 컬럼만 한 번의 쿼리로 조회 (작성자 User 와 엔티티 로딩 없음)
+    // 스토리가 없으면 빈 목록, 페이지가 없는 스토리면 null 한 줄 (left join)
+    @Transactional(readOnly = true)
+    @Query("select new com.gyeongditor.storyfield.dto.Story.StoryPageView(p.pageNumber, p.content, p.imageFileName)"
+            + " from Story s left join s.pages p"
+            + " where s.storyId = :storyId"
+            + " order by p.pageNumber")
+    List<StoryPageView> findPageViewsByStoryId(@Param("storyId") UUID storyId);
+
 }
@@ -1,9 +1,12 @@
 package com.gyeongditor.storyfield.service;
 
 import com.gyeongditor.storyfield.dto.ApiResponseDTO;
+import com.gyeongditor.storyfield.dto.File.PresignedUrlDTO;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.List;
+
 public interface AudioService {
 
     ApiResponseDTO<String> uploadAudio(MultipartFile file, HttpServletRequest request);
@@ -12,5 +15,7 @@ public interface AudioService {
 
     ApiResponseDTO<String> generateDownloadPresignedUrl(String keyOrFileName, HttpServletRequest request);
 
+    ApiResponseDTO<List<PresignedUrlDTO>> generateDownloadPresignedUrls(List<String> keysOrFileNames, HttpServletRequest request);
+
     ApiResponseDTO<Void> deleteAudio(String fileName, HttpServletRequest request);
 }
@@ -14,4 +14,7 @@ public interface CustomUserDetailsService extends UserDetailsService {
     int getRemainingLoginAttempts(String email);
 
     CustomUserDetails loadUserByUUID(String uuid);
+
+    // JWT 인증용 (캐시를 거친다, 로그인 검증은 loadUserByUsername 으로 항상 DB 에서 읽는다)
+    CustomUserDetails loadPrincipalByEmail(String email);
 }
\ No newline at end of file
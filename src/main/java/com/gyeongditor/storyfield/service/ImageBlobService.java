@@ -0,0 +1,22 @@
+package com.gyeongditor.storyfield.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+public interface ImageBlobService {
+
+    // PNG 를 임시 파일로 받아 원본과 크기별 파생본을 저장
+    // 콘텐츠 주소 모드면 cas/<hash>.png 로 저장하고 이미 있으면 PUT 생략, 아니면 uuidKey 사용
+    CompletableFuture<String> storePng(InputStream png, String uuidKey) throws IOException;
+
+    boolean isContentAddressed(String objectKey);
+
+    // 스토리 삭제(커밋) 후 더 이상 참조되지 않아 S3 에서 지워도 되는 키만 돌려준다
+    // 돌려준 공유 키에는 삭제 표식이 남으므로, S3 삭제가 끝나면 deleted 를 호출한다
+    List<String> unreferenced(Collection<String> objectKeys);
+
+    void deleted(Collection<String> objectKeys);
+}
@@ -0,0 +1,10 @@
+package com.gyeongditor.storyfield.service;
+
+import java.nio.file.Path;
+import java.util.concurrent.CompletableFuture;
+
+public interface ImageDerivativeService {
+
+    // 원본 PNG 파일로 피드/미리보기 크기 파생본을 만들어 형제 키로 업로드
+    CompletableFuture<Void> generate(String baseKey, Path png);
+}
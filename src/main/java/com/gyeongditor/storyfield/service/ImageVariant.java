@@ -0,0 +1,56 @@
+package com.gyeongditor.storyfield.service;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 스토리 이미지 크기별 파생본
+ * 원본 키 foo.png 의 파생본은 같은 위치의 foo.feed.png / foo.preview.png 에 저장된다.
+ * 파생본 파이프라인 이전에 저장된 루트 경로 키는 모든 크기가 원본을 가리킨다.
+ */
+public enum ImageVariant {
+    FEED("feed"),
+    PREVIEW("preview"),
+    FULL(null);
+
+    private static final String PNG = ".png";
+    private static final List<String> DERIVATIVE_PREFIXES = List.of("cas/", "stories/");
+
+    private final String suffix;
+
+    ImageVariant(String suffix) {
+        this.suffix = suffix;
+    }
+
+    public String keyFor(String baseKey) {
+        if (suffix == null || !hasDerivatives(baseKey)) {
+            return baseKey;
+        }
+        return baseKey.substring(0, baseKey.length() - PNG.length()) + "." + suffix + PNG;
+    }
+
+    // 원본과 파생본 키 전체 (삭제용)
+    public static List<String> allKeysFor(String baseKey) {
+        return Arrays.stream(values()).map(variant -> variant.keyFor(baseKey)).distinct().toList();
+    }
+
+    // 파생본 키이면 원본 키 (이름이 우연히 같은 원본일 수도 있으므로 참조 확인은 두 키 모두로 한다)
+    public static Optional<String> baseKeyOf(String key) {
+        if (!hasDerivatives(key)) {
+            return Optional.empty();
+        }
+        for (ImageVariant variant : values()) {
+            if (variant.suffix != null && key.endsWith("." + variant.suffix + PNG)) {
+                return Optional.of(key.substring(0, key.length() - variant.suffix.length() - PNG.length() - 1) + PNG);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static boolean hasDerivatives(String key) {
+        return key != null
+                && key.endsWith(PNG)
+                && DERIVATIVE_PREFIXES.stream().anyMatch(key::startsWith);
+    }
+}
@@ -0,0 +1,15 @@
+package com.gyeongditor.storyfield.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.atomic.LongAdder;
+
+public interface IngestBufferPool {
+
+    // 풀에서 Inflater/버퍼를 빌려 gzip 해제 스트림을 연다 (스트림을 닫으면 반납)
+    // 풀에 없어서 새로 만든 바이트 수는 allocatedBytes 에 더한다
+    InputStream openGzip(InputStream gz, LongAdder allocatedBytes) throws IOException;
+
+    // 스토리 하나를 처리하는 동안 새로 할당한 바이트 수 기록
+    void recordStoryAllocation(long bytes);
+}
@@ -0,0 +1,21 @@
+package com.gyeongditor.storyfield.service;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import java.io.IOException;
+
+public interface ObjectProxyService {
+
+    // storage.proxy.enabled
+    boolean isEnabled();
+
+    // 앱을 거쳐 내려받는 URL (/media/{key})
+    String url(String key);
+
+    // Range / If-None-Match / If-Range 를 처리해 객체를 응답으로 내보낸다
+    void serve(String key, HttpServletRequest request, HttpServletResponse response) throws IOException;
+
+    // 삭제된 객체를 디스크 캐시에서 뺀다
+    void evict(String key);
+}
@@ -0,0 +1,52 @@
+package com.gyeongditor.storyfield.service;
+
+import org.springframework.core.io.InputStreamSource;
+
+import java.io.IOException;
+import java.nio.channels.WritableByteChannel;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
+/**
+ * 오브젝트 스토리지 추상화
+ * 기본은 S3 (S3ObjectStorage), local-storage 프로필에서는 로컬 파일시스템 (LocalObjectStorage)
+ */
+public interface ObjectStorage {
+
+    // 길이를 아는 소스 업로드
+    CompletableFuture<String> upload(String key, InputStreamSource source, long contentLength, String contentType);
+
+    // 객체 내용을 대상 채널로 보내고 보낸 바이트 수 반환
+    long transferTo(String key, WritableByteChannel target) throws IOException;
+
+    // [offset, offset + length) 구간만 보낸다 (Range 요청용)
+    long transferTo(String key, long offset, long length, WritableByteChannel target) throws IOException;
+
+    // 크기 / ETag / Content-Type 조회, 없는 객체면 empty
+    Optional<ObjectInfo> stat(String key);
+
+    boolean exists(String key);
+
+    void delete(String key);
+
+    // 여러 키를 한 번에 삭제하고 실패한 키를 반환
+    List<String> deleteAll(Collection<String> keys);
+
+    // prefix 아래 객체를 필요한 만큼만 나눠 조회 (사용 후 close)
+    Stream<StoredObject> list(String prefix);
+
+    // 객체 URL (S3 는 공개 URL, 로컬은 서명 URL)
+    String url(String key);
+
+    // 만료 시각까지 유효한 서명 URL, 입력 순서 유지 (null 키는 null)
+    List<String> presign(List<String> keys, Instant expiresAt);
+
+    record StoredObject(String key, long size, Instant lastModified) { }
+
+    // etag 는 따옴표 없이, 내용이 바뀌면 반드시 달라지는 값
+    record ObjectInfo(String key, long size, String etag, String contentType) { }
+}
@@ -0,0 +1,9 @@
+package com.gyeongditor.storyfield.service;
+
+public interface OrphanObjectReaper {
+
+    // DB 에서 참조하지 않는 오래된 스토리 이미지 객체를 정리
+    Result reap();
+
+    record Result(long scanned, long candidates, long deleted, long failed, long durationMs) { }
+}
@@ -0,0 +1,15 @@
+package com.gyeongditor.storyfield.service;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface PresignedUrlService {
+
+    String presign(String key);
+
+    // 입력 순서대로 URL 반환 (키가 null 이면 null), 캐시에 없는 키만 모아 한 번에 서명한다
+    List<String> presign(List<String> keys);
+
+    // 삭제된 객체의 URL 을 캐시에서 뺀다
+    void evict(Collection<String> keys);
+}
@@ -1,6 +1,7 @@
 package com.gyeongditor.storyfield.service;
 
 import com.gyeongditor.storyfield.dto.ApiResponseDTO;
+import com.gyeongditor.storyfield.dto.File.PresignedUrlDTO;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -11,6 +12,15 @@ public interface S3Service {
 
     ApiResponseDTO<String> generatePresignedUrl(String fileName, String accessToken);
 
+    // 여러 키를 한 번에 서명 (입력 순서 유지)
+    List<String> generatePresignedUrls(List<String> fileNames, String accessToken);
+
+    // 일괄 발급 API 용: 토큰은 한 번만 검증하고 키 수를 제한한다
+    ApiResponseDTO<List<PresignedUrlDTO>> generatePresignedUrlBatch(List<String> fileNames, HttpServletRequest request);
+
+    // 오디오 키 일괄 presign (존재 확인은 하지 않는다, 없는 키의 URL 은 404)
+    ApiResponseDTO<List<PresignedUrlDTO>> generateAudioPresignedUrlBatch(List<String> keysOrFileNames, String accessToken);
+
     List<String> uploadFiles(List<MultipartFile> files, String accessToken) throws IOException;
 
     String uploadThumbnailFile(MultipartFile file, String accessToken) throws IOException;
@@ -0,0 +1,11 @@
+package com.gyeongditor.storyfield.service;
+
+import org.springframework.core.io.InputStreamSource;
+
+import java.util.concurrent.CompletableFuture;
+
+public interface S3TransferService {
+
+    // 길이를 아는 소스 업로드 (임계값 이상이면 파트를 나눠 병렬 업로드)
+    CompletableFuture<String> upload(String objectKey, InputStreamSource source, long contentLength, String contentType);
+}
@@ -0,0 +1,22 @@
+package com.gyeongditor.storyfield.service;
+
+import com.gyeongditor.storyfield.dto.Story.StoryFeedView;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+public interface StoryFeedCacheService {
+
+    /**
+     * 최신순 피드의 [offset, offset + limit) 구간을 캐시에서 꺼낸다.
+     * 캐시 범위를 벗어나거나 캐시를 쓸 수 없으면 empty (호출한 쪽이 DB 로 조회한다).
+     */
+    Optional<List<StoryFeedView>> find(int offset, int limit);
+
+    // 저장된 스토리를 사본 앞쪽에 끼워 넣는다 (트랜잭션 안이면 커밋 후에 반영)
+    void added(StoryFeedView story);
+
+    // 삭제된 스토리를 사본에서 뺀다 (트랜잭션 안이면 커밋 후에 반영)
+    void removed(UUID storyId);
+}
@@ -0,0 +1,18 @@
+package com.gyeongditor.storyfield.service;
+
+import com.gyeongditor.storyfield.dto.ApiResponseDTO;
+
+import java.util.function.Supplier;
+
+public interface StoryIdempotencyService {
+
+    /**
+     * 같은 사용자 + Idempotency-Key 요청은 한 번만 처리한다.
+     * 처음 요청은 action 을 실행하고 응답을 보관하며, 처리 중인 중복 요청은 결과를 기다리고,
+     * 완료된 키로 다시 오면 S3/DB 를 거치지 않고 보관된 응답을 돌려준다.
+     *
+     * @param fingerprint 요청 본문 요약, 같은 키로 다른 본문이 오면 거절한다
+     */
+    ApiResponseDTO<String> execute(String userId, String idempotencyKey, String fingerprint,
+                                   Supplier<ApiResponseDTO<String>> action);
+}
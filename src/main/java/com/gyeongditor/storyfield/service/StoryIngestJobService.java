@@ -0,0 +1,21 @@
+package com.gyeongditor.storyfield.service;
+
+import com.gyeongditor.storyfield.dto.ApiResponseDTO;
+import com.gyeongditor.storyfield.dto.Story.StoryIngestJobResponseDTO;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface StoryIngestJobService {
+
+    // 요청을 디스크에 보관하고 202 + 작업 ID 를 바로 반환 (처리는 백그라운드)
+    ResponseEntity<ApiResponseDTO<StoryIngestJobResponseDTO>> acceptStory(HttpServletRequest request,
+                                                                         String saveStoryDtoString,
+                                                                         MultipartFile thumbnailGz,
+                                                                         List<MultipartFile> pageImagesGz);
+
+    ApiResponseDTO<StoryIngestJobResponseDTO> getJob(HttpServletRequest request, UUID jobId);
+}
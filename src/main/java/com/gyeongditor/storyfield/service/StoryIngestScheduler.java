@@ -0,0 +1,31 @@
+package com.gyeongditor.storyfield.service;
+
+public interface StoryIngestScheduler {
+
+    // 스토리 하나의 이미지 수만큼 용량을 확보 (포화 시 RetryableException)
+    Permit admit(int imageCount);
+
+    Snapshot snapshot();
+
+    // null 인 값은 그대로 둔다
+    Snapshot resize(Integer ingestPoolSize, Integer transferPoolSize, Integer maxInFlightImages);
+
+    interface Permit {
+        int images();
+
+        // 여러 번 호출해도 한 번만 반납된다
+        void release();
+    }
+
+    record Snapshot(
+            int maxInFlightImages,
+            int activeImages,
+            int waitingStories,
+            int ingestPoolSize,
+            int ingestActiveThreads,
+            int ingestQueueDepth,
+            int transferPoolSize,
+            int transferActiveThreads,
+            int transferQueueDepth
+    ) { }
+}
@@ -0,0 +1,18 @@
+package com.gyeongditor.storyfield.service;
+
+import com.gyeongditor.storyfield.dto.Story.StoryPageView;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface StoryPageCacheService {
+
+    /**
+     * 스토리 페이지 행을 메모리 → Redis → DB 순으로 찾는다.
+     * 반환 형태는 StoryRepository.findPageViewsByStoryId 와 같다 (없는 스토리는 빈 목록).
+     */
+    List<StoryPageView> find(UUID storyId);
+
+    // 모든 인스턴스의 사본을 지운다 (트랜잭션 안이면 커밋 후에 반영)
+    void evict(UUID storyId);
+}
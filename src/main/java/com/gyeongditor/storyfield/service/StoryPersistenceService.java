@@ -5,8 +5,12 @@ import com.gyeongditor.storyfield.dto.ApiResponseDTO;
 import com.gyeongditor.storyfield.dto.Story.SaveStoryDTO;
 
 import java.util.List;
+import java.util.UUID;
 
 public interface StoryPersistenceService {
 
     ApiResponseDTO<String> saveStory(User user, SaveStoryDTO dto, String thumbnailKey, List<String> pageImageKeys);
+
+    // 저장된 스토리 ID 반환 (비동기 생성 작업 완료 기록용)
+    UUID persistStory(User user, SaveStoryDTO dto, String thumbnailKey, List<String> pageImageKeys);
 }
\ No newline at end of file
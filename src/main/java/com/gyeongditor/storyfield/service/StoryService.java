@@ -1,8 +1,12 @@
 package com.gyeongditor.storyfield.service;
 
+import com.gyeongditor.storyfield.Entity.User;
 import com.gyeongditor.storyfield.dto.ApiResponseDTO;
+import com.gyeongditor.storyfield.dto.Story.StoryFeedResponseDTO;
+import com.gyeongditor.storyfield.dto.Story.StoryImageSource;
 import com.gyeongditor.storyfield.dto.Story.StoryPageResponseDTO;
 import com.gyeongditor.storyfield.dto.Story.StoryThumbnailResponseDTO;
+import com.gyeongditor.storyfield.dto.Story.UploadedStoryImages;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -12,14 +16,22 @@ import java.util.UUID;
 
 public interface StoryService {
 
+    // idempotencyKey 가 있으면 같은 키의 재시도는 한 번만 처리한다 (null 이면 매번 처리)
     ApiResponseDTO<String> saveStoryFromFastApi(HttpServletRequest request,
+                                                String idempotencyKey,
                                                 String saveStoryDtoString,
                                                 MultipartFile thumbnailGz,
                                                 List<MultipartFile> pageImagesGz) throws IOException;
 
+    // 썸네일/페이지 이미지를 해제해 S3에 올리고 키를 돌려준다 (동기/비동기 생성 공용)
+    UploadedStoryImages uploadStoryImages(User user, StoryImageSource thumbnail, List<StoryImageSource> pageImages);
+
     ApiResponseDTO<List<StoryPageResponseDTO>> getStoryPages(UUID storyId, HttpServletRequest request);
 
     ApiResponseDTO<List<StoryThumbnailResponseDTO>> getMainPageStories(int page, HttpServletRequest request);
 
+    // 최신순 피드를 커서로 이어서 조회 (cursor 가 없으면 처음부터)
+    ApiResponseDTO<StoryFeedResponseDTO> getStoryFeed(String cursor, int size, HttpServletRequest request);
+
     ApiResponseDTO<Void> deleteStory(HttpServletRequest request, UUID storyId);
 }
\ No newline at end of file
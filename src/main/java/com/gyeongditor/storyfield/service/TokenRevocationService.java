@@ -0,0 +1,10 @@
+package com.gyeongditor.storyfield.service;
+
+public interface TokenRevocationService {
+
+    // 로그아웃 등으로 폐기된 토큰인지 (인스턴스 메모리 사본에서 확인)
+    boolean isRevoked(String tokenId);
+
+    // 토큰을 폐기하고 모든 인스턴스에 알린다, 이미 폐기된 토큰이면 false
+    boolean revoke(String tokenId, long expireInSeconds);
+}
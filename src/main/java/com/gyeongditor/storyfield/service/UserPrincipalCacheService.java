@@ -0,0 +1,14 @@
+package com.gyeongditor.storyfield.service;
+
+import com.gyeongditor.storyfield.Entity.CustomUserDetails;
+
+import java.util.function.Function;
+
+public interface UserPrincipalCacheService {
+
+    // 이메일로 인증 주체를 찾고, 없거나 만료됐으면 loader 로 읽어 보관한다
+    CustomUserDetails findByEmail(String email, Function<String, CustomUserDetails> loader);
+
+    // 해당 사용자의 사본을 모든 인스턴스에서 지운다 (트랜잭션 안이면 커밋 후에 반영)
+    void evict(String userId);
+}
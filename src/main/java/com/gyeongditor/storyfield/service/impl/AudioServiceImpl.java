@@ -1,6 +1,7 @@
 package com.gyeongditor.storyfield.service.impl;
 
 import com.gyeongditor.storyfield.dto.ApiResponseDTO;
+import com.gyeongditor.storyfield.dto.File.PresignedUrlDTO;
 import com.gyeongditor.storyfield.service.AudioService;
 import com.gyeongditor.storyfield.service.AuthService;
 import com.gyeongditor.storyfield.service.S3Service;
@@ -9,6 +10,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 public class AudioServiceImpl implements AudioService {
@@ -32,6 +35,12 @@ public class AudioServiceImpl implements AudioService {
         return s3Service.generateDownloadPresignedUrl(keyOrFileName, accessToken);
     }
 
+    // 여러 오디오 키를 한 번에 presign
+    public ApiResponseDTO<List<PresignedUrlDTO>> generateDownloadPresignedUrls(List<String> keysOrFileNames, HttpServletRequest request) {
+        String accessToken = authService.extractAccessToken(request);
+        return s3Service.generateAudioPresignedUrlBatch(keysOrFileNames, accessToken);
+    }
+
     public ApiResponseDTO<Void> deleteAudio(String fileName, HttpServletRequest request) {
         String accessToken = authService.extractAccessToken(request);
         return s3Service.deleteAudioFile(fileName, accessToken);
@@ -8,6 +8,7 @@ import com.gyeongditor.storyfield.repository.UserRepository;
 import com.gyeongditor.storyfield.response.ErrorCode;
 import com.gyeongditor.storyfield.response.SuccessCode;
 import com.gyeongditor.storyfield.service.CustomUserDetailsService;
+import com.gyeongditor.storyfield.service.UserPrincipalCacheService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -22,6 +23,7 @@ import java.util.UUID;
 public class CustomUserDetailsServiceImpl implements CustomUserDetailsService {
 
     private final UserRepository userRepository;
+    private final UserPrincipalCacheService userPrincipalCacheService;
     private static final int MAX_FAILED_ATTEMPTS = 5;
     private static final int LOCKOUT_MINUTES = 1;
 
@@ -78,6 +80,7 @@ public class CustomUserDetailsServiceImpl implements CustomUserDetailsService {
                 user.lockAccount();
             }
             userRepository.save(user);
+            userPrincipalCacheService.evict(user.getUserId());
 
             log.warn(ApiResponseDTO.success(SuccessCode.AUTH_200_006,
                     "현재 실패 횟수: " + user.getFailedLoginAttempts()).toString());
@@ -89,6 +92,7 @@ public class CustomUserDetailsServiceImpl implements CustomUserDetailsService {
         userRepository.findByEmail(email).ifPresent(user -> {
             user.resetFailedLoginAttempts();
             userRepository.save(user);
+            userPrincipalCacheService.evict(user.getUserId());
 
             log.info(ApiResponseDTO.success(SuccessCode.AUTH_200_005, email).toString());
         });
@@ -108,6 +112,11 @@ public class CustomUserDetailsServiceImpl implements CustomUserDetailsService {
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_404_002));
     }
 
+    @Override
+    public CustomUserDetails loadPrincipalByEmail(String email) {
+        return userPrincipalCacheService.findByEmail(email, key -> (CustomUserDetails) loadUserByUsername(key));
+    }
+
     @Override
     public CustomUserDetails loadUserByUUID(String uuid) {
         User user = userRepository.findById(uuid)
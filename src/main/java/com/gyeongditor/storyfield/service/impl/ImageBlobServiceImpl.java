@@ -0,0 +1,196 @@
+package com.gyeongditor.storyfield.service.impl;
+
+import com.gyeongditor.storyfield.config.IngestProperties;
+import com.gyeongditor.storyfield.exception.CustomException;
+import com.gyeongditor.storyfield.repository.ImageBlobIndexRedisRepository;
+import com.gyeongditor.storyfield.repository.StoryPageRepository;
+import com.gyeongditor.storyfield.repository.StoryRepository;
+import com.gyeongditor.storyfield.response.ErrorCode;
+import com.gyeongditor.storyfield.service.ImageBlobService;
+import com.gyeongditor.storyfield.service.ImageDerivativeService;
+import com.gyeongditor.storyfield.service.ImageVariant;
+import com.gyeongditor.storyfield.service.ObjectStorage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * 스토리 이미지 저장소
+ * 해제된 PNG 를 임시 파일로 내려쓴 뒤 원본 업로드와 파생본 생성을 함께 진행한다.
+ * 콘텐츠 주소 모드에서는 내려쓰면서 SHA-256 을 계산하고, 같은 해시가 이미 올라가 있으면 업로드를 생략한다.
+ * 참조 수는 story_page.imageFileName / story.thumbnailFileName 을 직접 센다.
+ * 저장 중인 요청은 해시 리스를, 삭제는 삭제 표식을 Redis 에 남겨 커밋 전 참조와 삭제가 엇갈리지 않게 한다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ImageBlobServiceImpl implements ImageBlobService {
+
+    private static final String KEY_PREFIX = "cas/";
+    private static final String KEY_SUFFIX = ".png";
+    private static final int COPY_BUFFER_SIZE = 8 * 1024;
+
+    private final ObjectStorage objectStorage;
+    private final ImageDerivativeService imageDerivativeService;
+    private final IngestProperties ingestProperties;
+    private final ImageBlobIndexRedisRepository imageBlobIndexRedisRepository;
+    private final StoryPageRepository storyPageRepository;
+    private final StoryRepository storyRepository;
+
+    @Override
+    public CompletableFuture<String> storePng(InputStream png, String uuidKey) throws IOException {
+        final long startTime = System.currentTimeMillis();
+        final boolean contentAddressed = ingestProperties.isContentAddressed();
+        final Path spool = createSpoolFile();
+        final MessageDigest sha256 = contentAddressed ? newSha256() : null;
+        long size = 0;
+
+        try (OutputStream out = Files.newOutputStream(spool)) {
+            final byte[] buffer = new byte[COPY_BUFFER_SIZE];
+            int read;
+            // 읽기 오류(IOException)는 해제 실패로 그대로 올리고, 임시 파일 쓰기 오류만 서버 오류로 바꾼다
+            while ((read = png.read(buffer)) != -1) {
+                if (sha256 != null) {
+                    sha256.update(buffer, 0, read);
+                }
+                write(out, buffer, read);
+                size += read;
+            }
+        } catch (IOException | RuntimeException e) {
+            deleteQuietly(spool);
+            throw e;
+        }
+
+        final String hash = sha256 != null ? leaseHash(HexFormat.of().formatHex(sha256.digest())) : null;
+        final String objectKey = hash != null ? toObjectKey(hash) : uuidKey;
+
+        if (hash != null && imageBlobIndexRedisRepository.contains(hash)) {
+            deleteQuietly(spool);
+            log.info("이미지중복업로드생략 key={} size={}KB duration={}ms",
+                    objectKey, size / 1024, System.currentTimeMillis() - startTime);
+            return CompletableFuture.completedFuture(objectKey);
+        }
+
+        // 원본 업로드와 파생본 생성은 같은 임시 파일을 읽으며 동시에 진행된다
+        final CompletableFuture<String> original =
+                objectStorage.upload(objectKey, new FileSystemResource(spool), size, "image/png");
+        final CompletableFuture<Void> derivatives = imageDerivativeService.generate(objectKey, spool);
+
+        return CompletableFuture.allOf(original, derivatives)
+                .thenApply(done -> {
+                    // 파생본까지 모두 올라간 뒤에만 인덱스에 등록해야 중복 생략 시 크기별 URL 이 유효하다
+                    if (hash != null) {
+                        imageBlobIndexRedisRepository.add(hash);
+                    }
+                    return objectKey;
+                })
+                .whenComplete((key, ex) -> deleteQuietly(spool));
+    }
+
+    @Override
+    public boolean isContentAddressed(String objectKey) {
+        return objectKey != null && objectKey.startsWith(KEY_PREFIX);
+    }
+
+    @Override
+    public List<String> unreferenced(Collection<String> objectKeys) {
+        // 원본과 파생본 키가 함께 들어오므로 원본 키마다 한 번만 판단한다
+        final Map<String, Boolean> released = new HashMap<>();
+        return new LinkedHashSet<>(objectKeys).stream()
+                .filter(key -> !isContentAddressed(key)
+                        || released.computeIfAbsent(ImageVariant.baseKeyOf(key).orElse(key), this::release))
+                .toList();
+    }
+
+    @Override
+    public void deleted(Collection<String> objectKeys) {
+        objectKeys.stream()
+                .filter(this::isContentAddressed)
+                .map(key -> hashOf(ImageVariant.baseKeyOf(key).orElse(key)))
+                .distinct()
+                .forEach(imageBlobIndexRedisRepository::clearDeleting);
+    }
+
+    // 인덱스를 보기 전에 리스를 잡아 저장이 끝날 때까지 삭제가 이 객체를 지우지 못하게 한다
+    // 같은 해시를 지우는 중이면(또는 Redis 오류면) null, 이번 이미지는 공유하지 않고 UUID 키로 올린다
+    private String leaseHash(String hash) {
+        if (imageBlobIndexRedisRepository.lease(hash, ingestProperties.getBlobLease())) {
+            return hash;
+        }
+        log.info("공유이미지사용불가 hash={} reason=삭제 중이거나 리스 실패", hash);
+        return null;
+    }
+
+    // 아무도 참조하지 않고 저장 중인 스토리의 리스도 없으면 삭제 표식을 남기고 true (호출자가 S3 객체를 지운다)
+    // 표식이 남아 있는 동안 같은 이미지를 저장하는 요청은 UUID 키를 쓰므로 지워질 객체를 가리키지 않는다
+    private boolean release(String objectKey) {
+        long references = storyPageRepository.countByImageFileName(objectKey)
+                + storyRepository.countByThumbnailFileName(objectKey);
+        if (references > 0) {
+            log.info("공유이미지유지 key={} references={}", objectKey, references);
+            return false;
+        }
+        if (!imageBlobIndexRedisRepository.markDeleting(hashOf(objectKey))) {
+            log.info("공유이미지유지 key={} reason=저장 중인 요청의 리스", objectKey);
+            return false;
+        }
+        return true;
+    }
+
+    private static String toObjectKey(String hash) {
+        // 앞 두 글자로 프리픽스를 나눠 S3 키 분포를 고르게 한다
+        return KEY_PREFIX + hash.substring(0, 2) + "/" + hash + KEY_SUFFIX;
+    }
+
+    private static String hashOf(String objectKey) {
+        return objectKey.substring(objectKey.lastIndexOf('/') + 1, objectKey.length() - KEY_SUFFIX.length());
+    }
+
+    private static MessageDigest newSha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다", e);
+        }
+    }
+
+    private static Path createSpoolFile() {
+        try {
+            return Files.createTempFile("story-image-", KEY_SUFFIX);
+        } catch (IOException e) {
+            throw new CustomException(ErrorCode.FILE_500_001, "이미지 임시 파일 생성 실패");
+        }
+    }
+
+    private static void write(OutputStream out, byte[] buffer, int length) {
+        try {
+            out.write(buffer, 0, length);
+        } catch (IOException e) {
+            throw new CustomException(ErrorCode.FILE_500_001, "이미지 임시 파일 쓰기 실패");
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("임시파일삭제실패 path={} error={}", path, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.gyeongditor.storyfield.service.impl;
+
+import com.gyeongditor.storyfield.config.IngestProperties;
+import com.gyeongditor.storyfield.exception.CustomException;
+import com.gyeongditor.storyfield.response.ErrorCode;
+import com.gyeongditor.storyfield.service.ImageDerivativeService;
+import com.gyeongditor.storyfield.service.ImageVariant;
+import com.gyeongditor.storyfield.service.ObjectStorage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.io.ByteArrayResource;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * 스토리 이미지 파생본 생성
+ * 원본을 한 번만 디코딩하고, 크기별 축소/인코딩/업로드는 imageDerivativeExecutor 에서 병렬로 진행한다.
+ * 디코딩은 ImageReader 의 서브샘플링으로 필요한 해상도만 읽어 원본 전체 래스터를 힙에 올리지 않는다.
+ * 파생본을 만들지 못하면 원본을 파생본 키에 그대로 올려 스토리 업로드는 계속 진행한다.
+ */
+@Slf4j
+@Service
+public class ImageDerivativeServiceImpl implements ImageDerivativeService {
+
+    private final ObjectStorage objectStorage;
+    private final IngestProperties ingestProperties;
+    private final TaskExecutor derivativeExecutor;
+
+    public ImageDerivativeServiceImpl(
+            ObjectStorage objectStorage,
+            IngestProperties ingestProperties,
+            @Qualifier("imageDerivativeExecutor") TaskExecutor derivativeExecutor
+    ) {
+        this.objectStorage = objectStorage;
+        this.ingestProperties = ingestProperties;
+        this.derivativeExecutor = derivativeExecutor;
+        // 디코딩 중 ImageIO 가 임시 파일 캐시를 만들지 않도록
+        ImageIO.setUseCache(false);
+    }
+
+    @Override
+    public CompletableFuture<Void> generate(String baseKey, Path png) {
+        final long startTime = System.currentTimeMillis();
+        final int decodeWidth = Math.max(ingestProperties.getFeedWidth(), ingestProperties.getPreviewWidth());
+        return CompletableFuture.supplyAsync(() -> decode(png, decodeWidth), derivativeExecutor)
+                .thenCompose(image -> CompletableFuture.allOf(
+                        resizeAndUpload(image, ImageVariant.FEED.keyFor(baseKey), ingestProperties.getFeedWidth()),
+                        resizeAndUpload(image, ImageVariant.PREVIEW.keyFor(baseKey), ingestProperties.getPreviewWidth())
+                ))
+                .whenComplete((done, ex) -> {
+                    if (ex == null) {
+                        log.info("이미지파생본생성완료 key={} duration={}ms", baseKey, System.currentTimeMillis() - startTime);
+                    }
+                })
+                .exceptionallyCompose(ex -> {
+                    log.warn("이미지파생본생성실패 key={} error={} fallback=원본", baseKey, rootMessage(ex));
+                    return uploadOriginalAsDerivatives(baseKey, png);
+                });
+    }
+
+    // 파생본 URL 이 깨지지 않도록 원본을 크기별 키에 그대로 올린다 (스토리지 오류는 그대로 실패)
+    private CompletableFuture<Void> uploadOriginalAsDerivatives(String baseKey, Path png) {
+        final long size;
+        try {
+            size = Files.size(png);
+        } catch (IOException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return CompletableFuture.allOf(
+                objectStorage.upload(ImageVariant.FEED.keyFor(baseKey), new FileSystemResource(png), size, "image/png"),
+                objectStorage.upload(ImageVariant.PREVIEW.keyFor(baseKey), new FileSystemResource(png), size, "image/png")
+        );
+    }
+
+    private CompletableFuture<String> resizeAndUpload(BufferedImage source, String objectKey, int width) {
+        return CompletableFuture.supplyAsync(() -> encodePng(resize(source, width)), derivativeExecutor)
+                .thenCompose(bytes -> objectStorage.upload(
+                        objectKey, new ByteArrayResource(bytes), bytes.length, "image/png"));
+    }
+
+    // 가장 큰 파생본 폭의 2배 이상, 디코딩 픽셀 수 상한 이하가 되도록 행/열을 건너뛰며 읽는다
+    private BufferedImage decode(Path png, int targetWidth) {
+        try (ImageInputStream in = ImageIO.createImageInputStream(png.toFile())) {
+            Iterator<ImageReader> readers = in != null ? ImageIO.getImageReaders(in) : Collections.emptyIterator();
+            if (!readers.hasNext()) {
+                throw new CompletionException(new CustomException(ErrorCode.STORY_400_003, "PNG 이미지를 읽을 수 없습니다"));
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(in, true, true);
+                final int width = reader.getWidth(0);
+                final int height = reader.getHeight(0);
+                final int step = subsampling(width, height, targetWidth, ingestProperties.getDerivativeMaxDecodePixels());
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                if (step > 1) {
+                    param.setSourceSubsampling(step, step, 0, 0);
+                }
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
+            }
+        } catch (IOException e) {
+            throw new CompletionException(new CustomException(ErrorCode.STORY_400_003, "PNG 이미지를 읽을 수 없습니다"));
+        }
+    }
+
+    private static int subsampling(int width, int height, int targetWidth, long maxDecodePixels) {
+        final int byWidth = Math.max(1, width / (targetWidth * 2));
+        final int byPixels = (int) Math.ceil(Math.sqrt((double) width * height / Math.max(maxDecodePixels, 1)));
+        return Math.max(byWidth, Math.max(byPixels, 1));
+    }
+
+    // 목표 폭보다 크면 절반씩 줄여 가며 축소 (한 번에 크게 줄이면 bilinear 에서 계단 현상이 생긴다)
+    private static BufferedImage resize(BufferedImage source, int targetWidth) {
+        if (source.getWidth() <= targetWidth) {
+            return source;
+        }
+        final int targetHeight = Math.max(1, (int) Math.round((double) source.getHeight() * targetWidth / source.getWidth()));
+
+        BufferedImage current = source;
+        int width = source.getWidth();
+        int height = source.getHeight();
+        while (width != targetWidth) {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            current = scale(current, width, height);
+        }
+        return current;
+    }
+
+    private static BufferedImage scale(BufferedImage source, int width, int height) {
+        BufferedImage scaled = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g = scaled.createGraphics();
+        try {
+            g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            g.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            g.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            g.dispose();
+        }
+        return scaled;
+    }
+
+    private static String rootMessage(Throwable ex) {
+        Throwable cause = ex;
+        while ((cause instanceof CompletionException || cause instanceof ExecutionException) && cause.getCause() != null) {
+            cause = cause.getCause();
+        }
+        return cause instanceof CustomException custom ? custom.getCustomMessage() : String.valueOf(cause.getMessage());
+    }
+
+    private static byte[] encodePng(BufferedImage image) {
+        try {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            ImageIO.write(image, "png", out);
+            return out.toByteArray();
+        } catch (IOException e) {
+            throw new CompletionException(e);
+        }
+    }
+}
@@ -0,0 +1,142 @@
+package com.gyeongditor.storyfield.service.impl;
+
+import com.gyeongditor.storyfield.config.IngestProperties;
+import com.gyeongditor.storyfield.service.IngestBufferPool;
+import com.gyeongditor.storyfield.util.PooledGzipInputStream;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.CRC32;
+import java.util.zip.Inflater;
+
+/**
+ * 인제스트 gzip 해제용 Inflater/버퍼 풀
+ * 풀 크기는 storyImageTaskExecutor 코어 스레드 수를 따라가서 워커마다 한 벌씩 유지된다 (런타임 resize 반영).
+ * 풀이 가득 찬 상태에서 반납된 객체는 버리고 Inflater 는 즉시 end() 로 네이티브 메모리를 돌려준다.
+ */
+@Service
+public class IngestBufferPoolImpl implements IngestBufferPool {
+
+    // Inflater 하나가 잡는 네이티브 메모리 추정치 (zlib inflate 상태 + 32KB 윈도우)
+    private static final long INFLATER_NATIVE_BYTES = 40 * 1024;
+
+    private final IngestProperties ingestProperties;
+    private final ThreadPoolTaskExecutor ingestExecutor;
+
+    private final Deque<Entry> idle = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger idleCount = new AtomicInteger();
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter allocated;
+    private final DistributionSummary allocatedPerStory;
+
+    public IngestBufferPoolImpl(
+            IngestProperties ingestProperties,
+            @Qualifier("storyImageTaskExecutor") ThreadPoolTaskExecutor ingestExecutor,
+            MeterRegistry meterRegistry
+    ) {
+        this.ingestProperties = ingestProperties;
+        this.ingestExecutor = ingestExecutor;
+
+        this.hits = Counter.builder("story.ingest.buffer.pool").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("story.ingest.buffer.pool").tag("result", "miss").register(meterRegistry);
+        this.allocated = Counter.builder("story.ingest.buffer.allocated")
+                .description("풀에 없어서 새로 할당한 버퍼/Inflater 바이트")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        this.allocatedPerStory = DistributionSummary.builder("story.ingest.buffer.allocated.per.story")
+                .description("스토리 하나를 해제하는 동안 새로 할당한 바이트")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+        Gauge.builder("story.ingest.buffer.pool.idle", idleCount, AtomicInteger::get)
+                .register(meterRegistry);
+    }
+
+    @Override
+    public InputStream openGzip(InputStream gz, LongAdder allocatedBytes) throws IOException {
+        Entry entry = idle.pollFirst();
+        if (entry != null) {
+            idleCount.decrementAndGet();
+            hits.increment();
+        } else {
+            entry = newEntry();
+            misses.increment();
+            allocated.increment(entry.footprint());
+            allocatedBytes.add(entry.footprint());
+        }
+
+        final Entry leased = entry;
+        final AtomicBoolean returned = new AtomicBoolean();
+        try {
+            return new PooledGzipInputStream(gz, leased.inflater(), leased.crc(), leased.readBuffer(), leased.inputBuffer()) {
+                @Override
+                public void close() throws IOException {
+                    try {
+                        super.close();
+                    } finally {
+                        if (returned.compareAndSet(false, true)) {
+                            release(leased);
+                        }
+                    }
+                }
+            };
+        } catch (IOException | RuntimeException e) {
+            // 헤더 오류로 생성에 실패해도 빌린 객체는 돌려준다
+            release(leased);
+            throw e;
+        }
+    }
+
+    @Override
+    public void recordStoryAllocation(long bytes) {
+        allocatedPerStory.record(bytes);
+    }
+
+    private void release(Entry entry) {
+        entry.inflater().reset();
+        entry.crc().reset();
+        // 설정이 바뀌어 크기/종류가 달라진 버퍼는 다시 넣지 않는다
+        if (!entry.matches(bufferSize(), ingestProperties.isDirectBuffers())
+                || idleCount.get() >= ingestExecutor.getCorePoolSize()) {
+            entry.inflater().end();
+            return;
+        }
+        idleCount.incrementAndGet();
+        idle.offerFirst(entry);
+    }
+
+    private Entry newEntry() {
+        int size = bufferSize();
+        ByteBuffer inputBuffer = ingestProperties.isDirectBuffers() ? ByteBuffer.allocateDirect(size) : null;
+        return new Entry(new Inflater(true), new CRC32(), new byte[size], inputBuffer);
+    }
+
+    private int bufferSize() {
+        return (int) ingestProperties.getInflateBufferSize().toBytes();
+    }
+
+    private record Entry(Inflater inflater, CRC32 crc, byte[] readBuffer, ByteBuffer inputBuffer) {
+
+        long footprint() {
+            return INFLATER_NATIVE_BYTES + readBuffer.length + (inputBuffer != null ? inputBuffer.capacity() : 0);
+        }
+
+        boolean matches(int size, boolean direct) {
+            return readBuffer.length == size && (inputBuffer != null) == direct;
+        }
+    }
+}
@@ -0,0 +1,319 @@
+package com.gyeongditor.storyfield.service.impl;
+
+import com.gyeongditor.storyfield.config.LocalStorageProperties;
+import com.gyeongditor.storyfield.exception.CustomException;
+import com.gyeongditor.storyfield.response.ErrorCode;
+import com.gyeongditor.storyfield.service.ObjectStorage;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.util.StringUtils;
+import org.springframework.web.util.UriUtils;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Stream;
+
+/**
+ * 로컬 파일시스템 백엔드 (local-storage 프로필)
+ * 쓰기는 같은 디렉터리의 임시 파일에 FileChannel 로 받은 뒤 원자적으로 이름을 바꾸고,
+ * 읽기는 FileChannel.transferTo 로 내보낸다 (대상이 소켓 채널이면 커널 sendfile 로 처리된다).
+ * presign 대신 HMAC-SHA256 으로 서명한 /storage/{key}?expires=&signature= URL 을 발급한다.
+ */
+@Slf4j
+@Service
+@Profile("local-storage")
+public class LocalObjectStorage implements ObjectStorage {
+
+    private static final String URL_PATH = "/storage/";
+    private static final String TEMP_PREFIX = ".upload-";
+    private static final String HMAC = "HmacSHA256";
+    // transferFrom/transferTo 한 번에 넘길 최대 바이트
+    private static final long TRANSFER_CHUNK = 8L * 1024 * 1024;
+
+    private final LocalStorageProperties properties;
+    private final TaskExecutor ioExecutor;
+    private final Path root;
+    private final SecretKeySpec signingKey;
+
+    public LocalObjectStorage(
+            LocalStorageProperties properties,
+            @Qualifier("s3TransferExecutor") TaskExecutor ioExecutor
+    ) throws IOException {
+        this.properties = properties;
+        this.ioExecutor = ioExecutor;
+        this.root = Files.createDirectories(Paths.get(properties.getRoot())).toRealPath();
+        this.signingKey = new SecretKeySpec(signingKeyBytes(properties.getSigningKey()), HMAC);
+        log.info("로컬스토리지사용 root={}", root);
+    }
+
+    @Override
+    public CompletableFuture<String> upload(String key, InputStreamSource source, long contentLength, String contentType) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                write(key, source);
+                return key;
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            }
+        }, ioExecutor);
+    }
+
+    @Override
+    public long transferTo(String key, WritableByteChannel target) throws IOException {
+        Path path = resolve(key);
+        if (!Files.isRegularFile(path)) {
+            throw new CustomException(ErrorCode.FILE_404_001);
+        }
+        return transferTo(path, target);
+    }
+
+    @Override
+    public long transferTo(String key, long offset, long length, WritableByteChannel target) throws IOException {
+        Path path = resolve(key);
+        if (!Files.isRegularFile(path)) {
+            throw new CustomException(ErrorCode.FILE_404_001);
+        }
+        return transferTo(path, offset, length, target);
+    }
+
+    @Override
+    public Optional<ObjectInfo> stat(String key) {
+        Path path = resolve(key);
+        try {
+            long size = Files.size(path);
+            long modified = Files.getLastModifiedTime(path).toMillis();
+            // 쓰기는 항상 새 파일로 교체되므로 크기 + 수정 시각이 같으면 같은 내용
+            return Optional.of(new ObjectInfo(key, size,
+                    Long.toHexString(size) + "-" + Long.toHexString(modified),
+                    MediaTypeFactory.getMediaType(key).orElse(MediaType.APPLICATION_OCTET_STREAM).toString()));
+        } catch (NoSuchFileException e) {
+            return Optional.empty();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return Files.isRegularFile(resolve(key));
+    }
+
+    @Override
+    public void delete(String key) {
+        try {
+            Files.deleteIfExists(resolve(key));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public List<String> deleteAll(Collection<String> keys) {
+        List<String> failed = new ArrayList<>();
+        for (String key : keys) {
+            try {
+                Files.deleteIfExists(resolve(key));
+            } catch (IOException | RuntimeException e) {
+                log.warn("로컬객체삭제실패 key={} error={}", key, e.getMessage());
+                failed.add(key);
+            }
+        }
+        return failed;
+    }
+
+    @Override
+    public Stream<StoredObject> list(String prefix) {
+        // prefix 가 디렉터리 경계가 아닐 수도 있으므로 가장 가까운 상위 디렉터리부터 훑고 키로 거른다
+        final int slash = prefix.lastIndexOf('/');
+        final Path start = slash < 0 ? root : resolve(prefix.substring(0, slash));
+        if (!Files.isDirectory(start)) {
+            return Stream.empty();
+        }
+        try {
+            return Files.walk(start)
+                    .filter(Files::isRegularFile)
+                    .filter(path -> !path.getFileName().toString().startsWith(TEMP_PREFIX))
+                    .map(this::toStoredObject)
+                    .filter(object -> object.key().startsWith(prefix));
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public String url(String key) {
+        return presign(List.of(key), Instant.now().plus(properties.getUrlTtl())).get(0);
+    }
+
+    @Override
+    public List<String> presign(List<String> keys, Instant expiresAt) {
+        final long expires = expiresAt.getEpochSecond();
+        final Mac mac = newMac();
+        final List<String> urls = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            urls.add(key != null
+                    ? properties.getBaseUrl() + URL_PATH + UriUtils.encodePath(key, StandardCharsets.UTF_8)
+                        + "?expires=" + expires + "&signature=" + sign(mac, key, expires)
+                    : null);
+        }
+        return urls;
+    }
+
+    // 서명 URL 검증 후 파일 경로 반환 (만료/위조 403, 없는 객체 404)
+    public Path verifiedPath(String key, long expires, String signature) {
+        if (expires < Instant.now().getEpochSecond()
+                || signature == null
+                || !MessageDigest.isEqual(
+                        sign(newMac(), key, expires).getBytes(StandardCharsets.US_ASCII),
+                        signature.getBytes(StandardCharsets.US_ASCII))) {
+            throw new CustomException(ErrorCode.FILE_403_001);
+        }
+        Path path = resolve(key);
+        if (!Files.isRegularFile(path)) {
+            throw new CustomException(ErrorCode.FILE_404_001);
+        }
+        return path;
+    }
+
+    // 파일 내용을 그대로 대상 채널로 보낸다 (사용자 공간 버퍼를 거치지 않음)
+    public static long transferTo(Path path, WritableByteChannel target) throws IOException {
+        return transferTo(path, 0, Long.MAX_VALUE, target);
+    }
+
+    // [offset, offset + length) 구간만 보낸다, 파일 끝을 넘는 부분은 무시
+    public static long transferTo(Path path, long offset, long length, WritableByteChannel target) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return transferTo(channel, offset, length, target);
+        }
+    }
+
+    // 이미 열린 채널에서 보낸다 (닫는 것은 호출자 책임)
+    public static long transferTo(FileChannel channel, long offset, long length, WritableByteChannel target) throws IOException {
+        final long end = Math.min(channel.size(), offset + Math.min(length, Long.MAX_VALUE - offset));
+        long position = offset;
+        while (position < end) {
+            position += channel.transferTo(position, Math.min(TRANSFER_CHUNK, end - position), target);
+        }
+        return Math.max(0, position - offset);
+    }
+
+    private void write(String key, InputStreamSource source) throws IOException {
+        // 스풀 파일처럼 디스크에 있는 소스는 파일 채널끼리 바로 복사한다
+        if (source instanceof FileSystemResource file) {
+            try (FileChannel in = FileChannel.open(file.getFile().toPath(), StandardOpenOption.READ)) {
+                writeFrom(key, in);
+            }
+            return;
+        }
+        try (InputStream in = source.getInputStream()) {
+            writeFrom(key, Channels.newChannel(in));
+        }
+    }
+
+    private void writeFrom(String key, ReadableByteChannel in) throws IOException {
+        final Path target = resolve(key);
+        final Path parent = Files.createDirectories(target.getParent());
+        final Path temp = Files.createTempFile(parent, TEMP_PREFIX, ".tmp");
+        try {
+            try (FileChannel out = FileChannel.open(temp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                if (in instanceof FileChannel file) {
+                    long position = 0;
+                    final long size = file.size();
+                    while (position < size) {
+                        position += file.transferTo(position, Math.min(TRANSFER_CHUNK, size - position), out);
+                    }
+                } else {
+                    long position = 0;
+                    long transferred;
+                    // 블로킹 채널에서 0 은 스트림 끝
+                    while ((transferred = out.transferFrom(in, position, TRANSFER_CHUNK)) > 0) {
+                        position += transferred;
+                    }
+                }
+            }
+            // 읽는 쪽이 쓰다 만 파일을 보지 않도록 다 쓴 뒤 원자적으로 교체
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+    }
+
+    // 키를 루트 아래 경로로 바꾼다 (루트 밖을 가리키는 키는 거절)
+    private Path resolve(String key) {
+        if (!StringUtils.hasText(key)) {
+            throw new CustomException(ErrorCode.FILE_400_002, "파일 키가 비어 있습니다");
+        }
+        Path path = root.resolve(key).normalize();
+        if (!path.startsWith(root) || path.equals(root)) {
+            throw new CustomException(ErrorCode.FILE_400_002, "허용되지 않은 파일 키입니다: " + key);
+        }
+        return path;
+    }
+
+    private StoredObject toStoredObject(Path path) {
+        try {
+            String key = root.relativize(path).toString().replace('\\', '/');
+            return new StoredObject(key, Files.size(path), Files.getLastModifiedTime(path).toInstant());
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private Mac newMac() {
+        try {
+            Mac mac = Mac.getInstance(HMAC);
+            mac.init(signingKey);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException("HMAC-SHA256 을 사용할 수 없습니다", e);
+        }
+    }
+
+    private static String sign(Mac mac, String key, long expires) {
+        byte[] digest = mac.doFinal((key + "\n" + expires).getBytes(StandardCharsets.UTF_8));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+    }
+
+    private static byte[] signingKeyBytes(String configured) {
+        if (StringUtils.hasText(configured)) {
+            return configured.getBytes(StandardCharsets.UTF_8);
+        }
+        log.warn("로컬스토리지서명키미설정 재시작하면 이전에 발급한 URL 은 무효가 됩니다");
+        byte[] random = new byte[32];
+        new SecureRandom().nextBytes(random);
+        return random;
+    }
+}
@@ -0,0 +1,376 @@
+package com.gyeongditor.storyfield.service.impl;
+
+import com.gyeongditor.storyfield.config.ObjectProxyProperties;
+import com.gyeongditor.storyfield.exception.CustomException;
+import com.gyeongditor.storyfield.response.ErrorCode;
+import com.gyeongditor.storyfield.service.ObjectProxyService;
+import com.gyeongditor.storyfield.service.ObjectStorage;
+import com.gyeongditor.storyfield.service.ObjectStorage.ObjectInfo;
+import com.gyeongditor.storyfield.util.StorageKeys;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.MediaTypeFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.util.FileSystemUtils;
+import org.springframework.util.StringUtils;
+import org.springframework.web.util.UriUtils;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HexFormat;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+/**
+ * 스토리지 객체 스트리밍 프록시
+ * 자주 열리는 객체(피드 썸네일, 첫 페이지 등)는 로컬 디스크 LRU 캐시에 두고 파일에서 바로 내보낸다.
+ * 캐시 파일은 인덱스 락 안에서 연 채널로만 내보낸다. 그 뒤에 LRU 퇴출이나 삭제로 파일이 지워져도
+ * 열린 채널은 끝까지 읽히므로, 경로만 넘기는 방식(sendfile 요청 속성)은 쓰지 않는다.
+ * 캐시 한도보다 큰 객체는 스토리지에서 요청 구간만 읽어 그대로 흘려보낸다.
+ */
+@Slf4j
+@Service
+public class ObjectProxyServiceImpl implements ObjectProxyService {
+
+    private static final String URL_PATH = "/media/";
+    private static final long IMMUTABLE_MAX_AGE = Duration.ofDays(365).toSeconds();
+    // 프록시로 내보낼 수 있는 키 (스토리 이미지 원본/파생본, 오디오), 그 밖의 버킷 객체는 없는 것으로 응답한다
+    private static final List<String> SERVABLE_PREFIXES = Stream.concat(
+            StorageKeys.IMAGE_PREFIXES.stream(), Stream.of(StorageKeys.AUDIO_PREFIX)).toList();
+
+    private final ObjectStorage objectStorage;
+    private final ObjectProxyProperties properties;
+    private final Path cacheDir;
+    private final long maxCacheBytes;
+    private final long maxCachedObjectBytes;
+
+    // 접근 순서 LRU, this 로 동기화
+    private final LinkedHashMap<String, CachedObject> index = new LinkedHashMap<>(256, 0.75f, true);
+    private long cachedBytes;
+    // 같은 키를 동시에 여러 번 내려받지 않도록 진행 중인 적재를 공유한다
+    private final ConcurrentHashMap<String, CompletableFuture<CachedObject>> loading = new ConcurrentHashMap<>();
+
+    private final Counter hits;
+    private final Counter misses;
+    private final Counter bypasses;
+
+    record CachedObject(ObjectInfo info, Path path) {
+    }
+
+    // 인덱스 락 안에서 연 캐시 파일
+    private record OpenedObject(ObjectInfo info, FileChannel channel) {
+    }
+
+    public ObjectProxyServiceImpl(ObjectStorage objectStorage,
+                                  ObjectProxyProperties properties,
+                                  MeterRegistry meterRegistry) throws IOException {
+        this.objectStorage = objectStorage;
+        this.properties = properties;
+        this.maxCacheBytes = properties.getMaxCacheSize().toBytes();
+        this.maxCachedObjectBytes = Math.min(properties.getMaxCachedObjectSize().toBytes(), maxCacheBytes);
+        this.cacheDir = properties.isEnabled() ? prepareCacheDir(Paths.get(properties.getCacheDir())) : null;
+
+        this.hits = Counter.builder("storage.proxy.cache").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("storage.proxy.cache").tag("result", "miss").register(meterRegistry);
+        this.bypasses = Counter.builder("storage.proxy.cache").tag("result", "bypass").register(meterRegistry);
+        Gauge.builder("storage.proxy.cache.bytes", this, ObjectProxyServiceImpl::cachedBytes).register(meterRegistry);
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return properties.isEnabled();
+    }
+
+    @Override
+    public String url(String key) {
+        return properties.getBaseUrl() + URL_PATH + UriUtils.encodePath(key, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void serve(String requestedKey, HttpServletRequest request, HttpServletResponse response) throws IOException {
+        if (!StringUtils.hasText(requestedKey)) {
+            throw new CustomException(ErrorCode.FILE_404_001);
+        }
+        // 서명 URL 과 같은 기준: 상위 경로나 앱 프리픽스 밖의 키는 존재 여부도 드러내지 않는다
+        final String key = StorageKeys.normalize(requestedKey);
+        if (!StorageKeys.isUnder(key, SERVABLE_PREFIXES)) {
+            throw new CustomException(ErrorCode.FILE_404_001);
+        }
+
+        OpenedObject opened = open(key);
+        final ObjectInfo info;
+        if (opened != null) {
+            hits.increment();
+            info = opened.info();
+        } else {
+            info = objectStorage.stat(key).orElseThrow(() -> new CustomException(ErrorCode.FILE_404_001));
+            if (info.size() <= maxCachedObjectBytes) {
+                misses.increment();
+                // 적재 직후 다른 요청의 적재로 퇴출됐을 수 있으므로 다시 락 안에서 연다
+                opened = load(key, info) != null ? open(key) : null;
+            }
+            if (opened == null) {
+                bypasses.increment();
+            }
+        }
+
+        try (FileChannel channel = opened != null ? opened.channel() : null) {
+            write(key, info, channel, request, response);
+        }
+    }
+
+    private void write(String key, ObjectInfo info, FileChannel cached,
+                       HttpServletRequest request, HttpServletResponse response) throws IOException {
+        final String etag = "\"" + info.etag() + "\"";
+        response.setHeader(HttpHeaders.ETAG, etag);
+        response.setHeader(HttpHeaders.ACCEPT_RANGES, "bytes");
+        response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl(key));
+
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setStatus(HttpStatus.NOT_MODIFIED.value());
+            return;
+        }
+
+        final long size = info.size();
+        long start = 0;
+        long length = size;
+        final HttpRange range = requestedRange(request, etag);
+        if (range != null) {
+            try {
+                start = range.getRangeStart(size);
+                length = range.getRangeEnd(size) - start + 1;
+            } catch (IllegalArgumentException e) {
+                length = 0;
+            }
+            // 시작 위치가 객체 끝을 넘는 구간 (HttpRange 는 여기까지 검사하지 않는다)
+            if (start >= size || length <= 0) {
+                response.setStatus(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE.value());
+                response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+                return;
+            }
+            response.setStatus(HttpStatus.PARTIAL_CONTENT.value());
+            response.setHeader(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + (start + length - 1) + "/" + size);
+        }
+
+        response.setContentType(StringUtils.hasText(info.contentType())
+                ? info.contentType()
+                : MediaTypeFactory.getMediaType(key).orElse(MediaType.APPLICATION_OCTET_STREAM).toString());
+        response.setContentLengthLong(length);
+        if ("HEAD".equals(request.getMethod())) {
+            return;
+        }
+
+        if (cached == null) {
+            objectStorage.transferTo(key, start, length, Channels.newChannel(response.getOutputStream()));
+        } else {
+            LocalObjectStorage.transferTo(cached, start, length, Channels.newChannel(response.getOutputStream()));
+        }
+    }
+
+    private String cacheControl(String key) {
+        for (String prefix : properties.getImmutablePrefixes()) {
+            if (key.startsWith(prefix)) {
+                return "private, max-age=" + IMMUTABLE_MAX_AGE + ", immutable";
+            }
+        }
+        return "private, max-age=" + properties.getMaxAge().toSeconds();
+    }
+
+    // Range 는 단일 구간만 지원한다, 여러 구간이거나 If-Range 가 현재 ETag 와 다르면 전체를 보낸다
+    private static HttpRange requestedRange(HttpServletRequest request, String etag) {
+        final String header = request.getHeader(HttpHeaders.RANGE);
+        if (header == null) {
+            return null;
+        }
+        final String ifRange = request.getHeader(HttpHeaders.IF_RANGE);
+        if (ifRange != null && !ifRange.trim().equals(etag)) {
+            return null;
+        }
+        try {
+            List<HttpRange> ranges = HttpRange.parseRanges(header);
+            return ranges.size() == 1 ? ranges.get(0) : null;
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.equals("*") || tag.equals(etag) || tag.equals("W/" + etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 퇴출/삭제는 같은 락 안에서 파일을 지우므로, 여기서 연 채널은 지워지기 전의 파일을 가리킨다
+    private synchronized OpenedObject open(String key) {
+        final CachedObject cached = cacheDir != null ? index.get(key) : null;
+        if (cached == null) {
+            return null;
+        }
+        try {
+            return new OpenedObject(cached.info(), FileChannel.open(cached.path(), StandardOpenOption.READ));
+        } catch (IOException e) {
+            // 캐시 디렉터리에서 파일이 사라졌으면 항목을 빼고 스토리지에서 읽는다
+            log.warn("프록시캐시열기실패 key={} error={}", key, e.getMessage());
+            index.remove(key);
+            cachedBytes -= cached.info().size();
+            return null;
+        }
+    }
+
+    private synchronized long cachedBytes() {
+        return cachedBytes;
+    }
+
+    private CachedObject load(String key, ObjectInfo info) throws IOException {
+        if (cacheDir == null) {
+            return null;
+        }
+        final CompletableFuture<CachedObject> mine = new CompletableFuture<>();
+        final CompletableFuture<CachedObject> running = loading.putIfAbsent(key, mine);
+        if (running != null) {
+            return await(running);
+        }
+        try {
+            CachedObject loaded = fetch(key, info);
+            mine.complete(loaded);
+            return loaded;
+        } catch (IOException | RuntimeException e) {
+            mine.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(key, mine);
+        }
+    }
+
+    private CachedObject fetch(String key, ObjectInfo info) throws IOException {
+        final Path target = cacheDir.resolve(fileName(key, info.etag()));
+        final Path temp = Files.createTempFile(cacheDir, ".fetch-", ".tmp");
+        try {
+            long written;
+            try (FileChannel out = FileChannel.open(temp, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+                written = objectStorage.transferTo(key, out);
+            }
+            // 조회와 다운로드 사이에 객체가 바뀌었으면 ETag 가 맞지 않으므로 캐시하지 않는다
+            if (written != info.size()) {
+                log.warn("프록시캐시적재건너뜀 key={} expected={} actual={}", key, info.size(), written);
+                Files.deleteIfExists(temp);
+                return null;
+            }
+            Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+        CachedObject cached = new CachedObject(info, target);
+        put(key, cached);
+        return cached;
+    }
+
+    private synchronized void put(String key, CachedObject object) {
+        final CachedObject previous = index.put(key, object);
+        if (previous != null) {
+            cachedBytes -= previous.info().size();
+            if (!previous.path().equals(object.path())) {
+                deleteQuietly(previous.path());
+            }
+        }
+        cachedBytes += object.info().size();
+
+        final Iterator<Map.Entry<String, CachedObject>> eldest = index.entrySet().iterator();
+        while (cachedBytes > maxCacheBytes && eldest.hasNext()) {
+            Map.Entry<String, CachedObject> entry = eldest.next();
+            if (entry.getKey().equals(key)) {
+                continue;
+            }
+            eldest.remove();
+            cachedBytes -= entry.getValue().info().size();
+            deleteQuietly(entry.getValue().path());
+        }
+    }
+
+    @Override
+    public synchronized void evict(String key) {
+        final CachedObject removed = index.remove(key);
+        if (removed != null) {
+            cachedBytes -= removed.info().size();
+            deleteQuietly(removed.path());
+        }
+    }
+
+    private static CachedObject await(CompletableFuture<CachedObject> running) throws IOException {
+        try {
+            return running.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException io) {
+                throw io;
+            }
+            if (cause instanceof RuntimeException re) {
+                throw re;
+            }
+            throw e;
+        }
+    }
+
+    // 키에 / 나 .. 가 있어도 안전하도록 해시를 파일명으로 쓴다 (ETag 가 바뀌면 다른 파일)
+    private static String fileName(String key, String etag) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest((key + "\n" + etag).getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("프록시캐시삭제실패 path={} error={}", path, e.getMessage());
+        }
+    }
+
+    // 인덱스는 메모리에만 있으므로 이전 실행의 파일은 비우고 시작한다
+    private static Path prepareCacheDir(Path dir) throws IOException {
+        try {
+            FileSystemUtils.deleteRecursively(dir);
+            Path created = Files.createDirectories(dir).toRealPath();
+            log.info("프록시캐시사용 dir={}", created);
+            return created;
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+}
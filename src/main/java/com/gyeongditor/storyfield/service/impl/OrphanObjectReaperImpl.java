@@ -0,0 +1,182 @@
+package com.gyeongditor.storyfield.service.impl;
+
+import com.gyeongditor.storyfield.config.ReaperProperties;
+import com.gyeongditor.storyfield.repository.RedisScripts;
+import com.gyeongditor.storyfield.repository.StoryPageRepository;
+import com.gyeongditor.storyfield.repository.StoryRepository;
+import com.gyeongditor.storyfield.service.ImageBlobService;
+import com.gyeongditor.storyfield.service.ImageVariant;
+import com.gyeongditor.storyfield.service.ObjectStorage;
+import com.gyeongditor.storyfield.service.OrphanObjectReaper;
+import com.gyeongditor.storyfield.util.BloomFilter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * 고아 S3 객체 정리 배치
+ * 1) DB 의 모든 이미지/썸네일 키를 스트리밍으로 읽어 Bloom filter 를 만들고
+ * 2) 스토리지 목록을 페이지 단위로 넘기면서 필터에 없는(= 확실히 참조되지 않는) 객체만 골라
+ * 3) 유예 기간이 지난 것만 1000개 단위로 지운다 (S3 는 DeleteObjects 한 번).
+ * 메모리는 Bloom filter 크기 + 목록 한 페이지 + 삭제 배치 하나로 고정된다.
+ */
+@Slf4j
+@Service
+@Lazy(false) // 지연 초기화 환경에서도 @Scheduled 가 등록되도록 즉시 생성
+public class OrphanObjectReaperImpl implements OrphanObjectReaper {
+
+    // DeleteObjects 한 번에 지울 수 있는 최대 키 수
+    private static final int DELETE_BATCH_SIZE = 1000;
+    private static final String LOCK_KEY = "story:reaper:lock";
+    private static final Duration LOCK_TTL = Duration.ofHours(1);
+
+    private final ObjectStorage objectStorage;
+    private final ReaperProperties reaperProperties;
+    private final StoryPageRepository storyPageRepository;
+    private final StoryRepository storyRepository;
+    private final ImageBlobService imageBlobService;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public OrphanObjectReaperImpl(
+            ObjectStorage objectStorage,
+            ReaperProperties reaperProperties,
+            StoryPageRepository storyPageRepository,
+            StoryRepository storyRepository,
+            ImageBlobService imageBlobService,
+            RedisTemplate<String, String> redisTemplate,
+            PlatformTransactionManager transactionManager
+    ) {
+        this.objectStorage = objectStorage;
+        this.reaperProperties = reaperProperties;
+        this.storyPageRepository = storyPageRepository;
+        this.storyRepository = storyRepository;
+        this.imageBlobService = imageBlobService;
+        this.redisTemplate = redisTemplate;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @Scheduled(cron = "${story.reaper.cron:0 30 4 * * *}")
+    public void scheduledReap() {
+        if (!reaperProperties.isEnabled()) {
+            return;
+        }
+        // 여러 인스턴스 중 한 곳에서만 실행
+        final String owner = UUID.randomUUID().toString();
+        if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(LOCK_KEY, owner, LOCK_TTL))) {
+            log.info("고아객체정리생략 reason=다른 인스턴스에서 실행 중");
+            return;
+        }
+        try {
+            reap();
+        } catch (Exception e) {
+            log.error("고아객체정리실패 error={}", e.getMessage(), e);
+        } finally {
+            // 리스가 끝나 다른 인스턴스가 가져간 락은 지우지 않는다
+            redisTemplate.execute(RedisScripts.DELETE_IF_EQUALS, List.of(LOCK_KEY), owner);
+        }
+    }
+
+    @Override
+    public Result reap() {
+        final long startTime = System.currentTimeMillis();
+        // 필터를 만들기 전에 기준 시각을 잡아야 스캔 중 저장된 스토리의 새 객체가 유예 기간 안에 든다
+        final Instant cutoff = Instant.ofEpochMilli(startTime).minus(reaperProperties.getGracePeriod());
+        final BloomFilter referenced = buildReferenceFilter();
+
+        long scanned = 0;
+        long candidates = 0;
+        long deleted = 0;
+        long failed = 0;
+        final List<String> batch = new ArrayList<>(DELETE_BATCH_SIZE);
+
+        for (String prefix : reaperProperties.getPrefixes()) {
+            // 목록은 페이지 단위로 필요할 때만 가져온다
+            try (Stream<ObjectStorage.StoredObject> objects = objectStorage.list(prefix)) {
+                for (ObjectStorage.StoredObject object : (Iterable<ObjectStorage.StoredObject>) objects::iterator) {
+                    scanned++;
+                    if (object.lastModified().isAfter(cutoff) || isReferenced(referenced, object.key())) {
+                        continue;
+                    }
+                    candidates++;
+                    batch.add(object.key());
+                    if (batch.size() == DELETE_BATCH_SIZE) {
+                        long[] outcome = deleteBatch(batch);
+                        deleted += outcome[0];
+                        failed += outcome[1];
+                        batch.clear();
+                    }
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            long[] outcome = deleteBatch(batch);
+            deleted += outcome[0];
+            failed += outcome[1];
+        }
+
+        Result result = new Result(scanned, candidates, deleted, failed, System.currentTimeMillis() - startTime);
+        log.info("고아객체정리완료 dryRun={} scanned={} candidates={} deleted={} failed={} duration={}ms",
+                reaperProperties.isDryRun(), scanned, candidates, deleted, failed, result.durationMs());
+        return result;
+    }
+
+    // 파생본은 원본이 참조되면 함께 유지한다
+    private static boolean isReferenced(BloomFilter referenced, String key) {
+        return referenced.mightContain(key)
+                || ImageVariant.baseKeyOf(key).map(referenced::mightContain).orElse(false);
+    }
+
+    private BloomFilter buildReferenceFilter() {
+        final long startTime = System.currentTimeMillis();
+        final long expected = storyPageRepository.count() + storyRepository.count();
+        final BloomFilter filter = BloomFilter.create(expected, reaperProperties.getFalsePositiveRate());
+
+        readOnlyTransaction.executeWithoutResult(status -> {
+            try (Stream<String> pages = storyPageRepository.streamAllImageFileNames()) {
+                pages.forEach(filter::put);
+            }
+            try (Stream<String> thumbnails = storyRepository.streamAllThumbnailFileNames()) {
+                thumbnails.forEach(filter::put);
+            }
+        });
+
+        log.info("참조키필터생성 keys={} size={}KB duration={}ms",
+                expected, filter.sizeInBytes() / 1024, System.currentTimeMillis() - startTime);
+        return filter;
+    }
+
+    // [삭제 성공 수, 실패 수]
+    private long[] deleteBatch(List<String> keys) {
+        // 공유(cas/) 객체는 필터 생성 이후 새로 참조됐을 수 있으므로 정확한 참조 수로 한 번 더 확인하고 인덱스에서 뺀다
+        final List<String> targets = reaperProperties.isDryRun() ? keys : imageBlobService.unreferenced(keys);
+
+        if (reaperProperties.isDryRun()) {
+            targets.forEach(key -> log.info("고아객체삭제대상 key={}", key));
+            return new long[]{0, 0};
+        }
+        if (targets.isEmpty()) {
+            return new long[]{0, 0};
+        }
+
+        final List<String> failedKeys;
+        try {
+            failedKeys = objectStorage.deleteAll(targets);
+        } finally {
+            imageBlobService.deleted(targets);
+        }
+        return new long[]{targets.size() - failedKeys.size(), failedKeys.size()};
+    }
+}
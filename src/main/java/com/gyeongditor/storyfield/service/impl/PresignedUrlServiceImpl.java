@@ -0,0 +1,127 @@
+package com.gyeongditor.storyfield.service.impl;
+
+import com.gyeongditor.storyfield.config.PresignProperties;
+import com.gyeongditor.storyfield.service.ObjectStorage;
+import com.gyeongditor.storyfield.service.PresignedUrlService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * 서명 URL 캐시
+ * 만료 시각을 bucket 단위로 올림해서 같은 구간에 들어온 요청은 같은 URL 을 재사용한다.
+ * URL 이 바뀌지 않으니 브라우저/CDN 이 이미지를 캐시할 수 있고, 피드 조회는 대부분 서명 없이 끝난다.
+ * 만료 = 구간 끝 + ttl 이므로 어느 시점에 발급돼도 최소 ttl 동안은 유효하다.
+ * 캐시에 없는 키가 많으면 parallelThreshold 개씩 나눠 presignExecutor 에서 병렬로 서명한다.
+ */
+@Service
+public class PresignedUrlServiceImpl implements PresignedUrlService {
+
+    private final ObjectStorage objectStorage;
+    private final Executor presignExecutor;
+    private final int parallelThreshold;
+    private final long bucketMillis;
+    private final long ttlMillis;
+    private final Map<String, CachedUrl> cache;
+
+    private final Counter hits;
+    private final Counter misses;
+
+    private record CachedUrl(long bucketStart, String url) {
+    }
+
+    public PresignedUrlServiceImpl(ObjectStorage objectStorage,
+                                   PresignProperties properties,
+                                   @Qualifier("presignExecutor") Executor presignExecutor,
+                                   MeterRegistry meterRegistry) {
+        this.objectStorage = objectStorage;
+        this.presignExecutor = presignExecutor;
+        this.parallelThreshold = Math.max(1, properties.getParallelThreshold());
+        this.bucketMillis = Math.max(1, properties.getBucket().toMillis());
+        this.ttlMillis = properties.getTtl().toMillis();
+
+        final int maxSize = properties.getCacheSize();
+        // accessOrder=true: 조회할 때마다 뒤로 보내 LRU 로 동작
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<>(1024, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedUrl> eldest) {
+                return size() > maxSize;
+            }
+        });
+
+        this.hits = Counter.builder("storage.presign.cache").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("storage.presign.cache").tag("result", "miss").register(meterRegistry);
+        Gauge.builder("storage.presign.cache.size", cache, Map::size).register(meterRegistry);
+    }
+
+    @Override
+    public String presign(String key) {
+        return presign(Collections.singletonList(key)).get(0);
+    }
+
+    @Override
+    public List<String> presign(List<String> keys) {
+        final long bucketStart = System.currentTimeMillis() / bucketMillis * bucketMillis;
+
+        final List<String> urls = new ArrayList<>(keys.size());
+        final List<String> missingKeys = new ArrayList<>();
+        final List<Integer> missingIndexes = new ArrayList<>();
+
+        for (String key : keys) {
+            CachedUrl cached = key != null ? cache.get(key) : null;
+            if (cached != null && cached.bucketStart() == bucketStart) {
+                hits.increment();
+                urls.add(cached.url());
+            } else {
+                urls.add(null);
+                if (key != null) {
+                    missingIndexes.add(urls.size() - 1);
+                    missingKeys.add(key);
+                }
+            }
+        }
+        if (missingKeys.isEmpty()) {
+            return urls;
+        }
+
+        misses.increment(missingKeys.size());
+        final Instant expiresAt = Instant.ofEpochMilli(bucketStart + bucketMillis + ttlMillis);
+        final List<String> signed = sign(missingKeys, expiresAt);
+        for (int i = 0; i < signed.size(); i++) {
+            urls.set(missingIndexes.get(i), signed.get(i));
+            cache.put(missingKeys.get(i), new CachedUrl(bucketStart, signed.get(i)));
+        }
+        return urls;
+    }
+
+    private List<String> sign(List<String> keys, Instant expiresAt) {
+        if (keys.size() < parallelThreshold) {
+            return objectStorage.presign(keys, expiresAt);
+        }
+        final List<CompletableFuture<List<String>>> chunks = new ArrayList<>();
+        for (int from = 0; from < keys.size(); from += parallelThreshold) {
+            List<String> chunk = keys.subList(from, Math.min(from + parallelThreshold, keys.size()));
+            chunks.add(CompletableFuture.supplyAsync(() -> objectStorage.presign(chunk, expiresAt), presignExecutor));
+        }
+        final List<String> signed = new ArrayList<>(keys.size());
+        chunks.forEach(chunk -> signed.addAll(chunk.join()));
+        return signed;
+    }
+
+    @Override
+    public void evict(Collection<String> keys) {
+        keys.forEach(cache::remove);
+    }
+}
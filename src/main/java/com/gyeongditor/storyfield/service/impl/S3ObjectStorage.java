@@ -0,0 +1,175 @@
+package com.gyeongditor.storyfield.service.impl;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.ListObjectsV2Request;
+import com.amazonaws.services.s3.model.ListObjectsV2Result;
+import com.amazonaws.services.s3.model.MultiObjectDeleteException;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.S3Object;
+import com.gyeongditor.storyfield.config.AwsProperties;
+import com.gyeongditor.storyfield.service.ObjectStorage;
+import com.gyeongditor.storyfield.service.S3TransferService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.stream.Stream;
+
+/**
+ * S3 백엔드
+ * 업로드는 S3 전송 엔진(멀티파트 병렬)에 맡기고 나머지는 AmazonS3 클라이언트를 그대로 쓴다.
+ */
+@Slf4j
+@Service
+@Profile("!local-storage")
+@RequiredArgsConstructor
+public class S3ObjectStorage implements ObjectStorage {
+
+    // DeleteObjects 한 번에 지울 수 있는 최대 키 수
+    private static final int DELETE_BATCH_SIZE = 1000;
+    private static final int TRANSFER_BUFFER_SIZE = 64 * 1024;
+
+    private final AmazonS3 amazonS3;
+    private final AwsProperties awsProperties;
+    private final S3TransferService s3TransferService;
+
+    @Override
+    public CompletableFuture<String> upload(String key, InputStreamSource source,
+                                            long contentLength, String contentType) {
+        return s3TransferService.upload(key, source, contentLength, contentType);
+    }
+
+    @Override
+    public long transferTo(String key, WritableByteChannel target) throws IOException {
+        return copy(new GetObjectRequest(awsProperties.getBucket(), key), target);
+    }
+
+    @Override
+    public long transferTo(String key, long offset, long length, WritableByteChannel target) throws IOException {
+        if (length <= 0) {
+            return 0;
+        }
+        return copy(new GetObjectRequest(awsProperties.getBucket(), key).withRange(offset, offset + length - 1), target);
+    }
+
+    private long copy(GetObjectRequest request, WritableByteChannel target) throws IOException {
+        try (S3Object object = amazonS3.getObject(request);
+             InputStream in = object.getObjectContent()) {
+            final ByteBuffer buffer = ByteBuffer.allocate(TRANSFER_BUFFER_SIZE);
+            final ReadableByteChannel source = Channels.newChannel(in);
+            long total = 0;
+            while (source.read(buffer) != -1) {
+                buffer.flip();
+                while (buffer.hasRemaining()) {
+                    total += target.write(buffer);
+                }
+                buffer.clear();
+            }
+            return total;
+        }
+    }
+
+    @Override
+    public Optional<ObjectInfo> stat(String key) {
+        try {
+            ObjectMetadata metadata = amazonS3.getObjectMetadata(awsProperties.getBucket(), key);
+            return Optional.of(new ObjectInfo(
+                    key, metadata.getContentLength(), metadata.getETag(), metadata.getContentType()));
+        } catch (AmazonS3Exception e) {
+            if (e.getStatusCode() == 404) {
+                return Optional.empty();
+            }
+            throw e;
+        }
+    }
+
+    @Override
+    public boolean exists(String key) {
+        return amazonS3.doesObjectExist(awsProperties.getBucket(), key);
+    }
+
+    @Override
+    public void delete(String key) {
+        amazonS3.deleteObject(awsProperties.getBucket(), key);
+    }
+
+    @Override
+    public List<String> deleteAll(Collection<String> keys) {
+        List<String> failed = new ArrayList<>();
+        List<String> all = List.copyOf(keys);
+        for (int from = 0; from < all.size(); from += DELETE_BATCH_SIZE) {
+            List<String> batch = all.subList(from, Math.min(from + DELETE_BATCH_SIZE, all.size()));
+            DeleteObjectsRequest request = new DeleteObjectsRequest(awsProperties.getBucket())
+                    .withKeys(batch.toArray(String[]::new))
+                    .withQuiet(true);
+            try {
+                amazonS3.deleteObjects(request);
+            } catch (MultiObjectDeleteException e) {
+                e.getErrors().forEach(error -> {
+                    log.warn("S3객체삭제실패 key={} code={} message={}", error.getKey(), error.getCode(), error.getMessage());
+                    failed.add(error.getKey());
+                });
+            }
+        }
+        return failed;
+    }
+
+    @Override
+    public Stream<StoredObject> list(String prefix) {
+        ListObjectsV2Request request = new ListObjectsV2Request()
+                .withBucketName(awsProperties.getBucket())
+                .withPrefix(prefix)
+                .withMaxKeys(DELETE_BATCH_SIZE);
+
+        // 다음 페이지는 앞 페이지를 다 소비한 뒤에야 요청된다
+        return Stream.iterate(
+                        amazonS3.listObjectsV2(request),
+                        page -> page != null,
+                        page -> page.isTruncated() ? nextPage(request, page) : null)
+                .flatMap(page -> page.getObjectSummaries().stream())
+                .map(summary -> new StoredObject(
+                        summary.getKey(), summary.getSize(), summary.getLastModified().toInstant()));
+    }
+
+    private ListObjectsV2Result nextPage(ListObjectsV2Request request, ListObjectsV2Result page) {
+        request.setContinuationToken(page.getNextContinuationToken());
+        return amazonS3.listObjectsV2(request);
+    }
+
+    @Override
+    public String url(String key) {
+        return amazonS3.getUrl(awsProperties.getBucket(), key).toString();
+    }
+
+    // 서명은 네트워크 없이 로컬에서 계산되므로 공용 클라이언트를 그대로 쓴다 (호출마다 클라이언트 생성 X)
+    @Override
+    public List<String> presign(List<String> keys, Instant expiresAt) {
+        Date expiration = Date.from(expiresAt);
+
+        List<String> presignedUrls = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            presignedUrls.add(key != null
+                    ? amazonS3.generatePresignedUrl(awsProperties.getBucket(), key, expiration).toString()
+                    : null);
+        }
+        return presignedUrls;
+    }
+}
@@ -1,46 +1,42 @@
 package com.gyeongditor.storyfield.service.impl;
 
-import com.amazonaws.HttpMethod;
-import com.amazonaws.auth.AWSStaticCredentialsProvider;
-import com.amazonaws.auth.BasicAWSCredentials;
-import com.amazonaws.services.s3.AmazonS3;
-import com.amazonaws.services.s3.AmazonS3ClientBuilder;
-import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
-import com.amazonaws.services.s3.model.ObjectMetadata;
-import com.amazonaws.services.s3.model.PutObjectRequest;
-import com.gyeongditor.storyfield.config.AwsProperties;
+import com.gyeongditor.storyfield.config.PresignProperties;
 import com.gyeongditor.storyfield.dto.ApiResponseDTO;
+import com.gyeongditor.storyfield.dto.File.PresignedUrlDTO;
 import com.gyeongditor.storyfield.exception.CustomException;
 import com.gyeongditor.storyfield.jwt.JwtTokenProvider;
 import com.gyeongditor.storyfield.response.ErrorCode;
 import com.gyeongditor.storyfield.response.SuccessCode;
 import com.gyeongditor.storyfield.service.AuthService;
+import com.gyeongditor.storyfield.service.ObjectProxyService;
+import com.gyeongditor.storyfield.service.ObjectStorage;
+import com.gyeongditor.storyfield.service.PresignedUrlService;
 import com.gyeongditor.storyfield.service.S3Service;
+import com.gyeongditor.storyfield.util.StorageKeys;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
-import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.ByteArrayResource;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.net.URLDecoder;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 @Service
 @RequiredArgsConstructor
 public class S3ServiceImpl implements S3Service {
 
-    private final AmazonS3 amazonS3;
-    private final AwsProperties awsProperties;
+    private final ObjectStorage objectStorage;
+    private final PresignedUrlService presignedUrlService;
+    private final PresignProperties presignProperties;
+    private final ObjectProxyService objectProxyService;
     private final JwtTokenProvider jwtTokenProvider;
     private final AuthService authService;
 
-    @Value("${aws.s3.bucket}")
-    private String bucket;
-
     private static final Set<String> ALLOWED_AUDIO_TYPES = Set.of(
             "audio/wav", "audio/x-wav", "audio/mpeg", "audio/mp3",
             "audio/mp4", "audio/x-mp4", "audio/ogg", "audio/flac",
@@ -56,20 +52,61 @@ public class S3ServiceImpl implements S3Service {
     public ApiResponseDTO<String> generatePresignedUrl(String fileName, String accessToken) {
         jwtTokenProvider.validateOrThrow(accessToken);
 
-        AmazonS3 s3Client = AmazonS3ClientBuilder.standard()
-                .withRegion(awsProperties.getRegion())
-                .withCredentials(new AWSStaticCredentialsProvider(
-                        new BasicAWSCredentials(
-                                awsProperties.getAccessKey(),
-                                awsProperties.getSecretKey()
-                        ))).build();
-
-        Date expiration = new Date(System.currentTimeMillis() + 600 * 1000);
-        String presignedUrl = s3Client.generatePresignedUrl(awsProperties.getBucket(), fileName, expiration).toString();
+        String presignedUrl = presignedUrlService.presign(fileName);
 
         return ApiResponseDTO.success(SuccessCode.FILE_200_002, presignedUrl);
     }
 
+    @Override
+    public List<String> generatePresignedUrls(List<String> fileNames, String accessToken) {
+        jwtTokenProvider.validateOrThrow(accessToken);
+
+        // 한 번의 토큰 검증으로 목록 전체를 서명 (키가 null 이면 null, 캐시된 URL 은 재사용)
+        return presignedUrlService.presign(fileNames);
+    }
+
+    @Override
+    public ApiResponseDTO<List<PresignedUrlDTO>> generatePresignedUrlBatch(List<String> fileNames, HttpServletRequest request) {
+        String accessToken = authService.extractAccessToken(request);
+        jwtTokenProvider.validateOrThrow(accessToken);
+        validatePresignBatch(fileNames);
+
+        // 스토리 이미지(원본/파생본) 프리픽스 밖의 객체는 서명하지 않는다
+        List<String> keys = fileNames.stream().map(this::normalizeImageKey).toList();
+        return ApiResponseDTO.success(SuccessCode.FILE_200_002, toPresignedUrls(keys));
+    }
+
+    @Override
+    public ApiResponseDTO<List<PresignedUrlDTO>> generateAudioPresignedUrlBatch(List<String> keysOrFileNames, String accessToken) {
+        jwtTokenProvider.validateOrThrow(accessToken);
+        validatePresignBatch(keysOrFileNames);
+
+        List<String> keys = keysOrFileNames.stream().map(this::normalizeAudioKey).toList();
+        return ApiResponseDTO.success(SuccessCode.AUDIO_200_002, toPresignedUrls(keys));
+    }
+
+    private void validatePresignBatch(List<String> keys) {
+        if (keys == null || keys.isEmpty()) {
+            throw new CustomException(ErrorCode.FILE_400_003, "서명할 키가 없습니다.");
+        }
+        if (keys.size() > presignProperties.getMaxBatchSize()) {
+            throw new CustomException(ErrorCode.FILE_400_003,
+                    "한 번에 최대 " + presignProperties.getMaxBatchSize() + "개까지 서명할 수 있습니다.");
+        }
+        if (keys.stream().anyMatch(key -> key == null || key.isBlank())) {
+            throw new CustomException(ErrorCode.FILE_400_003, "비어 있는 키가 포함되어 있습니다.");
+        }
+    }
+
+    private List<PresignedUrlDTO> toPresignedUrls(List<String> keys) {
+        List<String> urls = presignedUrlService.presign(keys);
+        List<PresignedUrlDTO> result = new ArrayList<>(keys.size());
+        for (int i = 0; i < keys.size(); i++) {
+            result.add(new PresignedUrlDTO(keys.get(i), urls.get(i)));
+        }
+        return result;
+    }
+
     @Override
     public List<String> uploadFiles(List<MultipartFile> files, String accessToken) throws IOException {
         jwtTokenProvider.validateOrThrow(accessToken);
@@ -98,16 +135,7 @@ public class S3ServiceImpl implements S3Service {
     }
 
     private void upload(MultipartFile file, String fileName) throws IOException {
-        ObjectMetadata metadata = new ObjectMetadata();
-        metadata.setContentLength(file.getSize());
-        metadata.setContentType(file.getContentType());
-
-        amazonS3.putObject(
-                awsProperties.getBucket(),
-                fileName,
-                file.getInputStream(),
-                metadata
-        );
+        await(objectStorage.upload(fileName, file, file.getSize(), file.getContentType()));
     }
 
     @Override
@@ -119,11 +147,8 @@ public class S3ServiceImpl implements S3Service {
         try {
             String fileName = "audio/" + UUID.randomUUID() + "_" + file.getOriginalFilename();
 
-            ObjectMetadata metadata = new ObjectMetadata();
-            metadata.setContentLength(file.getSize());
-            metadata.setContentType(file.getContentType());
-
-            amazonS3.putObject(awsProperties.getBucket(), fileName, file.getInputStream(), metadata);
+            // 큰 오디오는 전송 엔진이 파트를 나눠 병렬로 올린다
+            await(objectStorage.upload(fileName, file, file.getSize(), file.getContentType()));
 
             return ApiResponseDTO.success(SuccessCode.AUDIO_200_001, getFileUrl(fileName));
 
@@ -145,25 +170,35 @@ public class S3ServiceImpl implements S3Service {
     public ApiResponseDTO<Void> deleteFile(String fileName, HttpServletRequest request) {
         String accessToken = authService.extractAccessToken(request);
         jwtTokenProvider.validateOrThrow(accessToken);
-        amazonS3.deleteObject(awsProperties.getBucket(), fileName);
+        objectStorage.delete(fileName);
+        presignedUrlService.evict(List.of(fileName));
+        objectProxyService.evict(fileName);
         return ApiResponseDTO.success(SuccessCode.FILE_204_001, null);
     }
 
+    // 프록시 모드면 앱을 거쳐 내려받는 URL (Range / ETag / 디스크 캐시)
     private String getFileUrl(String fileName) {
-        return amazonS3.getUrl(awsProperties.getBucket(), fileName).toString();
+        return objectProxyService.isEnabled() ? objectProxyService.url(fileName) : objectStorage.url(fileName);
+    }
+
+    private String normalizeImageKey(String fileName) {
+        String decoded = StorageKeys.normalize(URLDecoder.decode(fileName, StandardCharsets.UTF_8));
+        if (!StorageKeys.isUnder(decoded, StorageKeys.IMAGE_PREFIXES)) {
+            throw new CustomException(ErrorCode.FILE_400_003, "스토리 이미지 키만 서명할 수 있습니다: " + fileName);
+        }
+        return decoded;
     }
 
     private String normalizeAudioKey(String fileName) {
-        String decoded = URLDecoder.decode(fileName, StandardCharsets.UTF_8);
-        decoded = decoded.replace("\\", "/");
+        String decoded = StorageKeys.normalize(URLDecoder.decode(fileName, StandardCharsets.UTF_8));
         if (decoded.contains("..")) {
             throw new CustomException(ErrorCode.AUDIO_400_002);
         }
-        return decoded.startsWith("audio/") ? decoded : "audio/" + decoded;
+        return decoded.startsWith(StorageKeys.AUDIO_PREFIX) ? decoded : StorageKeys.AUDIO_PREFIX + decoded;
     }
 
     private boolean audioExists(String key) {
-        return amazonS3.doesObjectExist(awsProperties.getBucket(), key);
+        return objectStorage.exists(key);
     }
 
     @Override
@@ -192,7 +227,9 @@ public class S3ServiceImpl implements S3Service {
                 throw new CustomException(ErrorCode.AUDIO_404_001);
             }
 
-            amazonS3.deleteObject(awsProperties.getBucket(), key);
+            objectStorage.delete(key);
+            presignedUrlService.evict(List.of(key));
+            objectProxyService.evict(key);
 
             if (audioExists(key)) {
                 throw new CustomException(ErrorCode.AUDIO_500_002);
@@ -216,13 +253,7 @@ public class S3ServiceImpl implements S3Service {
                 throw new CustomException(ErrorCode.AUDIO_404_001);
             }
 
-            Date expiration = new Date(System.currentTimeMillis() + 10 * 60 * 1000);
-            GeneratePresignedUrlRequest req =
-                    new GeneratePresignedUrlRequest(awsProperties.getBucket(), key)
-                            .withMethod(HttpMethod.GET)
-                            .withExpiration(expiration);
-
-            String url = amazonS3.generatePresignedUrl(req).toString();
+            String url = presignedUrlService.presign(key);
             return ApiResponseDTO.success(SuccessCode.AUDIO_200_003, url);
         } catch (CustomException e) {
             throw e;
@@ -233,13 +264,23 @@ public class S3ServiceImpl implements S3Service {
 
     @Override
     public String uploadBytes(byte[] bytes, String objectKey, String contentType) throws IOException {
-        ObjectMetadata meta = new ObjectMetadata();
-        meta.setContentType(contentType);
-        meta.setContentLength(bytes.length);
-        try (InputStream in = new ByteArrayInputStream(bytes)) {
-            amazonS3.putObject(new PutObjectRequest(bucket, objectKey, in, meta));
+        return await(objectStorage.upload(objectKey, new ByteArrayResource(bytes), bytes.length, contentType));
+    }
+
+    // 동기 API용: 전송 완료를 기다리고 원래 예외로 되돌린다
+    private String await(CompletableFuture<String> upload) throws IOException {
+        try {
+            return upload.join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException io) {
+                throw io;
+            }
+            if (cause instanceof RuntimeException re) {
+                throw re;
+            }
+            throw e;
         }
-        return objectKey;
     }
 
     private void validateAudioFile(MultipartFile file) {
@@ -0,0 +1,172 @@
+package com.gyeongditor.storyfield.service.impl;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import com.gyeongditor.storyfield.config.AwsProperties;
+import com.gyeongditor.storyfield.service.S3TransferService;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Profile;
+import org.springframework.core.io.InputStreamSource;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * S3 전송 엔진
+ * 멀티파트 임계값 이상인 객체는 파트를 s3TransferExecutor에서 병렬로 올리고,
+ * 모든 업로드는 CompletableFuture로 완료를 알린다.
+ */
+@Slf4j
+@Service
+@Profile("!local-storage")
+public class S3TransferServiceImpl implements S3TransferService {
+
+    // S3 멀티파트 업로드의 최소 파트 크기 (마지막 파트 제외)
+    private static final long MIN_MULTIPART_PART_SIZE = 5L * 1024 * 1024;
+
+    private final AmazonS3 amazonS3;
+    private final AwsProperties awsProperties;
+    private final TaskExecutor transferExecutor;
+
+    public S3TransferServiceImpl(
+            AmazonS3 amazonS3,
+            AwsProperties awsProperties,
+            @Qualifier("s3TransferExecutor") TaskExecutor transferExecutor
+    ) {
+        this.amazonS3 = amazonS3;
+        this.awsProperties = awsProperties;
+        this.transferExecutor = transferExecutor;
+    }
+
+    @Override
+    public CompletableFuture<String> upload(String objectKey, InputStreamSource source,
+                                            long contentLength, String contentType) {
+        final long startNanos = System.nanoTime();
+        final AwsProperties.Transfer transfer = awsProperties.getTransfer();
+        final long threshold = Math.max(transfer.getMultipartThreshold().toBytes(), MIN_MULTIPART_PART_SIZE);
+
+        if (contentLength < threshold) {
+            return CompletableFuture.supplyAsync(() -> {
+                try (InputStream in = source.getInputStream()) {
+                    return putSingle(objectKey, in, contentLength, contentType, startNanos);
+                } catch (IOException e) {
+                    throw new CompletionException(e);
+                }
+            }, transferExecutor);
+        }
+
+        final long partSize = Math.max(transfer.getPartSize().toBytes(), MIN_MULTIPART_PART_SIZE);
+        return CompletableFuture
+                .supplyAsync(() -> initiate(objectKey, contentType), transferExecutor)
+                .thenCompose(uploadId -> {
+                    List<CompletableFuture<PartETag>> parts = new ArrayList<>();
+                    int partNumber = 1;
+                    for (long offset = 0; offset < contentLength; offset += partSize) {
+                        long size = Math.min(partSize, contentLength - offset);
+                        parts.add(uploadRangeAsync(objectKey, uploadId, partNumber++, source, offset, size,
+                                offset + size >= contentLength));
+                    }
+                    return completeWhenDone(objectKey, uploadId, parts, contentLength, startNanos);
+                });
+    }
+
+    private String putSingle(String objectKey, InputStream in, long contentLength, String contentType, long startNanos) {
+        ObjectMetadata meta = new ObjectMetadata();
+        meta.setContentType(contentType);
+        meta.setContentLength(contentLength);
+        amazonS3.putObject(new PutObjectRequest(awsProperties.getBucket(), objectKey, in, meta));
+
+        log.info("S3업로드완료 key={} parts=1 size={}KB duration={}ms throughput={}MB/s",
+                objectKey, contentLength / 1024, elapsedMillis(startNanos), throughput(contentLength, startNanos));
+        return objectKey;
+    }
+
+    private String initiate(String objectKey, String contentType) {
+        ObjectMetadata meta = new ObjectMetadata();
+        meta.setContentType(contentType);
+        return amazonS3.initiateMultipartUpload(
+                new InitiateMultipartUploadRequest(awsProperties.getBucket(), objectKey, meta)).getUploadId();
+    }
+
+    private CompletableFuture<PartETag> uploadRangeAsync(String objectKey, String uploadId, int partNumber,
+                                                         InputStreamSource source, long offset, long size,
+                                                         boolean lastPart) {
+        return CompletableFuture.supplyAsync(() -> {
+            final long startNanos = System.nanoTime();
+            // 파트마다 스트림을 따로 열어 자기 구간만 읽는다 (디스크에 내려간 멀티파트 파일은 skip 비용이 없음)
+            try (InputStream in = source.getInputStream()) {
+                in.skipNBytes(offset);
+                PartETag etag = amazonS3.uploadPart(new UploadPartRequest()
+                        .withBucketName(awsProperties.getBucket())
+                        .withKey(objectKey)
+                        .withUploadId(uploadId)
+                        .withPartNumber(partNumber)
+                        .withPartSize(size)
+                        .withLastPart(lastPart)
+                        .withInputStream(in)).getPartETag();
+                logPart(objectKey, partNumber, size, startNanos);
+                return etag;
+            } catch (IOException e) {
+                throw new CompletionException(e);
+            }
+        }, transferExecutor);
+    }
+
+    private CompletableFuture<String> completeWhenDone(String objectKey, String uploadId,
+                                                       List<CompletableFuture<PartETag>> parts,
+                                                       long totalBytes, long startNanos) {
+        return CompletableFuture.allOf(parts.toArray(CompletableFuture[]::new))
+                .thenApply(done -> {
+                    List<PartETag> partETags = parts.stream().map(CompletableFuture::join).toList();
+                    amazonS3.completeMultipartUpload(new CompleteMultipartUploadRequest(
+                            awsProperties.getBucket(), objectKey, uploadId, new ArrayList<>(partETags)));
+
+                    log.info("S3업로드완료 key={} parts={} size={}KB duration={}ms throughput={}MB/s",
+                            objectKey, partETags.size(), totalBytes / 1024,
+                            elapsedMillis(startNanos), throughput(totalBytes, startNanos));
+                    return objectKey;
+                })
+                .whenComplete((key, ex) -> {
+                    if (ex != null) {
+                        abort(objectKey, uploadId);
+                    }
+                });
+    }
+
+    private void abort(String objectKey, String uploadId) {
+        try {
+            // 미완료 멀티파트는 과금 대상으로 남으므로 반드시 abort
+            amazonS3.abortMultipartUpload(new AbortMultipartUploadRequest(awsProperties.getBucket(), objectKey, uploadId));
+        } catch (Exception e) {
+            log.error("S3멀티파트취소실패 key={} uploadId={} error={}", objectKey, uploadId, e.getMessage());
+        }
+    }
+
+    private void logPart(String objectKey, int partNumber, long size, long startNanos) {
+        log.info("S3파트업로드완료 key={} part={} size={}KB duration={}ms throughput={}MB/s",
+                objectKey, partNumber, size / 1024, elapsedMillis(startNanos), throughput(size, startNanos));
+    }
+
+    private static long elapsedMillis(long startNanos) {
+        return (System.nanoTime() - startNanos) / 1_000_000;
+    }
+
+    private static String throughput(long bytes, long startNanos) {
+        double seconds = Math.max(System.nanoTime() - startNanos, 1) / 1_000_000_000.0;
+        return String.format("%.2f", bytes / (1024.0 * 1024.0) / seconds);
+    }
+
+}
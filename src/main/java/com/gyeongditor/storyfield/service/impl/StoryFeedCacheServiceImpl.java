@@ -0,0 +1,202 @@
+package com.gyeongditor.storyfield.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gyeongditor.storyfield.config.FeedCacheProperties;
+import com.gyeongditor.storyfield.dto.Story.StoryFeedView;
+import com.gyeongditor.storyfield.exception.CustomException;
+import com.gyeongditor.storyfield.repository.StoryFeedRedisRepository;
+import com.gyeongditor.storyfield.repository.StoryRepository;
+import com.gyeongditor.storyfield.response.ErrorCode;
+import com.gyeongditor.storyfield.service.StoryFeedCacheService;
+import com.gyeongditor.storyfield.util.TransactionCallbacks;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * 메인 피드 앞부분(windowSize 개) 캐시
+ * 인스턴스 메모리 사본(localTtl) → Redis 사본 → DB 순으로 찾고, 적중하면 DB 를 전혀 거치지 않는다.
+ * Redis 사본은 TTL 만료를 기다리지 않고 저장/삭제 시점에 한 건씩 고친다.
+ * 삭제로 사본이 줄어 요청 구간을 채우지 못하면 그때 DB 에서 다시 만든다.
+ */
+@Slf4j
+@Service
+public class StoryFeedCacheServiceImpl implements StoryFeedCacheService {
+
+    private final StoryFeedRedisRepository feedRedisRepository;
+    private final StoryRepository storyRepository;
+    private final FeedCacheProperties properties;
+    private final ObjectMapper objectMapper;
+
+    private final Counter localHits;
+    private final Counter localMisses;
+    private final Counter redisHits;
+    private final Counter redisMisses;
+
+    // 인스턴스 메모리 사본, 이 인스턴스에서 저장/삭제하면 바로 버린다
+    private volatile LocalWindow local;
+
+    private record LocalWindow(List<StoryFeedView> items, boolean complete, long loadedAt) {
+
+        boolean covers(int end) {
+            return complete || items.size() >= end;
+        }
+    }
+
+    public StoryFeedCacheServiceImpl(StoryFeedRedisRepository feedRedisRepository,
+                                     StoryRepository storyRepository,
+                                     FeedCacheProperties properties,
+                                     ObjectMapper objectMapper,
+                                     MeterRegistry meterRegistry) {
+        this.feedRedisRepository = feedRedisRepository;
+        this.storyRepository = storyRepository;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+        this.localHits = Counter.builder("story.feed.cache").tag("tier", "local").tag("result", "hit").register(meterRegistry);
+        this.localMisses = Counter.builder("story.feed.cache").tag("tier", "local").tag("result", "miss").register(meterRegistry);
+        this.redisHits = Counter.builder("story.feed.cache").tag("tier", "redis").tag("result", "hit").register(meterRegistry);
+        this.redisMisses = Counter.builder("story.feed.cache").tag("tier", "redis").tag("result", "miss").register(meterRegistry);
+    }
+
+    @Override
+    public Optional<List<StoryFeedView>> find(int offset, int limit) {
+        final int end = offset + limit;
+        if (!properties.isEnabled() || offset < 0 || end > properties.getWindowSize()) {
+            return Optional.empty();
+        }
+
+        LocalWindow window = local;
+        if (isFresh(window) && window.covers(end)) {
+            localHits.increment();
+            return Optional.of(slice(window, offset, end));
+        }
+        localMisses.increment();
+
+        try {
+            window = load(end);
+        } catch (Exception e) {
+            // Redis 장애 시 캐시 없이 DB 로 조회한다
+            log.warn("피드캐시조회실패 error={}", e.getMessage());
+            return Optional.empty();
+        }
+        return Optional.of(slice(window, offset, end));
+    }
+
+    // 같은 인스턴스의 동시 미스는 한 번만 Redis/DB 를 읽는다
+    private synchronized LocalWindow load(int end) {
+        LocalWindow window = local;
+        if (isFresh(window) && window.covers(end)) {
+            return window;
+        }
+
+        StoryFeedRedisRepository.Window stored = feedRedisRepository.read();
+        // 항목이 빠진 사본(중간에 끊긴 갱신)은 쓰지 않고 다시 만든다
+        if (stored != null && !stored.items().contains("")) {
+            window = new LocalWindow(stored.items().stream().map(this::fromJson).toList(),
+                    stored.complete(), System.nanoTime());
+            if (window.covers(end)) {
+                redisHits.increment();
+                local = window;
+                return window;
+            }
+        }
+        redisMisses.increment();
+        window = rebuild();
+        local = window;
+        return window;
+    }
+
+    // DB 에서 앞부분을 다시 읽어 Redis 사본을 교체한다 (windowSize + 1 개를 읽어 뒤가 더 있는지 판단)
+    private LocalWindow rebuild() {
+        final String version = feedRedisRepository.version();
+        final Slice<StoryFeedView> rows = storyRepository.findFeed(PageRequest.of(0, properties.getWindowSize()));
+
+        final List<StoryFeedRedisRepository.Entry> entries = new ArrayList<>(rows.getNumberOfElements());
+        rows.forEach(row -> entries.add(toEntry(row)));
+        if (!feedRedisRepository.replace(version, entries, !rows.hasNext(), properties.getRedisTtl())) {
+            // 읽는 사이 저장/삭제가 있었다, 이번 응답에는 쓰되 Redis 에는 남기지 않는다
+            log.info("피드캐시재적재건너뜀 version={}", version);
+        }
+        return new LocalWindow(rows.getContent(), !rows.hasNext(), System.nanoTime());
+    }
+
+    @Override
+    public void added(StoryFeedView story) {
+        // 캐시에서 나간 createdAt 이 커서가 되므로 DB 에 저장되는 정밀도(마이크로초)보다 세밀하면 안 된다
+        final StoryFeedView stored = new StoryFeedView(story.storyId(), story.storyTitle(),
+                story.thumbnailFileName(), story.createdAt().truncatedTo(ChronoUnit.MICROS));
+        afterCommit(() -> feedRedisRepository.add(toEntry(stored), properties.getWindowSize(), properties.getRedisTtl()));
+    }
+
+    @Override
+    public void removed(UUID storyId) {
+        afterCommit(() -> feedRedisRepository.remove(storyId.toString()));
+    }
+
+    private void afterCommit(Runnable update) {
+        if (properties.isEnabled()) {
+            TransactionCallbacks.afterCommit(() -> apply(update));
+        }
+    }
+
+    private void apply(Runnable update) {
+        local = null;
+        try {
+            update.run();
+        } catch (Exception e) {
+            log.warn("피드캐시갱신실패 error={}", e.getMessage());
+            try {
+                feedRedisRepository.clear();
+            } catch (Exception clearError) {
+                // 사본은 redisTtl 이 지나면 사라진다
+                log.warn("피드캐시삭제실패 error={}", clearError.getMessage());
+            }
+        }
+    }
+
+    private boolean isFresh(LocalWindow window) {
+        return window != null && System.nanoTime() - window.loadedAt() < properties.getLocalTtl().toNanos();
+    }
+
+    private static List<StoryFeedView> slice(LocalWindow window, int offset, int end) {
+        List<StoryFeedView> items = window.items();
+        return items.subList(Math.min(offset, items.size()), Math.min(end, items.size()));
+    }
+
+    private StoryFeedRedisRepository.Entry toEntry(StoryFeedView story) {
+        return new StoryFeedRedisRepository.Entry(story.storyId().toString(), score(story.createdAt()), toJson(story));
+    }
+
+    // 정렬에만 쓰므로 기준 시간대는 상관없다 (마이크로초까지는 double 로도 정확하다)
+    private static long score(LocalDateTime createdAt) {
+        return ChronoUnit.MICROS.between(LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC), createdAt);
+    }
+
+    private String toJson(StoryFeedView story) {
+        try {
+            return objectMapper.writeValueAsString(story);
+        } catch (JsonProcessingException e) {
+            throw new CustomException(ErrorCode.SERVER_500_001, "피드 캐시 항목 변환 실패");
+        }
+    }
+
+    private StoryFeedView fromJson(String json) {
+        try {
+            return objectMapper.readValue(json, StoryFeedView.class);
+        } catch (JsonProcessingException e) {
+            throw new CustomException(ErrorCode.SERVER_500_001, "피드 캐시 항목 변환 실패");
+        }
+    }
+}
@@ -0,0 +1,164 @@
+package com.gyeongditor.storyfield.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gyeongditor.storyfield.config.IngestProperties;
+import com.gyeongditor.storyfield.dto.ApiResponseDTO;
+import com.gyeongditor.storyfield.exception.CustomException;
+import com.gyeongditor.storyfield.exception.RetryableException;
+import com.gyeongditor.storyfield.repository.StoryIdempotencyRedisRepository;
+import com.gyeongditor.storyfield.response.ErrorCode;
+import com.gyeongditor.storyfield.service.StoryIdempotencyService;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.util.UUID;
+import java.util.function.Supplier;
+
+@Slf4j
+@Service
+public class StoryIdempotencyServiceImpl implements StoryIdempotencyService {
+
+    private static final int MAX_KEY_LENGTH = 128;
+    private static final String PENDING = "PENDING";
+    private static final String DONE = "DONE";
+
+    private final StoryIdempotencyRedisRepository idempotencyRepository;
+    private final IngestProperties ingestProperties;
+    private final ObjectMapper objectMapper;
+
+    private final Counter executed;
+    private final Counter replayed;
+    private final Counter waited;
+
+    public StoryIdempotencyServiceImpl(StoryIdempotencyRedisRepository idempotencyRepository,
+                                       IngestProperties ingestProperties,
+                                       ObjectMapper objectMapper,
+                                       MeterRegistry meterRegistry) {
+        this.idempotencyRepository = idempotencyRepository;
+        this.ingestProperties = ingestProperties;
+        this.objectMapper = objectMapper;
+        this.executed = Counter.builder("story.idempotency").tag("result", "executed").register(meterRegistry);
+        this.replayed = Counter.builder("story.idempotency").tag("result", "replayed").register(meterRegistry);
+        this.waited = Counter.builder("story.idempotency").tag("result", "waited").register(meterRegistry);
+    }
+
+    // 처리 중 표식 / 완료 응답을 같은 형태로 보관한다 (response 는 완료 시에만 채움)
+    record IdempotencyRecord(String state, String owner, String fingerprint, ApiResponseDTO<String> response) {
+    }
+
+    @Override
+    public ApiResponseDTO<String> execute(String userId, String idempotencyKey, String fingerprint,
+                                          Supplier<ApiResponseDTO<String>> action) {
+        if (idempotencyKey.isBlank() || idempotencyKey.length() > MAX_KEY_LENGTH) {
+            throw new CustomException(ErrorCode.STORY_400_005,
+                    "Idempotency-Key 는 1~" + MAX_KEY_LENGTH + "자여야 합니다.");
+        }
+        final String key = userId + ":" + idempotencyKey;
+        final String pending = write(new IdempotencyRecord(PENDING, UUID.randomUUID().toString(), fingerprint, null));
+        final long deadline = System.nanoTime() + ingestProperties.getIdempotencyWaitTimeout().toNanos();
+        boolean counted = false;
+
+        while (true) {
+            final boolean claimed;
+            final String stored;
+            try {
+                claimed = idempotencyRepository.claim(key, pending, ingestProperties.getIdempotencyLease());
+                stored = claimed ? null : idempotencyRepository.find(key);
+            } catch (Exception e) {
+                // Redis 장애 시 중복 방지 없이 처리한다 (요청 자체를 막지 않음)
+                log.warn("멱등키조회실패 key={} error={}", key, e.getMessage());
+                return action.get();
+            }
+
+            if (claimed) {
+                return runClaimed(key, pending, fingerprint, action);
+            }
+            // 확인하는 사이 만료/해제된 경우 다시 선점을 시도한다
+            if (stored == null) {
+                continue;
+            }
+
+            final IdempotencyRecord record = read(stored);
+            if (!fingerprint.equals(record.fingerprint())) {
+                throw new CustomException(ErrorCode.STORY_422_001,
+                        "같은 Idempotency-Key 로 다른 스토리 요청이 들어왔습니다.");
+            }
+            if (DONE.equals(record.state())) {
+                replayed.increment();
+                log.info("멱등키응답재사용 key={}", key);
+                return record.response();
+            }
+
+            // 먼저 들어온 요청이 처리 중: 결과가 저장될 때까지 기다린다
+            if (!counted) {
+                waited.increment();
+                counted = true;
+            }
+            if (System.nanoTime() >= deadline) {
+                throw new RetryableException(ErrorCode.STORY_409_001,
+                        "같은 Idempotency-Key 요청이 아직 처리 중입니다.", ingestProperties.getRetryAfter());
+            }
+            sleep();
+        }
+    }
+
+    private ApiResponseDTO<String> runClaimed(String key, String pending, String fingerprint,
+                                              Supplier<ApiResponseDTO<String>> action) {
+        final ApiResponseDTO<String> response;
+        try {
+            response = action.get();
+        } catch (RuntimeException | Error e) {
+            // 저장 전에 실패했으므로 표식을 지워 재시도가 다시 처리되게 한다
+            releaseQuietly(key, pending);
+            throw e;
+        }
+
+        executed.increment();
+        try {
+            idempotencyRepository.complete(key,
+                    write(new IdempotencyRecord(DONE, null, fingerprint, response)),
+                    ingestProperties.getIdempotencyTtl());
+        } catch (Exception e) {
+            // 이미 저장된 결과는 그대로 돌려주고, 표식은 lease 만료로 정리된다
+            log.warn("멱등키결과저장실패 key={} error={}", key, e.getMessage());
+        }
+        return response;
+    }
+
+    private void releaseQuietly(String key, String pending) {
+        try {
+            idempotencyRepository.release(key, pending);
+        } catch (Exception e) {
+            log.warn("멱등키해제실패 key={} error={}", key, e.getMessage());
+        }
+    }
+
+    private void sleep() {
+        try {
+            Thread.sleep(ingestProperties.getIdempotencyPollInterval().toMillis());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RetryableException(ErrorCode.STORY_409_001,
+                    "같은 Idempotency-Key 요청이 아직 처리 중입니다.", ingestProperties.getRetryAfter());
+        }
+    }
+
+    private String write(IdempotencyRecord record) {
+        try {
+            return objectMapper.writeValueAsString(record);
+        } catch (JsonProcessingException e) {
+            throw new CustomException(ErrorCode.SERVER_500_001, "멱등키 기록 변환 실패");
+        }
+    }
+
+    private IdempotencyRecord read(String value) {
+        try {
+            return objectMapper.readValue(value, IdempotencyRecord.class);
+        } catch (JsonProcessingException e) {
+            throw new CustomException(ErrorCode.SERVER_500_001, "멱등키 기록 변환 실패");
+        }
+    }
+}
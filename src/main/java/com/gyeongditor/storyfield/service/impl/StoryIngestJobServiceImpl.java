@@ -0,0 +1,392 @@
+package com.gyeongditor.storyfield.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gyeongditor.storyfield.Entity.StoryIngestJob;
+import com.gyeongditor.storyfield.Entity.StoryIngestStatus;
+import com.gyeongditor.storyfield.Entity.User;
+import com.gyeongditor.storyfield.config.IngestProperties;
+import com.gyeongditor.storyfield.dto.ApiResponseDTO;
+import com.gyeongditor.storyfield.dto.Story.SaveStoryDTO;
+import com.gyeongditor.storyfield.dto.Story.StoryImageSource;
+import com.gyeongditor.storyfield.dto.Story.StoryIngestJobResponseDTO;
+import com.gyeongditor.storyfield.dto.Story.UploadedStoryImages;
+import com.gyeongditor.storyfield.exception.CustomException;
+import com.gyeongditor.storyfield.exception.RetryableException;
+import com.gyeongditor.storyfield.repository.StoryIngestJobRepository;
+import com.gyeongditor.storyfield.repository.UserRepository;
+import com.gyeongditor.storyfield.response.ErrorCode;
+import com.gyeongditor.storyfield.response.SuccessCode;
+import com.gyeongditor.storyfield.service.AuthService;
+import com.gyeongditor.storyfield.service.StoryIngestJobService;
+import com.gyeongditor.storyfield.service.StoryPersistenceService;
+import com.gyeongditor.storyfield.service.StoryService;
+import com.gyeongditor.storyfield.service.UserService;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.core.task.TaskExecutor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.FileSystemUtils;
+import org.springframework.util.StringUtils;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * 비동기 스토리 생성 작업
+ * 요청 이미지를 스풀 디렉터리로 옮기고 작업 상태를 DB 에 남긴 뒤 202 를 반환한다.
+ * 워커는 RECEIVED → UPLOADING → PERSISTING → DONE/FAILED 순으로 상태를 기록하며,
+ * 재시작 시 끝나지 않은 작업을 다시 처리한다.
+ * 스풀은 인스턴스 로컬이므로 작업마다 소유 인스턴스와 리스를 두고,
+ * 자기 작업이나 하트비트가 끊긴(리스가 끝난) 작업만 이어서 처리한다.
+ */
+@Slf4j
+@Service
+@Lazy(false) // 지연 초기화 환경에서도 하트비트(@Scheduled)가 등록되도록 즉시 생성
+public class StoryIngestJobServiceImpl implements StoryIngestJobService {
+
+    private static final String THUMBNAIL_PREFIX = "thumbnail_";
+    private static final String PAGE_PREFIX_FORMAT = "page-%03d_";
+    private static final int PAGE_PREFIX_LENGTH = String.format(PAGE_PREFIX_FORMAT, 0).length();
+    private static final String NODE_ID_FILE = ".node-id";
+    private static final Set<StoryIngestStatus> UNFINISHED =
+            EnumSet.of(StoryIngestStatus.RECEIVED, StoryIngestStatus.UPLOADING, StoryIngestStatus.PERSISTING);
+
+    private final StoryIngestJobRepository storyIngestJobRepository;
+    private final UserRepository userRepository;
+    private final StoryService storyService;
+    private final StoryPersistenceService storyPersistenceService;
+    private final UserService userService;
+    private final AuthService authService;
+    private final ObjectMapper objectMapper;
+    private final IngestProperties ingestProperties;
+    private final TaskExecutor jobExecutor;
+    private final TransactionTemplate transactionTemplate;
+
+    private String nodeId;
+
+    public StoryIngestJobServiceImpl(
+            StoryIngestJobRepository storyIngestJobRepository,
+            UserRepository userRepository,
+            StoryService storyService,
+            StoryPersistenceService storyPersistenceService,
+            UserService userService,
+            AuthService authService,
+            ObjectMapper objectMapper,
+            IngestProperties ingestProperties,
+            @Qualifier("storyIngestJobExecutor") TaskExecutor jobExecutor,
+            TransactionTemplate transactionTemplate
+    ) {
+        this.storyIngestJobRepository = storyIngestJobRepository;
+        this.userRepository = userRepository;
+        this.storyService = storyService;
+        this.storyPersistenceService = storyPersistenceService;
+        this.userService = userService;
+        this.authService = authService;
+        this.objectMapper = objectMapper;
+        this.ingestProperties = ingestProperties;
+        this.jobExecutor = jobExecutor;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    @PostConstruct
+    public void init() {
+        nodeId = StringUtils.hasText(ingestProperties.getNodeId()) ? ingestProperties.getNodeId() : readOrCreateNodeId();
+        log.info("스토리작업노드 nodeId={}", nodeId);
+    }
+
+    @Override
+    public ResponseEntity<ApiResponseDTO<StoryIngestJobResponseDTO>> acceptStory(
+            HttpServletRequest request,
+            String saveStoryDtoString,
+            MultipartFile thumbnailGz,
+            List<MultipartFile> pageImagesGz
+    ) {
+        final String accessToken = authService.extractAccessToken(request);
+        final User user = userService.getUserFromToken(accessToken);
+
+        // 형식 오류는 접수 단계에서 바로 돌려준다
+        final SaveStoryDTO saveStoryDTO = readSaveStoryDto(saveStoryDtoString);
+        if (saveStoryDTO.getPages() == null || saveStoryDTO.getPages().size() != pageImagesGz.size()) {
+            throw new CustomException(ErrorCode.STORY_400_004);
+        }
+
+        final UUID jobId = UUID.randomUUID();
+        final Path jobDir = jobDir(jobId);
+        try {
+            Files.createDirectories(jobDir);
+            // 톰캣이 이미 디스크에 내려둔 파트를 옮기기만 한다
+            thumbnailGz.transferTo(jobDir.resolve(THUMBNAIL_PREFIX + StoryServiceImpl.safeName(thumbnailGz.getOriginalFilename())));
+            for (int i = 0; i < pageImagesGz.size(); i++) {
+                MultipartFile page = pageImagesGz.get(i);
+                page.transferTo(jobDir.resolve(String.format(PAGE_PREFIX_FORMAT, i) + StoryServiceImpl.safeName(page.getOriginalFilename())));
+            }
+        } catch (IOException e) {
+            deleteSpool(jobDir);
+            log.error("스토리작업스풀실패 jobId={} error={}", jobId, e.getMessage());
+            throw new CustomException(ErrorCode.STORY_500_005);
+        }
+
+        final StoryIngestJob job = storyIngestJobRepository.save(StoryIngestJob.builder()
+                .jobId(jobId)
+                .userId(user.getUserId())
+                .saveStoryDto(saveStoryDtoString)
+                .pageCount(pageImagesGz.size())
+                .status(StoryIngestStatus.RECEIVED)
+                .createdAt(LocalDateTime.now())
+                .ownerNode(nodeId)
+                .leaseUntil(leaseUntil())
+                .build());
+
+        log.info("스토리작업접수 jobId={} userId={} pageCount={}", jobId, user.getUserId(), pageImagesGz.size());
+        jobExecutor.execute(() -> process(jobId));
+
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .header(HttpHeaders.LOCATION, "/v1/stories/jobs/" + jobId)
+                .body(ApiResponseDTO.success(SuccessCode.STORY_202_001, StoryIngestJobResponseDTO.from(job)));
+    }
+
+    @Override
+    public ApiResponseDTO<StoryIngestJobResponseDTO> getJob(HttpServletRequest request, UUID jobId) {
+        final String accessToken = authService.extractAccessToken(request);
+        final User user = userService.getUserFromToken(accessToken);
+
+        final StoryIngestJob job = storyIngestJobRepository.findById(jobId)
+                .orElseThrow(() -> new CustomException(ErrorCode.STORY_404_002));
+        if (!job.getUserId().equals(user.getUserId())) {
+            throw new CustomException(ErrorCode.AUTH_403_002, "본인 작업만 조회할 수 있습니다.");
+        }
+
+        return ApiResponseDTO.success(SuccessCode.STORY_200_003, StoryIngestJobResponseDTO.from(job));
+    }
+
+    // 재시작 전에 끝나지 않은 이 인스턴스의 작업을 다시 처리 (업로드는 다시 하고, 저장은 작업 완료와 같은 트랜잭션이라 중복되지 않는다)
+    // 다른 인스턴스의 작업은 그 인스턴스가 처리 중일 수 있으므로 리스가 끝난 것만 가져온다
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeUnfinishedJobs() {
+        storyIngestJobRepository.renewLeases(nodeId, UNFINISHED, leaseUntil());
+        List<StoryIngestJob> owned = storyIngestJobRepository.findByOwnerNodeAndStatusInOrderByCreatedAtAsc(nodeId, UNFINISHED);
+        if (!owned.isEmpty()) {
+            log.info("스토리작업재개 nodeId={} count={}", nodeId, owned.size());
+        }
+        owned.forEach(job -> jobExecutor.execute(() -> process(job.getJobId())));
+        takeOverExpiredJobs();
+    }
+
+    // 이 인스턴스가 살아 있는 동안 자기 작업의 리스를 연장하고, 하트비트가 끊긴 인스턴스의 작업을 넘겨받는다
+    @Scheduled(fixedDelayString = "${story.ingest.job-heartbeat:PT30S}", initialDelayString = "${story.ingest.job-heartbeat:PT30S}")
+    public void heartbeat() {
+        try {
+            storyIngestJobRepository.renewLeases(nodeId, UNFINISHED, leaseUntil());
+            takeOverExpiredJobs();
+        } catch (Exception e) {
+            log.warn("스토리작업하트비트실패 nodeId={} error={}", nodeId, e.getMessage());
+        }
+    }
+
+    // 넘겨받은 작업의 스풀은 대개 이 인스턴스에 없으므로 process 에서 실패로 기록된다
+    private void takeOverExpiredJobs() {
+        final LocalDateTime now = LocalDateTime.now();
+        for (StoryIngestJob job : storyIngestJobRepository.findExpired(UNFINISHED, now)) {
+            if (storyIngestJobRepository.claimExpired(job.getJobId(), nodeId, UNFINISHED, now, leaseUntil()) == 1) {
+                log.info("스토리작업인수 jobId={} previousOwner={} nodeId={}", job.getJobId(), job.getOwnerNode(), nodeId);
+                jobExecutor.execute(() -> process(job.getJobId()));
+            }
+        }
+    }
+
+    private void process(UUID jobId) {
+        final long startTime = System.currentTimeMillis();
+        final StoryIngestJob job = storyIngestJobRepository.findById(jobId).orElse(null);
+        if (job == null || job.getStatus().isFinished()) {
+            return;
+        }
+        final Path jobDir = jobDir(jobId);
+        if (!Files.isDirectory(jobDir)) {
+            log.error("스토리작업스풀없음 jobId={} ownerNode={} nodeId={}", jobId, job.getOwnerNode(), nodeId);
+            markFailed(job, ErrorCode.STORY_500_005.getCode(), "작업을 보관한 인스턴스의 스풀을 찾을 수 없습니다.");
+            return;
+        }
+
+        try {
+            final User user = userRepository.findById(job.getUserId())
+                    .orElseThrow(() -> new CustomException(ErrorCode.USER_404_002, "작업을 요청한 사용자가 존재하지 않습니다."));
+            final SaveStoryDTO saveStoryDTO = readSaveStoryDto(job.getSaveStoryDto());
+
+            if (!changeStatus(job, StoryIngestStatus.UPLOADING)) {
+                deleteSpool(jobDir);
+                return;
+            }
+            final UploadedStoryImages uploaded = uploadWhenAdmitted(job, user, spooledThumbnail(jobDir), spooledPages(jobDir));
+
+            if (!changeStatus(job, StoryIngestStatus.PERSISTING)) {
+                deleteSpool(jobDir);
+                return;
+            }
+            // 스토리 저장과 작업 완료 기록을 한 트랜잭션으로 묶어 재처리 시 중복 저장을 막는다
+            final boolean completed = Boolean.TRUE.equals(transactionTemplate.execute(status -> {
+                UUID storyId = storyPersistenceService.persistStory(
+                        user, saveStoryDTO, uploaded.thumbnailKey(), uploaded.pageImageKeys());
+                job.complete(storyId);
+                if (saveIfOwner(job)) {
+                    return true;
+                }
+                // 그 사이 다른 인스턴스가 실패로 기록했으면 스토리도 남기지 않는다 (올린 이미지는 고아 객체 정리 대상)
+                status.setRollbackOnly();
+                return false;
+            }));
+            if (!completed) {
+                deleteSpool(jobDir);
+                return;
+            }
+
+            log.info("스토리작업완료 jobId={} storyId={} duration={}ms",
+                    jobId, job.getStoryId(), System.currentTimeMillis() - startTime);
+        } catch (InterruptedException e) {
+            // 종료 중: 상태와 스풀을 그대로 두고 재시작 후 이어서 처리
+            Thread.currentThread().interrupt();
+            log.warn("스토리작업중단 jobId={} status={}", jobId, job.getStatus());
+            return;
+        } catch (CustomException e) {
+            log.error("스토리작업실패 jobId={} code={} error={}", jobId, e.getErrorCode().getCode(), e.getCustomMessage());
+            markFailed(job, e.getErrorCode().getCode(), e.getCustomMessage());
+        } catch (Exception e) {
+            log.error("스토리작업예외 jobId={} error={}", jobId, e.getMessage(), e);
+            markFailed(job, ErrorCode.SERVER_500_001.getCode(), e.getMessage());
+        }
+
+        deleteSpool(jobDir);
+    }
+
+    // 백그라운드 작업은 거절 대신 Retry-After 만큼 기다렸다가 다시 용량을 요청한다
+    private UploadedStoryImages uploadWhenAdmitted(StoryIngestJob job, User user,
+                                                   StoryImageSource thumbnail, List<StoryImageSource> pages)
+            throws InterruptedException {
+        while (true) {
+            try {
+                return storyService.uploadStoryImages(user, thumbnail, pages);
+            } catch (RetryableException e) {
+                log.info("스토리작업대기 jobId={} reason={} retryAfter={}s",
+                        job.getJobId(), e.getErrorCode().getCode(), e.getRetryAfter().toSeconds());
+                Thread.sleep(e.getRetryAfter().toMillis());
+            }
+        }
+    }
+
+    // 작업을 더 이상 이 인스턴스가 갖고 있지 않으면 false, 호출한 쪽은 처리를 멈춘다
+    private boolean changeStatus(StoryIngestJob job, StoryIngestStatus status) {
+        job.changeStatus(status);
+        return saveIfOwner(job);
+    }
+
+    private void markFailed(StoryIngestJob job, String errorCode, String errorMessage) {
+        try {
+            job.fail(errorCode, errorMessage);
+            saveIfOwner(job);
+        } catch (Exception e) {
+            log.error("스토리작업상태저장실패 jobId={} error={}", job.getJobId(), e.getMessage());
+        }
+    }
+
+    // 엔티티 전체를 저장하지 않고 소유자/미완료 조건을 건 UPDATE 로 기록한다
+    private boolean saveIfOwner(StoryIngestJob job) {
+        if (storyIngestJobRepository.updateStatusIfOwner(job, nodeId, UNFINISHED) == 1) {
+            return true;
+        }
+        log.warn("스토리작업소유권상실 jobId={} status={} nodeId={}", job.getJobId(), job.getStatus(), nodeId);
+        return false;
+    }
+
+    private SaveStoryDTO readSaveStoryDto(String saveStoryDtoString) {
+        try {
+            return objectMapper.readValue(saveStoryDtoString, SaveStoryDTO.class);
+        } catch (IOException e) {
+            throw new CustomException(ErrorCode.REQ_400_001, "스토리 데이터 변환 실패");
+        }
+    }
+
+    private StoryImageSource spooledThumbnail(Path jobDir) throws IOException {
+        try (Stream<Path> files = Files.list(jobDir)) {
+            Path thumbnail = files
+                    .filter(path -> path.getFileName().toString().startsWith(THUMBNAIL_PREFIX))
+                    .findFirst()
+                    .orElseThrow(() -> new CustomException(ErrorCode.STORY_500_005, "보관된 썸네일이 없습니다."));
+            return toSource(thumbnail, THUMBNAIL_PREFIX.length());
+        }
+    }
+
+    private List<StoryImageSource> spooledPages(Path jobDir) throws IOException {
+        try (Stream<Path> files = Files.list(jobDir)) {
+            // 파일명 앞의 page-000_ 순서가 곧 페이지 순서
+            List<Path> pages = files
+                    .filter(path -> path.getFileName().toString().startsWith("page-"))
+                    .sorted()
+                    .toList();
+            List<StoryImageSource> sources = new ArrayList<>(pages.size());
+            for (Path page : pages) {
+                sources.add(toSource(page, PAGE_PREFIX_LENGTH));
+            }
+            return sources;
+        }
+    }
+
+    private static StoryImageSource toSource(Path file, int prefixLength) throws IOException {
+        String originalFilename = file.getFileName().toString().substring(prefixLength);
+        return new StoryImageSource(originalFilename, Files.size(file), new FileSystemResource(file));
+    }
+
+    private LocalDateTime leaseUntil() {
+        return LocalDateTime.now().plus(ingestProperties.getJobLease());
+    }
+
+    // 스풀 디렉터리와 함께 유지되는 인스턴스 ID (재시작해도 같은 스풀이면 같은 ID)
+    private String readOrCreateNodeId() {
+        final Path file = Paths.get(ingestProperties.getSpoolDir(), NODE_ID_FILE);
+        try {
+            if (Files.exists(file)) {
+                String existing = Files.readString(file).trim();
+                if (!existing.isEmpty()) {
+                    return existing;
+                }
+            }
+            Files.createDirectories(file.getParent());
+            String created = UUID.randomUUID().toString();
+            Files.writeString(file, created);
+            return created;
+        } catch (IOException e) {
+            throw new IllegalStateException("스토리 작업 노드 ID 를 만들 수 없습니다: " + file, e);
+        }
+    }
+
+    private Path jobDir(UUID jobId) {
+        return Paths.get(ingestProperties.getSpoolDir(), jobId.toString());
+    }
+
+    private static void deleteSpool(Path jobDir) {
+        try {
+            FileSystemUtils.deleteRecursively(jobDir);
+        } catch (IOException e) {
+            log.warn("스토리작업스풀삭제실패 path={} error={}", jobDir, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,228 @@
+package com.gyeongditor.storyfield.service.impl;
+
+import com.gyeongditor.storyfield.config.IngestProperties;
+import com.gyeongditor.storyfield.exception.RetryableException;
+import com.gyeongditor.storyfield.response.ErrorCode;
+import com.gyeongditor.storyfield.service.StoryIngestScheduler;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 스토리 인제스트 스케줄러
+ * 스토리 단위로 이미지 수만큼 용량을 확보한 뒤에만 업로드를 시작해서
+ * 스레드풀 큐가 넘치는 대신 재시도 가능한 429/503 으로 거절한다.
+ */
+@Slf4j
+@Service
+public class StoryIngestSchedulerImpl implements StoryIngestScheduler {
+
+    private final IngestProperties ingestProperties;
+    private final ThreadPoolTaskExecutor ingestExecutor;
+    private final ThreadPoolTaskExecutor transferExecutor;
+
+    // 먼저 온 스토리부터 용량을 받도록 대기열 순서를 지킨다 (큰 스토리 기아 방지)
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition capacityChanged = lock.newCondition();
+    private final Deque<Object> waiters = new ArrayDeque<>();
+    private volatile int maxInFlightImages;
+    private volatile int activeImages;
+
+    private final Timer admissionWait;
+    private final Counter rejectedBusy;
+    private final Counter rejectedSaturated;
+
+    public StoryIngestSchedulerImpl(
+            IngestProperties ingestProperties,
+            @Qualifier("storyImageTaskExecutor") ThreadPoolTaskExecutor ingestExecutor,
+            @Qualifier("s3TransferExecutor") ThreadPoolTaskExecutor transferExecutor,
+            MeterRegistry meterRegistry
+    ) {
+        this.ingestProperties = ingestProperties;
+        this.ingestExecutor = ingestExecutor;
+        this.transferExecutor = transferExecutor;
+        this.maxInFlightImages = ingestProperties.getMaxInFlightImages();
+
+        Gauge.builder("story.ingest.uploads.active", this, s -> s.activeImages)
+                .description("용량을 확보하고 처리 중인 이미지 수")
+                .register(meterRegistry);
+        Gauge.builder("story.ingest.capacity", this, s -> s.maxInFlightImages)
+                .register(meterRegistry);
+        Gauge.builder("story.ingest.waiting", this, StoryIngestSchedulerImpl::waitingStories)
+                .description("용량을 기다리는 스토리 수")
+                .register(meterRegistry);
+        Gauge.builder("story.ingest.queue.depth", ingestExecutor, e -> e.getThreadPoolExecutor().getQueue().size())
+                .register(meterRegistry);
+        Gauge.builder("s3.transfer.queue.depth", transferExecutor, e -> e.getThreadPoolExecutor().getQueue().size())
+                .register(meterRegistry);
+        Gauge.builder("s3.transfer.active", transferExecutor, ThreadPoolTaskExecutor::getActiveCount)
+                .register(meterRegistry);
+
+        this.admissionWait = Timer.builder("story.ingest.admission.wait")
+                .description("스토리가 용량을 얻기까지 기다린 시간")
+                .register(meterRegistry);
+        this.rejectedBusy = Counter.builder("story.ingest.rejected").tag("reason", "busy").register(meterRegistry);
+        this.rejectedSaturated = Counter.builder("story.ingest.rejected").tag("reason", "saturated").register(meterRegistry);
+    }
+
+    @Override
+    public Permit admit(int imageCount) {
+        final long startNanos = System.nanoTime();
+        final Object ticket = new Object();
+        int permits = 0;
+
+        lock.lock();
+        try {
+            if (!hasRoom(imageCount) || !waiters.isEmpty()) {
+                if (waiters.size() >= ingestProperties.getMaxWaitingStories()) {
+                    rejectedBusy.increment();
+                    log.warn("스토리인제스트거절 reason=busy images={} active={} waiting={}",
+                            imageCount, activeImages, waiters.size());
+                    throw new RetryableException(ErrorCode.STORY_429_001, ingestProperties.getRetryAfter());
+                }
+
+                waiters.addLast(ticket);
+                long remaining = ingestProperties.getAdmissionTimeout().toNanos();
+                try {
+                    while (waiters.peekFirst() != ticket || !hasRoom(imageCount)) {
+                        if (remaining <= 0) {
+                            rejectedSaturated.increment();
+                            log.warn("스토리인제스트거절 reason=saturated images={} active={} waiting={}",
+                                    imageCount, activeImages, waiters.size());
+                            throw new RetryableException(ErrorCode.STORY_503_001, ingestProperties.getRetryAfter());
+                        }
+                        remaining = capacityChanged.awaitNanos(remaining);
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new RetryableException(ErrorCode.STORY_503_001, ingestProperties.getRetryAfter());
+                } finally {
+                    waiters.remove(ticket);
+                    // 다음 대기자가 자기 차례인지 다시 확인하도록 깨운다
+                    capacityChanged.signalAll();
+                }
+            }
+
+            permits = permitsFor(imageCount);
+            activeImages += permits;
+        } finally {
+            lock.unlock();
+            admissionWait.record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+        }
+
+        return new IngestPermit(permits);
+    }
+
+    @Override
+    public Snapshot snapshot() {
+        return new Snapshot(
+                maxInFlightImages,
+                activeImages,
+                waitingStories(),
+                ingestExecutor.getCorePoolSize(),
+                ingestExecutor.getActiveCount(),
+                ingestExecutor.getThreadPoolExecutor().getQueue().size(),
+                transferExecutor.getCorePoolSize(),
+                transferExecutor.getActiveCount(),
+                transferExecutor.getThreadPoolExecutor().getQueue().size()
+        );
+    }
+
+    @Override
+    public Snapshot resize(Integer ingestPoolSize, Integer transferPoolSize, Integer maxInFlightImages) {
+        if (ingestPoolSize != null) {
+            resizePool(ingestExecutor, ingestPoolSize);
+        }
+        if (transferPoolSize != null) {
+            resizePool(transferExecutor, transferPoolSize);
+        }
+        if (maxInFlightImages != null) {
+            if (maxInFlightImages < 1) {
+                throw new IllegalArgumentException("maxInFlightImages는 1 이상이어야 합니다");
+            }
+            lock.lock();
+            try {
+                this.maxInFlightImages = maxInFlightImages;
+                capacityChanged.signalAll();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        Snapshot snapshot = snapshot();
+        log.info("스토리인제스트용량변경 {}", snapshot);
+        return snapshot;
+    }
+
+    // 예산보다 큰 스토리는 예산 전체를 받아 단독으로 처리한다
+    private int permitsFor(int imageCount) {
+        return Math.min(Math.max(imageCount, 1), maxInFlightImages);
+    }
+
+    private boolean hasRoom(int imageCount) {
+        return activeImages + permitsFor(imageCount) <= maxInFlightImages;
+    }
+
+    private int waitingStories() {
+        lock.lock();
+        try {
+            return waiters.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void release(int permits) {
+        lock.lock();
+        try {
+            activeImages -= permits;
+            capacityChanged.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private static void resizePool(ThreadPoolTaskExecutor executor, int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("스레드풀 크기는 1 이상이어야 합니다");
+        }
+        // 코어 크기가 최대 크기를 넘지 않도록 늘릴 때는 최대부터 조정
+        if (size > executor.getMaxPoolSize()) {
+            executor.setMaxPoolSize(size);
+        }
+        executor.setCorePoolSize(size);
+    }
+
+    private final class IngestPermit implements Permit {
+        private final int images;
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private IngestPermit(int images) {
+            this.images = images;
+        }
+
+        @Override
+        public int images() {
+            return images;
+        }
+
+        @Override
+        public void release() {
+            if (released.compareAndSet(false, true)) {
+                StoryIngestSchedulerImpl.this.release(images);
+            }
+        }
+    }
+}
@@ -0,0 +1,192 @@
+package com.gyeongditor.storyfield.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gyeongditor.storyfield.config.PageCacheProperties;
+import com.gyeongditor.storyfield.dto.Story.StoryPageView;
+import com.gyeongditor.storyfield.exception.CustomException;
+import com.gyeongditor.storyfield.repository.StoryPageCacheRedisRepository;
+import com.gyeongditor.storyfield.repository.StoryRepository;
+import com.gyeongditor.storyfield.response.ErrorCode;
+import com.gyeongditor.storyfield.service.StoryPageCacheService;
+import com.gyeongditor.storyfield.util.TransactionCallbacks;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 스토리 페이지 2단 캐시 (인스턴스 메모리 LRU + Redis)
+ * 저장된 스토리 페이지는 바뀌지 않으므로 만료 없이 두고, 삭제될 때만 지운다.
+ * 삭제는 Redis 에 잠시 표식을 남기고 pub/sub 으로 모든 인스턴스에 알려 각자 메모리 사본을 지우게 한다.
+ * 적중하면 DB 를 거치지 않으며, 단계별 적중/실패 수와 적중률을 지표로 남긴다.
+ */
+@Slf4j
+@Service
+public class StoryPageCacheServiceImpl implements StoryPageCacheService {
+
+    private static final TypeReference<List<StoryPageView>> PAGES = new TypeReference<>() {
+    };
+
+    private final StoryPageCacheRedisRepository pageCacheRedisRepository;
+    private final StoryRepository storyRepository;
+    private final PageCacheProperties properties;
+    private final ObjectMapper objectMapper;
+    private final Map<String, List<StoryPageView>> local;
+    // 무효화가 일어날 때마다 올린다, 읽는 사이 값이 바뀌었으면 메모리에 넣지 않는다 (지워진 스토리를 되살리지 않도록)
+    private final AtomicLong evictions = new AtomicLong();
+
+    private final Counter localHits;
+    private final Counter localMisses;
+    private final Counter redisHits;
+    private final Counter redisMisses;
+
+    public StoryPageCacheServiceImpl(StoryPageCacheRedisRepository pageCacheRedisRepository,
+                                     StoryRepository storyRepository,
+                                     PageCacheProperties properties,
+                                     ObjectMapper objectMapper,
+                                     RedisMessageListenerContainer listenerContainer,
+                                     MeterRegistry meterRegistry) {
+        this.pageCacheRedisRepository = pageCacheRedisRepository;
+        this.storyRepository = storyRepository;
+        this.properties = properties;
+        this.objectMapper = objectMapper;
+
+        final int maxSize = properties.getLocalMaxEntries();
+        // accessOrder=true: 조회할 때마다 뒤로 보내 LRU 로 동작
+        this.local = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, List<StoryPageView>> eldest) {
+                return size() > maxSize;
+            }
+        });
+
+        this.localHits = counter(meterRegistry, "local", "hit");
+        this.localMisses = counter(meterRegistry, "local", "miss");
+        this.redisHits = counter(meterRegistry, "redis", "hit");
+        this.redisMisses = counter(meterRegistry, "redis", "miss");
+        hitRatio(meterRegistry, "local", localHits, localMisses);
+        hitRatio(meterRegistry, "redis", redisHits, redisMisses);
+        Gauge.builder("story.page.cache.size", local, Map::size).register(meterRegistry);
+
+        listenerContainer.addMessageListener(
+                (message, pattern) -> evictLocal(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(properties.getChannel()));
+    }
+
+    @Override
+    public List<StoryPageView> find(UUID storyId) {
+        if (!properties.isEnabled()) {
+            return storyRepository.findPageViewsByStoryId(storyId);
+        }
+        final String key = storyId.toString();
+        List<StoryPageView> pages = local.get(key);
+        if (pages != null) {
+            localHits.increment();
+            return pages;
+        }
+        localMisses.increment();
+
+        final long generation = evictions.get();
+        pages = findInRedis(key);
+        if (pages == null) {
+            pages = storyRepository.findPageViewsByStoryId(storyId);
+            // 없는 스토리는 캐시하지 않는다
+            if (pages.isEmpty()) {
+                return pages;
+            }
+            saveToRedis(key, pages);
+        }
+        if (evictions.get() == generation) {
+            local.put(key, pages);
+        }
+        return pages;
+    }
+
+    @Override
+    public void evict(UUID storyId) {
+        final String key = storyId.toString();
+        TransactionCallbacks.afterCommit(() -> {
+            evictLocal(key);
+            try {
+                pageCacheRedisRepository.markDeleted(key, properties.getTombstoneTtl());
+                pageCacheRedisRepository.publish(properties.getChannel(), key);
+            } catch (Exception e) {
+                // 다른 인스턴스 메모리 사본은 LRU 로 밀려날 때까지 남는다
+                log.warn("페이지캐시무효화실패 storyId={} error={}", key, e.getMessage());
+            }
+        });
+    }
+
+    private void evictLocal(String key) {
+        evictions.incrementAndGet();
+        local.remove(key);
+    }
+
+    // Redis 에 없거나 삭제 표식이면 null
+    private List<StoryPageView> findInRedis(String key) {
+        final String value;
+        try {
+            value = pageCacheRedisRepository.find(key);
+        } catch (Exception e) {
+            // Redis 장애 시 DB 로 조회한다
+            log.warn("페이지캐시조회실패 storyId={} error={}", key, e.getMessage());
+            return null;
+        }
+        if (value == null || StoryPageCacheRedisRepository.TOMBSTONE.equals(value)) {
+            redisMisses.increment();
+            return null;
+        }
+        redisHits.increment();
+        return fromJson(value);
+    }
+
+    private void saveToRedis(String key, List<StoryPageView> pages) {
+        try {
+            pageCacheRedisRepository.saveIfAbsent(key, toJson(pages), properties.getRedisTtl());
+        } catch (Exception e) {
+            log.warn("페이지캐시저장실패 storyId={} error={}", key, e.getMessage());
+        }
+    }
+
+    private String toJson(List<StoryPageView> pages) {
+        try {
+            return objectMapper.writeValueAsString(pages);
+        } catch (JsonProcessingException e) {
+            throw new CustomException(ErrorCode.SERVER_500_001, "페이지 캐시 항목 변환 실패");
+        }
+    }
+
+    private List<StoryPageView> fromJson(String value) {
+        try {
+            return List.copyOf(objectMapper.readValue(value, PAGES));
+        } catch (JsonProcessingException e) {
+            throw new CustomException(ErrorCode.SERVER_500_001, "페이지 캐시 항목 변환 실패");
+        }
+    }
+
+    private static Counter counter(MeterRegistry meterRegistry, String tier, String result) {
+        return Counter.builder("story.page.cache").tag("tier", tier).tag("result", result).register(meterRegistry);
+    }
+
+    private static void hitRatio(MeterRegistry meterRegistry, String tier, Counter hits, Counter misses) {
+        Gauge.builder("story.page.cache.hit.ratio", () -> {
+                    double total = hits.count() + misses.count();
+                    return total == 0 ? 0 : hits.count() / total;
+                })
+                .tag("tier", tier)
+                .register(meterRegistry);
+    }
+}
@@ -5,17 +5,20 @@ import com.gyeongditor.storyfield.Entity.StoryPage;
 import com.gyeongditor.storyfield.Entity.User;
 import com.gyeongditor.storyfield.dto.ApiResponseDTO;
 import com.gyeongditor.storyfield.dto.Story.SaveStoryDTO;
+import com.gyeongditor.storyfield.dto.Story.StoryFeedView;
 import com.gyeongditor.storyfield.dto.Story.StoryPageDTO;
 import com.gyeongditor.storyfield.exception.CustomException;
 import com.gyeongditor.storyfield.repository.StoryRepository;
 import com.gyeongditor.storyfield.response.ErrorCode;
 import com.gyeongditor.storyfield.response.SuccessCode;
+import com.gyeongditor.storyfield.service.StoryFeedCacheService;
 import com.gyeongditor.storyfield.service.StoryPersistenceService;
 import org.springframework.transaction.annotation.Transactional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
 import java.util.UUID;
 
@@ -24,6 +27,7 @@ import java.util.UUID;
 public class StoryPersistenceServiceImpl implements StoryPersistenceService {
 
     private final StoryRepository storyRepository;
+    private final StoryFeedCacheService storyFeedCacheService;
 
     @Override
     @Transactional
@@ -32,6 +36,18 @@ public class StoryPersistenceServiceImpl implements StoryPersistenceService {
             final SaveStoryDTO dto,
             final String thumbnailKey,
             final List<String> pageImageKeys
+    ) {
+        persistStory(user, dto, thumbnailKey, pageImageKeys);
+        return ApiResponseDTO.success(SuccessCode.STORY_201_001, "이야기를 저장했습니다.");
+    }
+
+    @Override
+    @Transactional
+    public UUID persistStory(
+            final User user,
+            final SaveStoryDTO dto,
+            final String thumbnailKey,
+            final List<String> pageImageKeys
     ) {
         final List<StoryPageDTO> pages = dto.getPages();
         if (pages.size() != pageImageKeys.size()) {
@@ -45,12 +61,13 @@ public class StoryPersistenceServiceImpl implements StoryPersistenceService {
             );
         }
 
+        // ID 를 미리 넣으면 save 가 merge 로 동작해 SELECT 가 한 번 더 나가므로 persist 시점에 생성한다
         final Story story = Story.builder()
-                .storyId(UUID.randomUUID())
                 .user(user)
                 .storyTitle(dto.getStoryTitle())
                 .thumbnailFileName(thumbnailKey)
-                .createdAt(LocalDateTime.now())
+                // DB(datetime(6))와 같은 마이크로초 정밀도로 맞춰야 캐시에서 만든 피드 커서가 DB 값과 일치한다
+                .createdAt(LocalDateTime.now().truncatedTo(ChronoUnit.MICROS))
                 .build();
 
         for (int i = 0; i < pages.size(); i++) {
@@ -66,7 +83,9 @@ public class StoryPersistenceServiceImpl implements StoryPersistenceService {
         }
 
         storyRepository.save(story);
+        storyFeedCacheService.added(new StoryFeedView(
+                story.getStoryId(), story.getStoryTitle(), story.getThumbnailFileName(), story.getCreatedAt()));
 
-        return ApiResponseDTO.success(SuccessCode.STORY_201_001, "이야기를 저장했습니다.");
+        return story.getStoryId();
     }
 }
\ No newline at end of file
@@ -2,13 +2,20 @@ package com.gyeongditor.storyfield.service.impl;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.gyeongditor.storyfield.Entity.Story;
-import com.gyeongditor.storyfield.Entity.StoryPage;
 import com.gyeongditor.storyfield.Entity.User;
+import com.gyeongditor.storyfield.config.IngestProperties;
 import com.gyeongditor.storyfield.dto.ApiResponseDTO;
+import com.gyeongditor.storyfield.dto.Story.ImageUrlsDTO;
 import com.gyeongditor.storyfield.dto.Story.SaveStoryDTO;
+import com.gyeongditor.storyfield.dto.Story.StoryFeedCursor;
+import com.gyeongditor.storyfield.dto.Story.StoryFeedResponseDTO;
+import com.gyeongditor.storyfield.dto.Story.StoryFeedView;
+import com.gyeongditor.storyfield.dto.Story.StoryImageSource;
 import com.gyeongditor.storyfield.dto.Story.StoryPageDTO;
 import com.gyeongditor.storyfield.dto.Story.StoryPageResponseDTO;
+import com.gyeongditor.storyfield.dto.Story.StoryPageView;
 import com.gyeongditor.storyfield.dto.Story.StoryThumbnailResponseDTO;
+import com.gyeongditor.storyfield.dto.Story.UploadedStoryImages;
 import com.gyeongditor.storyfield.exception.CustomException;
 import com.gyeongditor.storyfield.jwt.JwtTokenProvider;
 import com.gyeongditor.storyfield.repository.StoryRepository;
@@ -16,10 +23,19 @@ import com.gyeongditor.storyfield.repository.UserRepository;
 import com.gyeongditor.storyfield.response.ErrorCode;
 import com.gyeongditor.storyfield.response.SuccessCode;
 import com.gyeongditor.storyfield.service.AuthService;
+import com.gyeongditor.storyfield.service.ImageBlobService;
+import com.gyeongditor.storyfield.service.ImageVariant;
+import com.gyeongditor.storyfield.service.IngestBufferPool;
 import com.gyeongditor.storyfield.service.S3Service;
+import com.gyeongditor.storyfield.service.StoryFeedCacheService;
+import com.gyeongditor.storyfield.service.StoryIdempotencyService;
+import com.gyeongditor.storyfield.service.StoryIngestScheduler;
+import com.gyeongditor.storyfield.service.StoryPageCacheService;
 import com.gyeongditor.storyfield.service.StoryPersistenceService;
 import com.gyeongditor.storyfield.service.StoryService;
 import com.gyeongditor.storyfield.service.UserService;
+import com.gyeongditor.storyfield.util.PngInflateGuardInputStream;
+import com.gyeongditor.storyfield.util.TransactionCallbacks;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.transaction.annotation.Transactional;
 import lombok.extern.slf4j.Slf4j;
@@ -29,20 +45,28 @@ import org.springframework.data.domain.*;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.nio.file.Paths;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
 import java.util.*;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
-import java.util.zip.GZIPInputStream;
+import java.util.concurrent.atomic.LongAdder;
 
 @Slf4j
 @Service
 public class StoryServiceImpl implements StoryService {
 
+    // UUID 이름 방식 스토리 이미지의 S3 프리픽스
+    private static final String STORY_IMAGE_PREFIX = "stories/";
+    // 메인 페이지(페이지 번호 방식) 크기 / 커서 피드 최대 크기
+    private static final int MAIN_PAGE_SIZE = 10;
+    private static final int MAX_FEED_SIZE = 50;
+
     private final UserRepository userRepository;
     private final StoryRepository storyRepository;
     private final JwtTokenProvider jwtTokenProvider;
@@ -52,6 +76,13 @@ public class StoryServiceImpl implements StoryService {
     private final ObjectMapper objectMapper;
     private final TaskExecutor taskExecutor;
     private final StoryPersistenceService storyPersistenceService;
+    private final StoryIngestScheduler storyIngestScheduler;
+    private final ImageBlobService imageBlobService;
+    private final IngestProperties ingestProperties;
+    private final IngestBufferPool ingestBufferPool;
+    private final StoryIdempotencyService storyIdempotencyService;
+    private final StoryFeedCacheService storyFeedCacheService;
+    private final StoryPageCacheService storyPageCacheService;
 
     // 생성자 주입으로 @Qualifier 적용 및 불변성 보장
     public StoryServiceImpl(
@@ -62,7 +93,14 @@ public class StoryServiceImpl implements StoryService {
             UserService userService,
             AuthService authService,
             ObjectMapper objectMapper,
-            @Qualifier("storyImageTaskExecutor") TaskExecutor taskExecutor, StoryPersistenceService storyPersistenceService
+            @Qualifier("storyImageTaskExecutor") TaskExecutor taskExecutor, StoryPersistenceService storyPersistenceService,
+            StoryIngestScheduler storyIngestScheduler,
+            ImageBlobService imageBlobService,
+            IngestProperties ingestProperties,
+            IngestBufferPool ingestBufferPool,
+            StoryIdempotencyService storyIdempotencyService,
+            StoryFeedCacheService storyFeedCacheService,
+            StoryPageCacheService storyPageCacheService
     ) {
         this.userRepository = userRepository;
         this.storyRepository = storyRepository;
@@ -73,20 +111,45 @@ public class StoryServiceImpl implements StoryService {
         this.objectMapper = objectMapper;
         this.taskExecutor = taskExecutor;
         this.storyPersistenceService = storyPersistenceService;
+        this.storyIngestScheduler = storyIngestScheduler;
+        this.imageBlobService = imageBlobService;
+        this.ingestProperties = ingestProperties;
+        this.ingestBufferPool = ingestBufferPool;
+        this.storyIdempotencyService = storyIdempotencyService;
+        this.storyFeedCacheService = storyFeedCacheService;
+        this.storyPageCacheService = storyPageCacheService;
     }
 
     @Override
     public ApiResponseDTO<String> saveStoryFromFastApi(
             HttpServletRequest request,
+            String idempotencyKey,
             String saveStoryDtoString,
             MultipartFile thumbnailGz,
             List<MultipartFile> pageImagesGz
     ) throws IOException {
 
-        final long totalStartTime = System.currentTimeMillis();
         final String accessToken = authService.extractAccessToken(request);
         final User user = userService.getUserFromToken(accessToken);
 
+        if (idempotencyKey == null) {
+            return createStory(user, saveStoryDtoString, thumbnailGz, pageImagesGz);
+        }
+        // 재시도는 이미지 업로드/DB 저장 없이 처음 응답을 돌려받는다
+        return storyIdempotencyService.execute(
+                user.getUserId(),
+                idempotencyKey,
+                requestFingerprint(saveStoryDtoString, thumbnailGz, pageImagesGz),
+                () -> createStory(user, saveStoryDtoString, thumbnailGz, pageImagesGz)
+        );
+    }
+
+    private ApiResponseDTO<String> createStory(User user,
+                                               String saveStoryDtoString,
+                                               MultipartFile thumbnailGz,
+                                               List<MultipartFile> pageImagesGz) {
+        final long totalStartTime = System.currentTimeMillis();
+
         final SaveStoryDTO saveStoryDTO;
         try {
             saveStoryDTO = objectMapper.readValue(saveStoryDtoString, SaveStoryDTO.class);
@@ -100,26 +163,88 @@ public class StoryServiceImpl implements StoryService {
             thumbnailGz.getSize() / 1024, pageImagesGz.size());
 
         // 1단계: 이미지 업로드 (트랜잭션 외부에서 비동기 처리)
-        final String thumbnailKey;
-        final List<String> pageImageKeys;
+        final UploadedStoryImages uploaded = uploadStoryImages(
+                user,
+                StoryImageSource.of(thumbnailGz),
+                pageImagesGz.stream().map(StoryImageSource::of).toList()
+        );
+
+        // 2단계: DB 저장 (트랜잭션 내에서 처리)
+        final ApiResponseDTO<String> result = storyPersistenceService.saveStory(
+                user,
+                saveStoryDTO,
+                uploaded.thumbnailKey(),
+                uploaded.pageImageKeys()
+        );
+        final long totalDuration = System.currentTimeMillis() - totalStartTime;
+        log.info("스토리생성완료 userId={} totalDuration={}ms",
+            user.getUserId(), totalDuration);
+
+        return result;
+    }
+
+    // 스토리 JSON + 파일 이름/크기 요약 (이미지 본문까지 해시하지 않아도 재시도 구분에는 충분하다)
+    static String requestFingerprint(String saveStoryDtoString,
+                                     MultipartFile thumbnailGz,
+                                     List<MultipartFile> pageImagesGz) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(saveStoryDtoString.getBytes(StandardCharsets.UTF_8));
+            for (MultipartFile file : concat(thumbnailGz, pageImagesGz)) {
+                digest.update((file.getOriginalFilename() + ":" + file.getSize() + ";").getBytes(StandardCharsets.UTF_8));
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static List<MultipartFile> concat(MultipartFile first, List<MultipartFile> rest) {
+        List<MultipartFile> files = new ArrayList<>(rest.size() + 1);
+        files.add(first);
+        files.addAll(rest);
+        return files;
+    }
+
+    @Override
+    public UploadedStoryImages uploadStoryImages(final User user,
+                                                 final StoryImageSource thumbnail,
+                                                 final List<StoryImageSource> pageImages) {
         final long uploadStartTime = System.currentTimeMillis();
 
+        // 스토리 전체 이미지 수만큼 용량을 먼저 확보 (포화 시 429/503 + Retry-After)
+        final StoryIngestScheduler.Permit permit = storyIngestScheduler.admit(1 + pageImages.size());
+
+        // 풀에 없어 새로 할당한 해제 버퍼 바이트 (스토리 단위 GC 부담 확인용)
+        final LongAdder allocatedBytes = new LongAdder();
+
         try {
             // 비동기 이미지 업로드 실행
-            CompletableFuture<String> thumbnailFuture = uploadImageAsync(thumbnailGz, "썸네일");
-            List<CompletableFuture<String>> pageImageFutures = pageImagesGz.stream()
-                    .map(gz -> uploadImageAsync(gz, "페이지 이미지"))
+            CompletableFuture<String> thumbnailFuture = uploadImageAsync(thumbnail, "썸네일", allocatedBytes);
+            List<CompletableFuture<String>> pageImageFutures = pageImages.stream()
+                    .map(gz -> uploadImageAsync(gz, "페이지 이미지", allocatedBytes))
                     .toList();
 
+            // 일부가 실패해도 나머지 업로드가 모두 끝난 뒤에 용량을 반납한다
+            List<CompletableFuture<String>> allUploads = new ArrayList<>(pageImageFutures);
+            allUploads.add(thumbnailFuture);
+            CompletableFuture.allOf(allUploads.toArray(CompletableFuture[]::new))
+                    .whenComplete((done, ex) -> {
+                        permit.release();
+                        ingestBufferPool.recordStoryAllocation(allocatedBytes.sum());
+                    });
+
             // 모든 업로드 완료 대기
-            thumbnailKey = thumbnailFuture.join();
-            pageImageKeys = pageImageFutures.stream()
+            final String thumbnailKey = thumbnailFuture.join();
+            final List<String> pageImageKeys = pageImageFutures.stream()
                     .map(CompletableFuture::join)
                     .toList();
 
             final long uploadDuration = System.currentTimeMillis() - uploadStartTime;
             log.info("전체이미지업로드완료 userId={} uploadCount={} duration={}ms",
-                user.getUserId(), 1 + pageImagesGz.size(), uploadDuration);
+                user.getUserId(), 1 + pageImages.size(), uploadDuration);
+
+            return new UploadedStoryImages(thumbnailKey, pageImageKeys);
 
         } catch (CompletionException e) {
             final long uploadDuration = System.currentTimeMillis() - uploadStartTime;
@@ -133,114 +258,119 @@ public class StoryServiceImpl implements StoryService {
             // 분기 없이 그대로 위로 올림
             throw e;
         }
-
-        // 2단계: DB 저장 (트랜잭션 내에서 처리)
-        final ApiResponseDTO<String> result = storyPersistenceService.saveStory(
-                user,
-                saveStoryDTO,
-                thumbnailKey,
-                pageImageKeys
-        );
-        final long totalDuration = System.currentTimeMillis() - totalStartTime;
-        log.info("스토리생성완료 userId={} totalDuration={}ms",
-            user.getUserId(), totalDuration);
-
-        return result;
     }
 
     // 개별 이미지 비동기 업로드 (모니터링 포함)
     public CompletableFuture<String> uploadImageAsync(final MultipartFile imageGz, final String imageType) {
-        return CompletableFuture.supplyAsync(() -> {
-            final long startTime = System.currentTimeMillis();
-            final String fileName = safeName(imageGz.getOriginalFilename());
-            final long fileSizeKB = imageGz.getSize() / 1024;
-
-            try {
-                final byte[] png = gunzipToBytes(imageGz);
-                final String result = uploadPngWithUuidNaming(imageGz.getOriginalFilename(), png);
-
-                final long duration = System.currentTimeMillis() - startTime;
-
-                // 성공 모니터링 로그
-                log.info("이미지업로드성공 type={} file={} size={}KB duration={}ms result={}",
-                    imageType, fileName, fileSizeKB, duration, result);
-
-                return result;
-
-            } catch (IOException e) {
-                final long duration = System.currentTimeMillis() - startTime;
-
-                // 실패 모니터링 로그
-                log.error("이미지업로드실패 type={} file={} size={}KB duration={}ms error={}",
-                    imageType, fileName, fileSizeKB, duration, e.getMessage());
-
-                throw new CompletionException(imageType + " 업로드 실패", e);
-            } catch (Exception e) {
-                final long duration = System.currentTimeMillis() - startTime;
+        return uploadImageAsync(StoryImageSource.of(imageGz), imageType, new LongAdder());
+    }
 
-                // 예상치 못한 오류 모니터링
-                log.error("이미지업로드예외 type={} file={} size={}KB duration={}ms error={} class={}",
-                    imageType, fileName, fileSizeKB, duration, e.getMessage(), e.getClass().getSimpleName());
+    // 해제/읽기는 storyImageTaskExecutor에서, 파트 전송은 S3 전송 풀에서 이어서 진행된다
+    private CompletableFuture<String> uploadImageAsync(final StoryImageSource imageGz, final String imageType,
+                                                       final LongAdder allocatedBytes) {
+        final long startTime = System.currentTimeMillis();
+        final String fileName = safeName(imageGz.originalFilename());
+        final long fileSizeKB = imageGz.size() / 1024;
+
+        return CompletableFuture.supplyAsync(() -> uploadGzAsPng(imageGz, allocatedBytes), taskExecutor)
+                .thenCompose(upload -> upload)
+                .handle((result, ex) -> {
+                    final long duration = System.currentTimeMillis() - startTime;
+
+                    if (ex == null) {
+                        // 성공 모니터링 로그
+                        log.info("이미지업로드성공 type={} file={} size={}KB duration={}ms result={}",
+                            imageType, fileName, fileSizeKB, duration, result);
+                        return result;
+                    }
 
-                throw new CompletionException(imageType + " 업로드 실패", e);
-            }
-        }, taskExecutor);
+                    final Throwable cause = ex instanceof CompletionException && ex.getCause() != null
+                            ? ex.getCause() : ex;
+                    if (cause instanceof CustomException custom) {
+                        // 실패 모니터링 로그
+                        log.error("이미지업로드실패 type={} file={} size={}KB duration={}ms error={}",
+                            imageType, fileName, fileSizeKB, duration, custom.getCustomMessage());
+                    } else {
+                        // 예상치 못한 오류 모니터링
+                        log.error("이미지업로드예외 type={} file={} size={}KB duration={}ms error={} class={}",
+                            imageType, fileName, fileSizeKB, duration, cause.getMessage(), cause.getClass().getSimpleName());
+                    }
+                    throw new CompletionException(imageType + " 업로드 실패", cause);
+                });
     }
 
-    private byte[] gunzipToBytes(MultipartFile gzFile) {
+    // .png.gz 파트를 청크 단위로 해제해 임시 파일로 받고, 원본과 크기별 파생본을 올린다 (이미지 전체를 힙에 올리지 않음)
+    private CompletableFuture<String> uploadGzAsPng(StoryImageSource gzFile, LongAdder allocatedBytes) {
         if (gzFile == null || gzFile.isEmpty()) {
             throw new CustomException(ErrorCode.FILE_400_001, "빈 파일입니다");
         }
 
-        // 파일 크기 체크 (10MB 제한)
-        if (gzFile.getSize() > 10 * 1024 * 1024) {
+        // 압축 파일 크기 체크
+        if (gzFile.size() > ingestProperties.getMaxCompressedSize().toBytes()) {
             throw new CustomException(ErrorCode.STORY_413_001, "파일 크기가 너무 큽니다");
         }
 
-        try (InputStream in = gzFile.getInputStream();
-             GZIPInputStream gzin = new GZIPInputStream(in);
-             ByteArrayOutputStream bos = new ByteArrayOutputStream()) {
-            gzin.transferTo(bos);
-            return bos.toByteArray();
+        // 해제 크기/압축률/PNG 헤더를 읽는 도중에 검사해서 한도를 넘으면 즉시 중단한다
+        try (InputStream in = gzFile.content().getInputStream();
+             // Inflater/버퍼는 워커 단위 풀에서 빌리고 스트림을 닫을 때 돌려준다
+             InputStream gzin = ingestBufferPool.openGzip(in, allocatedBytes);
+             InputStream png = new PngInflateGuardInputStream(
+                     gzin,
+                     safeName(gzFile.originalFilename()),
+                     gzFile.size(),
+                     ingestProperties.getMaxInflatedSize().toBytes(),
+                     ingestProperties.getMaxCompressionRatio(),
+                     ingestProperties.getMaxImageDimension(),
+                     ingestProperties.getMaxImagePixels())) {
+            return uploadPngWithUuidNaming(gzFile.originalFilename(), png);
         } catch (IOException e) {
-            String fileName = safeName(gzFile.getOriginalFilename());
-
-            // GZIP 형식 오류
-            if (e.getMessage().contains("Not in GZIP format") ||
-                e.getMessage().contains("invalid header") ||
-                e.getMessage().contains("incorrect header check")) {
-                throw new CustomException(ErrorCode.STORY_400_002,
-                    "GZIP 압축 형식이 아닙니다: " + fileName);
-            }
+            // S3 오류는 AmazonClientException으로 올라오므로 여기서 잡히는 IOException은 읽기/해제 실패다
+            throw toGunzipException(gzFile, e);
+        }
+    }
 
-            // 파일 접근 권한 문제
-            if (e.getMessage().contains("Access denied") ||
-                e.getMessage().contains("Permission denied")) {
-                throw new CustomException(ErrorCode.STORY_500_004,
-                    "파일 접근 권한이 없습니다");
-            }
+    private CustomException toGunzipException(StoryImageSource gzFile, IOException e) {
+        String fileName = safeName(gzFile.originalFilename());
+        String message = e.getMessage() != null ? e.getMessage() : "";
+
+        // GZIP 형식 오류
+        if (message.contains("Not in GZIP format") ||
+            message.contains("invalid header") ||
+            message.contains("incorrect header check")) {
+            return new CustomException(ErrorCode.STORY_400_002,
+                "GZIP 압축 형식이 아닙니다: " + fileName);
+        }
 
-            // 일반적인 GZIP 해제 실패
-            throw new CustomException(ErrorCode.STORY_400_002,
-                    "압축 파일 해제에 실패했습니다: " + fileName);
+        // 파일 접근 권한 문제
+        if (message.contains("Access denied") ||
+            message.contains("Permission denied")) {
+            return new CustomException(ErrorCode.STORY_500_004,
+                "파일 접근 권한이 없습니다");
         }
+
+        // 일반적인 GZIP 해제 실패
+        return new CustomException(ErrorCode.STORY_400_002,
+                "압축 파일 해제에 실패했습니다: " + fileName);
     }
 
-    public String uploadPngWithUuidNaming(final String originalGzName, final byte[] pngBytes) throws IOException {
+    public CompletableFuture<String> uploadPngWithUuidNaming(final String originalGzName, final InputStream png) throws IOException {
         final String base = stripGzExtension(safeName(originalGzName));
         final String ensuredPng = ensurePngExtension(base);
-        final String objectKey = UUID.randomUUID() + "_" + ensuredPng;
-        return s3Service.uploadBytes(pngBytes, objectKey, "image/png");
+        // 스토리 이미지 전용 프리픽스 아래에 둬야 고아 객체 정리 대상이 된다
+        final String objectKey = STORY_IMAGE_PREFIX + UUID.randomUUID() + "_" + ensuredPng;
+        // 콘텐츠 주소 모드에서는 이 키 대신 해시 키로 저장되어 같은 이미지를 하나의 S3 객체로 공유한다
+        return imageBlobService.storePng(png, objectKey);
     }
 
-    private static String safeName(final String name) {
+    // 벤치마크(src/jmh)와 StoryIngestJobServiceImpl(스풀 파일명)에서 직접 호출하므로 package-private
+    static String safeName(final String name) {
         if (name == null || name.isBlank()) {
             return "file.png.gz";
         }
         return Paths.get(name).getFileName().toString();
     }
 
-    private static String stripGzExtension(final String name) {
+    static String stripGzExtension(final String name) {
         if (name.toLowerCase(Locale.ROOT).endsWith(".gz")) {
             return name.substring(0, name.length() - 3);
         }
@@ -259,23 +389,29 @@ public class StoryServiceImpl implements StoryService {
     public ApiResponseDTO<List<StoryPageResponseDTO>> getStoryPages(final UUID storyId, final HttpServletRequest request) {
         String accessToken = authService.extractAccessToken(request);
 
-        Story story = storyRepository.findById(storyId)
-                .orElseThrow(() -> new CustomException(ErrorCode.STORY_404_001));
-
-        List<StoryPageResponseDTO> pages = story.getPages().stream()
-                .map(page -> {
-                    String presignedUrl = s3Service
-                            .generatePresignedUrl(page.getImageFileName(), accessToken)
-                            .getData();
-
-                    return StoryPageResponseDTO.builder()
-                            .pageNumber(page.getPageNumber())
-                            .content(page.getContent())
-                            .imageFileName(page.getImageFileName())
-                            .presignedUrl(presignedUrl)
-                            .build();
-                })
-                .toList();
+        // 페이지 캐시, 없으면 읽기 전용 쿼리 1번 (커넥션은 서명 전에 반납된다)
+        List<StoryPageView> rows = storyPageCacheService.find(storyId);
+        if (rows.isEmpty()) {
+            throw new CustomException(ErrorCode.STORY_404_001);
+        }
+        List<StoryPageView> storyPages = rows.get(0).pageNumber() == null ? List.of() : rows;
+
+        List<ImageUrlsDTO> imageUrls = presignVariants(
+                storyPages.stream().map(StoryPageView::imageFileName).toList(), accessToken);
+
+        List<StoryPageResponseDTO> pages = new ArrayList<>(storyPages.size());
+        for (int i = 0; i < storyPages.size(); i++) {
+            StoryPageView page = storyPages.get(i);
+            ImageUrlsDTO urls = imageUrls.get(i);
+
+            pages.add(StoryPageResponseDTO.builder()
+                    .pageNumber(page.pageNumber())
+                    .content(page.content())
+                    .imageFileName(page.imageFileName())
+                    .presignedUrl(urls.getFull())
+                    .imageUrls(urls)
+                    .build());
+        }
 
         return ApiResponseDTO.success(SuccessCode.STORY_200_001, pages);
     }
@@ -284,29 +420,88 @@ public class StoryServiceImpl implements StoryService {
     public ApiResponseDTO<List<StoryThumbnailResponseDTO>> getMainPageStories(final int page, final HttpServletRequest request) {
         String accessToken = authService.extractAccessToken(request);
 
-        Pageable pageable = PageRequest.of(page, 10, Sort.by(Sort.Direction.DESC, "createdAt"));
-        Page<Story> storyPage = storyRepository.findAll(pageable);
+        // 앞쪽 페이지는 피드 캐시에서, 그 뒤는 기존 페이지 번호 방식 (OFFSET 은 남지만 COUNT 쿼리와 엔티티 로딩은 없다)
+        List<StoryFeedView> stories = storyFeedCacheService.find(page * MAIN_PAGE_SIZE, MAIN_PAGE_SIZE)
+                .orElseGet(() -> storyRepository.findFeed(PageRequest.of(page, MAIN_PAGE_SIZE)).getContent());
+
+        return ApiResponseDTO.success(SuccessCode.STORY_200_002, toThumbnails(stories, accessToken));
+    }
+
+    @Override
+    public ApiResponseDTO<StoryFeedResponseDTO> getStoryFeed(final String cursor, final int size,
+                                                             final HttpServletRequest request) {
+        String accessToken = authService.extractAccessToken(request);
+
+        final int limit = Math.max(1, Math.min(size, MAX_FEED_SIZE));
+        final Slice<StoryFeedView> stories;
+        if (cursor == null || cursor.isBlank()) {
+            stories = firstFeedSlice(limit);
+        } else {
+            StoryFeedCursor after = StoryFeedCursor.decode(cursor);
+            stories = storyRepository.findFeedAfter(after.createdAt(), after.storyId(), PageRequest.of(0, limit));
+        }
 
-        List<StoryThumbnailResponseDTO> thumbnails = storyPage.getContent().stream()
-                .map(story -> {
-                    String thumbnailFile = story.getThumbnailFileName();
-                    String presignedThumbnail = null;
+        final List<StoryFeedView> content = stories.getContent();
+        final String nextCursor = stories.hasNext()
+                ? StoryFeedCursor.of(content.get(content.size() - 1)).encode()
+                : null;
 
-                    if (thumbnailFile != null) {
-                        presignedThumbnail = s3Service
-                                .generatePresignedUrl(thumbnailFile, accessToken)
-                                .getData();
-                    }
+        return ApiResponseDTO.success(SuccessCode.STORY_200_002, StoryFeedResponseDTO.builder()
+                .stories(toThumbnails(content, accessToken))
+                .nextCursor(nextCursor)
+                .hasNext(stories.hasNext())
+                .build());
+    }
 
-                    return StoryThumbnailResponseDTO.builder()
-                            .storyId(story.getStoryId())
-                            .storyTitle(story.getStoryTitle())
-                            .thumbnailUrl(presignedThumbnail)
-                            .build();
-                })
-                .toList();
+    // 첫 목록은 피드 캐시에서 limit + 1 개를 꺼내 다음 목록 유무까지 판단한다
+    private Slice<StoryFeedView> firstFeedSlice(final int limit) {
+        final Pageable pageable = PageRequest.of(0, limit);
+        return storyFeedCacheService.find(0, limit + 1)
+                .<Slice<StoryFeedView>>map(cached -> new SliceImpl<>(
+                        cached.subList(0, Math.min(limit, cached.size())), pageable, cached.size() > limit))
+                .orElseGet(() -> storyRepository.findFeed(pageable));
+    }
 
-        return ApiResponseDTO.success(SuccessCode.STORY_200_002, thumbnails);
+    private List<StoryThumbnailResponseDTO> toThumbnails(final List<StoryFeedView> stories, final String accessToken) {
+        List<ImageUrlsDTO> thumbnailUrls = presignVariants(
+                stories.stream().map(StoryFeedView::thumbnailFileName).toList(), accessToken);
+
+        List<StoryThumbnailResponseDTO> thumbnails = new ArrayList<>(stories.size());
+        for (int i = 0; i < stories.size(); i++) {
+            StoryFeedView story = stories.get(i);
+            ImageUrlsDTO urls = thumbnailUrls.get(i);
+
+            thumbnails.add(StoryThumbnailResponseDTO.builder()
+                    .storyId(story.storyId())
+                    .storyTitle(story.storyTitle())
+                    .thumbnailUrl(urls.getFull())
+                    .thumbnailUrls(urls)
+                    .build());
+        }
+        return thumbnails;
+    }
+
+    // 원본 키 목록의 크기별 URL 을 한 번에 서명 (키가 null 이면 모든 크기가 null)
+    private List<ImageUrlsDTO> presignVariants(final List<String> baseKeys, final String accessToken) {
+        final ImageVariant[] variants = ImageVariant.values();
+        final List<String> keys = new ArrayList<>(baseKeys.size() * variants.length);
+        for (String baseKey : baseKeys) {
+            for (ImageVariant variant : variants) {
+                keys.add(baseKey != null ? variant.keyFor(baseKey) : null);
+            }
+        }
+
+        final List<String> urls = s3Service.generatePresignedUrls(keys, accessToken);
+        final List<ImageUrlsDTO> result = new ArrayList<>(baseKeys.size());
+        for (int i = 0; i < baseKeys.size(); i++) {
+            final int offset = i * variants.length;
+            result.add(ImageUrlsDTO.builder()
+                    .feed(urls.get(offset + ImageVariant.FEED.ordinal()))
+                    .preview(urls.get(offset + ImageVariant.PREVIEW.ordinal()))
+                    .full(urls.get(offset + ImageVariant.FULL.ordinal()))
+                    .build());
+        }
+        return result;
     }
 
     @Override
@@ -314,7 +509,7 @@ public class StoryServiceImpl implements StoryService {
     public ApiResponseDTO<Void> deleteStory(final HttpServletRequest request, final UUID storyId) {
         String accessToken = authService.extractAccessToken(request);
 
-        String email = jwtTokenProvider.getEmail(accessToken);
+        String email = jwtTokenProvider.verify(accessToken).email();
 
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_404_002, "토큰에 해당하는 사용자가 존재하지 않습니다."));
@@ -326,14 +521,39 @@ public class StoryServiceImpl implements StoryService {
             throw new CustomException(ErrorCode.STORY_403_001, "본인 스토리만 삭제할 수 있습니다.");
         }
 
+        List<String> imageKeys = new ArrayList<>();
         if (story.getThumbnailFileName() != null) {
-            s3Service.deleteFile(story.getThumbnailFileName(), request);
+            imageKeys.add(story.getThumbnailFileName());
         }
+        story.getPages().forEach(page -> imageKeys.add(page.getImageFileName()));
 
-        story.getPages().forEach(page -> s3Service.deleteFile(page.getImageFileName(), request));
-
+        // 먼저 스토리를 지워야 공유 이미지의 남은 참조 수를 셀 수 있다
         storyRepository.delete(story);
+        storyRepository.flush();
+        storyFeedCacheService.removed(storyId);
+        storyPageCacheService.evict(storyId);
+
+        // S3 삭제는 되돌릴 수 없으므로 커밋 후에만 한다 (참조 수도 커밋된 상태로 센다)
+        TransactionCallbacks.afterCommit(() -> deleteUnreferencedImages(imageKeys, request));
 
         return ApiResponseDTO.success(SuccessCode.STORY_204_001, null);
     }
+
+    // 원본과 함께 크기별 파생본도 지운다, 실패한 객체는 고아 객체 정리 배치가 다시 지운다
+    private void deleteUnreferencedImages(List<String> imageKeys, HttpServletRequest request) {
+        final List<String> targets = imageBlobService.unreferenced(imageKeys);
+        try {
+            targets.stream()
+                    .flatMap(key -> ImageVariant.allKeysFor(key).stream())
+                    .forEach(key -> {
+                        try {
+                            s3Service.deleteFile(key, request);
+                        } catch (Exception e) {
+                            log.warn("스토리이미지삭제실패 key={} error={}", key, e.getMessage());
+                        }
+                    });
+        } finally {
+            imageBlobService.deleted(targets);
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,146 @@
+package com.gyeongditor.storyfield.service.impl;
+
+import com.gyeongditor.storyfield.config.RevocationProperties;
+import com.gyeongditor.storyfield.repository.JwtTokenRedisRepository;
+import com.gyeongditor.storyfield.service.TokenRevocationService;
+import com.gyeongditor.storyfield.util.BloomFilter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 폐기된 액세스 토큰(jti) 목록의 인스턴스 메모리 사본
+ * 구독이 걸린 뒤(ApplicationReadyEvent) jwt:blacklist:* 를 SCAN 으로 읽고, 이후 등록은 pub/sub 으로 받아 요청마다 Redis 를 조회하지 않는다.
+ * 대부분의 토큰은 폐기되지 않았으므로 Bloom filter 에서 바로 걸러지고, 걸린 것만 정확한 집합(만료 시각 포함)으로 확인한다.
+ * 놓친 메시지는 resyncInterval 마다 전체를 다시 읽어 메우고, 그 사이 만료된 항목과 필터도 정리한다.
+ */
+@Slf4j
+@Service
+@Lazy(false) // 지연 초기화 환경에서도 시작 시점에 구독/사본을 만들고 @Scheduled 가 등록되도록 즉시 생성
+public class TokenRevocationServiceImpl implements TokenRevocationService {
+
+    private final JwtTokenRedisRepository jwtTokenRedisRepository;
+    private final RevocationProperties properties;
+
+    // jti → 만료 시각 (epoch ms)
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+    private volatile BloomFilter filter;
+    // 마지막 전체 동기화가 성공했는지
+    private volatile boolean synced;
+
+    public TokenRevocationServiceImpl(JwtTokenRedisRepository jwtTokenRedisRepository,
+                                      RevocationProperties properties,
+                                      RedisMessageListenerContainer listenerContainer,
+                                      MeterRegistry meterRegistry) {
+        this.jwtTokenRedisRepository = jwtTokenRedisRepository;
+        this.properties = properties;
+        this.filter = newFilter(0);
+
+        Gauge.builder("auth.revocation.replica.size", revoked, Map::size).register(meterRegistry);
+        Gauge.builder("auth.revocation.replica.synced", this, service -> service.synced ? 1 : 0).register(meterRegistry);
+
+        if (properties.isReplicaEnabled()) {
+            // 여기서는 리스너만 등록되고 실제 구독은 컨테이너가 시작될 때(컨텍스트 refresh 이후) 걸린다
+            listenerContainer.addMessageListener(
+                    (message, pattern) -> onMessage(new String(message.getBody(), StandardCharsets.UTF_8)),
+                    new ChannelTopic(properties.getChannel()));
+        }
+    }
+
+    // 첫 SCAN 은 구독이 걸린 뒤에 해야 그 사이 등록된 토큰을 놓치지 않는다 (컨테이너는 시작 시 구독 완료를 기다린다)
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialSync() {
+        resync();
+    }
+
+    @Override
+    public boolean isRevoked(String tokenId) {
+        if (!properties.isReplicaEnabled()) {
+            return jwtTokenRedisRepository.isTokenBlacklisted(tokenId);
+        }
+        if (!synced && !properties.isFailOpen()) {
+            return true;
+        }
+        if (!filter.mightContain(tokenId)) {
+            return false;
+        }
+        Long expiresAt = revoked.get(tokenId);
+        return expiresAt != null && expiresAt > System.currentTimeMillis();
+    }
+
+    @Override
+    public boolean revoke(String tokenId, long expireInSeconds) {
+        boolean added = jwtTokenRedisRepository.addTokenToBlacklist(tokenId, expireInSeconds);
+        if (added && properties.isReplicaEnabled()) {
+            long expireInMillis = expireInSeconds * 1000;
+            remember(tokenId, expireInMillis);
+            try {
+                jwtTokenRedisRepository.publishBlacklisted(properties.getChannel(), tokenId, expireInMillis);
+            } catch (Exception e) {
+                // 다른 인스턴스는 다음 재동기화 때 반영된다
+                log.warn("토큰폐기알림실패 jti={} error={}", tokenId, e.getMessage());
+            }
+        }
+        return added;
+    }
+
+    @Scheduled(fixedDelayString = "${auth.revocation.resync-interval:PT5M}",
+            initialDelayString = "${auth.revocation.resync-interval:PT5M}")
+    public void resync() {
+        if (!properties.isReplicaEnabled()) {
+            return;
+        }
+        final Map<String, Long> scanned;
+        try {
+            scanned = jwtTokenRedisRepository.scanBlacklist();
+        } catch (Exception e) {
+            // 가진 사본은 그대로 두고 failOpen 정책에 따라 판단한다
+            synced = false;
+            log.warn("토큰폐기목록동기화실패 failOpen={} error={}", properties.isFailOpen(), e.getMessage());
+            return;
+        }
+
+        final long now = System.currentTimeMillis();
+        scanned.forEach((tokenId, ttl) -> revoked.put(tokenId, ttl < 0 ? Long.MAX_VALUE : now + ttl));
+        revoked.values().removeIf(expiresAt -> expiresAt <= now);
+
+        // 만료된 항목이 빠진 새 필터로 교체한다
+        BloomFilter next = newFilter(revoked.size());
+        revoked.keySet().forEach(next::put);
+        filter = next;
+        // 교체 직전에 이전 필터에만 들어간 항목을 다시 넣는다
+        revoked.keySet().forEach(next::put);
+        synced = true;
+        log.info("토큰폐기목록동기화 size={}", revoked.size());
+    }
+
+    private void onMessage(String body) {
+        int separator = body.indexOf(' ');
+        try {
+            remember(body.substring(0, separator), Long.parseLong(body.substring(separator + 1)));
+        } catch (RuntimeException e) {
+            log.warn("토큰폐기메시지오류 body={}", body);
+        }
+    }
+
+    private void remember(String tokenId, long expireInMillis) {
+        revoked.put(tokenId, System.currentTimeMillis() + expireInMillis);
+        filter.put(tokenId);
+    }
+
+    private BloomFilter newFilter(long entries) {
+        return BloomFilter.create(Math.max(properties.getExpectedRevocations(), entries * 2),
+                properties.getFalsePositiveRate());
+    }
+}
@@ -0,0 +1,110 @@
+package com.gyeongditor.storyfield.service.impl;
+
+import com.gyeongditor.storyfield.Entity.CustomUserDetails;
+import com.gyeongditor.storyfield.config.PrincipalCacheProperties;
+import com.gyeongditor.storyfield.service.UserPrincipalCacheService;
+import com.gyeongditor.storyfield.util.TransactionCallbacks;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * JWT 인증용 사용자 정보 캐시 (이메일 → CustomUserDetails)
+ * 인증된 요청은 보통 DB 조회 없이 끝나고, 사용자 정보/잠금 상태가 바뀌면 명시적으로 지운다.
+ * 무효화는 Redis pub/sub 으로 모든 인스턴스에 전달하며, 메시지를 놓쳐도 ttl 이 지나면 다시 읽는다.
+ */
+@Slf4j
+@Service
+public class UserPrincipalCacheServiceImpl implements UserPrincipalCacheService {
+
+    private final PrincipalCacheProperties properties;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final Map<String, CachedPrincipal> cache;
+    // 무효화가 일어날 때마다 올린다, 읽는 사이 값이 바뀌었으면 보관하지 않는다
+    private final AtomicLong evictions = new AtomicLong();
+
+    private final Counter hits;
+    private final Counter misses;
+
+    private record CachedPrincipal(CustomUserDetails details, long expiresAt) {
+    }
+
+    public UserPrincipalCacheServiceImpl(PrincipalCacheProperties properties,
+                                         RedisTemplate<String, String> redisTemplate,
+                                         RedisMessageListenerContainer listenerContainer,
+                                         MeterRegistry meterRegistry) {
+        this.properties = properties;
+        this.redisTemplate = redisTemplate;
+
+        final int maxSize = properties.getMaxEntries();
+        // accessOrder=true: 조회할 때마다 뒤로 보내 LRU 로 동작
+        this.cache = Collections.synchronizedMap(new LinkedHashMap<>(1024, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedPrincipal> eldest) {
+                return size() > maxSize;
+            }
+        });
+
+        this.hits = Counter.builder("auth.principal.cache").tag("result", "hit").register(meterRegistry);
+        this.misses = Counter.builder("auth.principal.cache").tag("result", "miss").register(meterRegistry);
+        Gauge.builder("auth.principal.cache.size", cache, Map::size).register(meterRegistry);
+
+        listenerContainer.addMessageListener(
+                (message, pattern) -> evictLocal(new String(message.getBody(), StandardCharsets.UTF_8)),
+                new ChannelTopic(properties.getChannel()));
+    }
+
+    @Override
+    public CustomUserDetails findByEmail(String email, Function<String, CustomUserDetails> loader) {
+        if (!properties.isEnabled()) {
+            return loader.apply(email);
+        }
+        final long now = System.currentTimeMillis();
+        CachedPrincipal cached = cache.get(email);
+        if (cached != null && cached.expiresAt() > now) {
+            hits.increment();
+            return cached.details();
+        }
+        misses.increment();
+
+        final long generation = evictions.get();
+        CustomUserDetails details = loader.apply(email);
+        if (evictions.get() == generation) {
+            cache.put(email, new CachedPrincipal(details, now + properties.getTtl().toMillis()));
+        }
+        return details;
+    }
+
+    @Override
+    public void evict(String userId) {
+        TransactionCallbacks.afterCommit(() -> {
+            evictLocal(userId);
+            try {
+                redisTemplate.convertAndSend(properties.getChannel(), userId);
+            } catch (Exception e) {
+                // 다른 인스턴스 사본은 ttl 이 지나면 사라진다
+                log.warn("사용자캐시무효화실패 userId={} error={}", userId, e.getMessage());
+            }
+        });
+    }
+
+    // 이메일이 바뀐 경우도 있으므로 userId 로 찾아 지운다 (드문 작업이라 전체를 훑는다)
+    private void evictLocal(String userId) {
+        evictions.incrementAndGet();
+        synchronized (cache) {
+            cache.values().removeIf(cached -> userId.equals(cached.details().getUserId()));
+        }
+    }
+}
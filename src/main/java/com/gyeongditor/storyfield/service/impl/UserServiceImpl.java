@@ -11,6 +11,7 @@ import com.gyeongditor.storyfield.repository.UserRepository;
 import com.gyeongditor.storyfield.response.ErrorCode;
 import com.gyeongditor.storyfield.response.SuccessCode;
 import com.gyeongditor.storyfield.service.MailService;
+import com.gyeongditor.storyfield.service.UserPrincipalCacheService;
 import com.gyeongditor.storyfield.service.UserService;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
@@ -29,6 +30,7 @@ public class UserServiceImpl implements UserService {
     private final PasswordEncoder passwordEncoder;
     private final MailService mailService;
     private final JwtTokenProvider jwtTokenProvider;
+    private final UserPrincipalCacheService userPrincipalCacheService;
 
     @Override
     public ApiResponseDTO<UserResponseDTO> signUp(SignUpDTO signUpDTO) {
@@ -71,6 +73,7 @@ public class UserServiceImpl implements UserService {
         User user = findUserByVerificationToken(token);
         user.enableAccount();
         userRepository.save(user);
+        userPrincipalCacheService.evict(user.getUserId());
 
         UserResponseDTO dto = new UserResponseDTO(user.getEmail(), user.getUsername());
         return ApiResponseDTO.success(SuccessCode.USER_200_003, dto);
@@ -99,6 +102,7 @@ public class UserServiceImpl implements UserService {
 
         user.updateUser(updateUserDTO, passwordEncoder, verificationToken);
         userRepository.save(user);
+        userPrincipalCacheService.evict(user.getUserId());
 
         UserResponseDTO dto = new UserResponseDTO(user.getEmail(), user.getUsername());
         return ApiResponseDTO.success(SuccessCode.USER_200_002, dto);
@@ -110,13 +114,14 @@ public class UserServiceImpl implements UserService {
         String accessToken = jwtTokenProvider.resolveToken(request);
         User user = getUserFromToken(accessToken);
         userRepository.deleteById(user.getUserId());
+        userPrincipalCacheService.evict(user.getUserId());
         return ApiResponseDTO.success(SuccessCode.USER_204_001, null);
     }
 
     @Override
     public User getUserFromToken(String token) {
-        jwtTokenProvider.validateOrThrow(token);
-        String email = jwtTokenProvider.getEmail(token);
+        // 필터에서 검증한 결과를 재사용한다 (요청 밖에서 호출되면 여기서 검증)
+        String email = jwtTokenProvider.verify(token).email();
 
         return userRepository.findByEmail(email)
                 .orElseThrow(() -> new CustomException(ErrorCode.USER_404_001, "사용자를 찾을 수 없습니다."));
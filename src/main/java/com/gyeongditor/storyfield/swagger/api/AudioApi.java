@@ -1,6 +1,8 @@
 package com.gyeongditor.storyfield.swagger.api;
 
 import com.gyeongditor.storyfield.dto.ApiResponseDTO;
+import com.gyeongditor.storyfield.dto.File.PresignBatchRequestDTO;
+import com.gyeongditor.storyfield.dto.File.PresignedUrlDTO;
 import com.gyeongditor.storyfield.response.ErrorCode;
 import com.gyeongditor.storyfield.response.SuccessCode;
 import com.gyeongditor.storyfield.swagger.config.ApiErrorResponse;
@@ -16,6 +18,8 @@ import org.springframework.http.MediaType;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.util.List;
+
 @Tag(name = "Audio", description = "오디오 파일 업로드 및 관리")
 @RequestMapping("/api/audio")
 public interface AudioApi {
@@ -80,6 +84,24 @@ public interface AudioApi {
             @Parameter(description = "Bearer AccessToken", required = true) HttpServletRequest request
     );
 
+    @Operation(
+            summary = "다운로드용 Presigned URL 일괄 발급",
+            description = "여러 오디오 키의 Presigned URL 을 한 번에 발급합니다. 존재 여부는 확인하지 않으며 응답은 요청 순서를 따릅니다.",
+            security = {@SecurityRequirement(name = "bearerAuth")}
+    )
+    @ApiSuccessResponse(
+            SuccessCode.AUDIO_200_002
+    )
+    @ApiErrorResponse({
+            ErrorCode.AUDIO_400_002, // 잘못된 키
+            ErrorCode.FILE_400_003   // 키 목록이 비었거나 최대 개수 초과
+    })
+    @PostMapping("/presign/download")
+    ApiResponseDTO<List<PresignedUrlDTO>> getDownloadPresignedUrls(
+            @RequestBody PresignBatchRequestDTO presignBatchRequestDTO,
+            @Parameter(description = "Bearer AccessToken", required = true) HttpServletRequest request
+    );
+
     @Operation(
             summary = "오디오 삭제",
             description = "S3에 업로드된 오디오 파일명을 기반으로 삭제합니다.",
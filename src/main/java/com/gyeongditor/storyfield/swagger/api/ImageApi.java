@@ -1,6 +1,8 @@
 package com.gyeongditor.storyfield.swagger.api;
 
 import com.gyeongditor.storyfield.dto.ApiResponseDTO;
+import com.gyeongditor.storyfield.dto.File.PresignBatchRequestDTO;
+import com.gyeongditor.storyfield.dto.File.PresignedUrlDTO;
 import com.gyeongditor.storyfield.response.ErrorCode;
 import com.gyeongditor.storyfield.response.SuccessCode;
 import com.gyeongditor.storyfield.swagger.config.ApiErrorResponse;
@@ -12,6 +14,8 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @Tag(name = "Image", description = "이미지")
 @RequestMapping("/images")
 public interface ImageApi {
@@ -34,6 +38,24 @@ public interface ImageApi {
             @Parameter(description = "Bearer AccessToken", required = true) HttpServletRequest request
     );
 
+    @Operation(
+            summary = "이미지 presignedUrl 일괄 발급",
+            description = "여러 스토리 이미지 키(stories/, cas/ 및 크기별 파생본)의 presignedUrl 을 한 번에 발급합니다. 토큰은 한 번만 검증하며 응답은 요청 순서를 따릅니다. 다른 프리픽스나 .. 가 포함된 키는 거절합니다.",
+            security = {@SecurityRequirement(name = "bearerAuth")}
+    )
+    @ApiSuccessResponse(
+            SuccessCode.FILE_200_002
+    )
+    @ApiErrorResponse({
+            ErrorCode.AUTH_401_012, // 유효하지 않은 인증 토큰
+            ErrorCode.FILE_400_003  // 키 목록이 비었거나 최대 개수 초과, 스토리 이미지가 아닌 키
+    })
+    @PostMapping("/presign")
+    ApiResponseDTO<List<PresignedUrlDTO>> presignImages(
+            @RequestBody PresignBatchRequestDTO presignBatchRequestDTO,
+            @Parameter(description = "Bearer AccessToken", required = true) HttpServletRequest request
+    );
+
     @Operation(
             summary = "이미지 삭제",
             description = "S3에 업로드된 파일명을 기반으로 이미지를 삭제합니다.",
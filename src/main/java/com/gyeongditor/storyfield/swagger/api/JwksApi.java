@@ -0,0 +1,26 @@
+package com.gyeongditor.storyfield.swagger.api;
+
+import com.gyeongditor.storyfield.response.ErrorCode;
+import com.gyeongditor.storyfield.swagger.config.ApiErrorResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+
+import java.util.Map;
+
+@Tag(name = "Auth", description = "인증")
+public interface JwksApi {
+
+    @Operation(
+            summary = "JWT 공개키 (JWKS)",
+            description = "액세스 토큰 검증용 공개키를 JWKS(RFC 7517) 형식으로 반환합니다. "
+                    + "토큰 헤더의 kid 로 키를 찾아 서명을 직접 검증할 수 있습니다. "
+                    + "ApiResponseDTO 로 감싸지 않으며 Cache-Control 로 캐시할 수 있습니다. 인증이 필요하지 않습니다."
+    )
+    @ApiErrorResponse({
+            ErrorCode.SERVER_500_001 // 내부 서버 오류
+    })
+    @GetMapping("/.well-known/jwks.json")
+    ResponseEntity<Map<String, Object>> getJwks();
+}
@@ -0,0 +1,35 @@
+package com.gyeongditor.storyfield.swagger.api;
+
+import com.gyeongditor.storyfield.response.ErrorCode;
+import com.gyeongditor.storyfield.swagger.config.ApiErrorResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+
+import java.io.IOException;
+
+@Tag(name = "Storage", description = "로컬 스토리지 (local-storage 프로필)")
+@RequestMapping("/storage")
+public interface LocalStorageApi {
+
+    @Operation(
+            summary = "서명 URL 로 파일 다운로드",
+            description = "local-storage 프로필에서 presignedUrl 대신 발급되는 서명 URL 입니다. 인증 토큰 없이 서명으로 접근합니다."
+    )
+    @ApiErrorResponse({
+            ErrorCode.FILE_403_001, // 만료/위조된 URL
+            ErrorCode.FILE_404_001  // 파일 없음
+    })
+    @GetMapping("/**")
+    void download(
+            @Parameter(description = "만료 시각 (epoch seconds)", required = true) @RequestParam long expires,
+            @Parameter(description = "HMAC-SHA256 서명", required = true) @RequestParam String signature,
+            HttpServletRequest request,
+            HttpServletResponse response
+    ) throws IOException;
+}
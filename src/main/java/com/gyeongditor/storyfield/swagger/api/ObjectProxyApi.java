@@ -0,0 +1,36 @@
+package com.gyeongditor.storyfield.swagger.api;
+
+import com.gyeongditor.storyfield.response.ErrorCode;
+import com.gyeongditor.storyfield.swagger.config.ApiErrorResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+
+import java.io.IOException;
+
+@Tag(name = "Media", description = "이미지/오디오 스트리밍 프록시 (storage.proxy.enabled=true)")
+@RequestMapping("/media")
+public interface ObjectProxyApi {
+
+    @Operation(
+            summary = "객체 스트리밍",
+            description = "stories/, cas/, audio/ 아래의 스토리지 객체만 앱을 거쳐 내려줍니다. "
+                    + "단일 구간 Range(206), If-None-Match(304), If-Range 를 지원하며 "
+                    + "cas/, stories/ 키는 Cache-Control: immutable 로 응답합니다.",
+            security = {@SecurityRequirement(name = "bearerAuth")}
+    )
+    @ApiErrorResponse({
+            ErrorCode.AUTH_401_012, // 유효하지 않은 인증 토큰
+            ErrorCode.FILE_404_001  // 파일 없음 (허용되지 않은 키 포함)
+    })
+    @GetMapping("/**")
+    void stream(
+            @Parameter(description = "Bearer AccessToken", required = true) HttpServletRequest request,
+            HttpServletResponse response
+    ) throws IOException;
+}
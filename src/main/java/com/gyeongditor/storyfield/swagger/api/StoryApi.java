@@ -1,6 +1,8 @@
 package com.gyeongditor.storyfield.swagger.api;
 
 import com.gyeongditor.storyfield.dto.ApiResponseDTO;
+import com.gyeongditor.storyfield.dto.Story.StoryFeedResponseDTO;
+import com.gyeongditor.storyfield.dto.Story.StoryIngestJobResponseDTO;
 import com.gyeongditor.storyfield.dto.Story.StoryPageResponseDTO;
 import com.gyeongditor.storyfield.dto.Story.StoryThumbnailResponseDTO;
 import com.gyeongditor.storyfield.response.ErrorCode;
@@ -12,6 +14,7 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 
@@ -24,7 +27,8 @@ public interface StoryApi {
 
     @Operation(
             summary = "스토리 페이지 저장",
-            description = "FastAPI가 생성한 스토리 페이지 데이터와 파일들을 저장합니다.",
+            description = "FastAPI가 생성한 스토리 페이지 데이터와 파일들을 저장합니다. "
+                    + "Idempotency-Key 헤더를 보내면 같은 키의 재시도는 한 번만 저장되고 처음 응답을 그대로 돌려받습니다.",
             security = {@SecurityRequirement(name = "bearerAuth")}
     )
     @ApiSuccessResponse(
@@ -35,16 +39,61 @@ public interface StoryApi {
             ErrorCode.FILE_400_001,  // 파일 비어 있음
             ErrorCode.FILE_400_002,  // 파일 형식 오류
             ErrorCode.FILE_413_002,  // 파일 크기 초과
+            ErrorCode.STORY_400_005, // Idempotency-Key 형식 오류
+            ErrorCode.STORY_409_001, // 같은 키 요청 처리 중 (Retry-After)
+            ErrorCode.STORY_422_001, // 같은 키로 다른 요청
+            ErrorCode.STORY_429_001, // 대기 중인 저장 요청 초과 (Retry-After)
+            ErrorCode.STORY_503_001, // 이미지 처리 용량 부족 (Retry-After)
             ErrorCode.SERVER_500_001 // 내부 서버 오류
     })
     @PostMapping(value = "/v1/stories/from-text", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
     ApiResponseDTO<String> saveStory(
             HttpServletRequest request,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey,
             @RequestPart("saveStoryDTO") String saveStoryDtoString,
             @RequestPart("thumbnail") MultipartFile thumbnailGz,
             @RequestPart("pageImages") List<MultipartFile> pageImagesGz
     );
 
+    @Operation(
+            summary = "스토리 페이지 비동기 저장",
+            description = "요청을 접수만 하고 202와 작업 ID를 바로 반환합니다. 이미지 업로드와 저장은 백그라운드에서 진행되며 작업 상태 조회로 확인합니다.",
+            security = {@SecurityRequirement(name = "bearerAuth")}
+    )
+    @ApiSuccessResponse(
+            SuccessCode.STORY_202_001
+    )
+    @ApiErrorResponse({
+            ErrorCode.REQ_400_001,   // 스토리 데이터 변환 실패
+            ErrorCode.STORY_400_004, // 페이지 수와 이미지 수 불일치
+            ErrorCode.STORY_500_005  // 디스크 보관 실패
+    })
+    @PostMapping(value = "/v1/stories/from-text/async", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    ResponseEntity<ApiResponseDTO<StoryIngestJobResponseDTO>> saveStoryAsync(
+            HttpServletRequest request,
+            @RequestPart("saveStoryDTO") String saveStoryDtoString,
+            @RequestPart("thumbnail") MultipartFile thumbnailGz,
+            @RequestPart("pageImages") List<MultipartFile> pageImagesGz
+    );
+
+    @Operation(
+            summary = "스토리 비동기 저장 작업 상태 조회",
+            description = "RECEIVED, UPLOADING, PERSISTING, DONE, FAILED 중 하나를 반환합니다. DONE 이면 storyId 가 포함됩니다.",
+            security = {@SecurityRequirement(name = "bearerAuth")}
+    )
+    @ApiSuccessResponse(
+            SuccessCode.STORY_200_003
+    )
+    @ApiErrorResponse({
+            ErrorCode.STORY_404_002, // 작업 없음
+            ErrorCode.AUTH_403_002   // 접근 권한 없음
+    })
+    @GetMapping("/v1/stories/jobs/{jobId}")
+    ApiResponseDTO<StoryIngestJobResponseDTO> getStoryIngestJob(
+            HttpServletRequest request,
+            @PathVariable UUID jobId
+    );
+
     @Operation(
             summary = "스토리 페이지 조회",
             security = {@SecurityRequirement(name = "bearerAuth")}
@@ -64,6 +113,7 @@ public interface StoryApi {
 
     @Operation(
             summary = "메인 페이지 스토리 목록 조회",
+            description = "페이지 번호 방식 (호환용). 새 클라이언트는 /api/stories/feed 커서 조회를 사용합니다.",
             security = {@SecurityRequirement(name = "bearerAuth")}
     )
     @ApiSuccessResponse(
@@ -78,6 +128,26 @@ public interface StoryApi {
             @RequestParam(defaultValue = "0") int page
     );
 
+    @Operation(
+            summary = "스토리 피드 조회 (커서)",
+            description = "최신순 스토리를 size 개씩 반환합니다. 응답의 nextCursor 를 다음 요청의 cursor 로 보내면 이어서 조회합니다. "
+                    + "스토리가 많아져도 뒤쪽 목록이 느려지지 않습니다.",
+            security = {@SecurityRequirement(name = "bearerAuth")}
+    )
+    @ApiSuccessResponse(
+            SuccessCode.STORY_200_002
+    )
+    @ApiErrorResponse({
+            ErrorCode.STORY_400_006, // 잘못된 커서
+            ErrorCode.SERVER_500_001 // 내부 서버 오류
+    })
+    @GetMapping("/api/stories/feed")
+    ApiResponseDTO<StoryFeedResponseDTO> getStoryFeed(
+            HttpServletRequest request,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size
+    );
+
     @Operation(
             summary = "스토리 삭제",
             description = "accessToken 기반으로 본인 스토리를 삭제합니다.",
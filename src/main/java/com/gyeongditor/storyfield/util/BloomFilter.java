@@ -0,0 +1,80 @@
+package com.gyeongditor.storyfield.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 문자열 키용 Bloom filter
+ * 없다고 답한 키는 확실히 없고, 있다고 답한 키는 설정한 확률(fpp)만큼 틀릴 수 있다.
+ * 비트 배열 크기는 생성 시점에 고정되므로 키 수가 많아도 메모리는 늘지 않는다.
+ * 여러 스레드에서 동시에 put / mightContain 해도 안전하다.
+ */
+public final class BloomFilter {
+
+    private final AtomicLongArray bits;
+    private final long numBits;
+    private final int numHashes;
+
+    private BloomFilter(long numBits, int numHashes) {
+        this.bits = new AtomicLongArray((int) ((numBits + 63) / 64));
+        this.numBits = numBits;
+        this.numHashes = numHashes;
+    }
+
+    public static BloomFilter create(long expectedInsertions, double falsePositiveRate) {
+        if (falsePositiveRate <= 0 || falsePositiveRate >= 1) {
+            throw new IllegalArgumentException("falsePositiveRate 는 0과 1 사이여야 합니다");
+        }
+        long n = Math.max(expectedInsertions, 1);
+        long numBits = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+        numBits = Math.max(64, Math.min(numBits, (long) Integer.MAX_VALUE * 64));
+        int numHashes = Math.max(1, (int) Math.round((double) numBits / n * Math.log(2)));
+        return new BloomFilter(numBits, numHashes);
+    }
+
+    public void put(String value) {
+        long hash1 = hash64(value);
+        long hash2 = fmix64(hash1 ^ 0x9E3779B97F4A7C15L);
+        for (int i = 0; i < numHashes; i++) {
+            long bit = ((hash1 + i * hash2) & Long.MAX_VALUE) % numBits;
+            long mask = 1L << bit;
+            bits.accumulateAndGet((int) (bit >>> 6), mask, (current, m) -> current | m);
+        }
+    }
+
+    public boolean mightContain(String value) {
+        long hash1 = hash64(value);
+        long hash2 = fmix64(hash1 ^ 0x9E3779B97F4A7C15L);
+        for (int i = 0; i < numHashes; i++) {
+            long bit = ((hash1 + i * hash2) & Long.MAX_VALUE) % numBits;
+            if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    // 비트 배열 크기 (byte)
+    public long sizeInBytes() {
+        return (long) bits.length() * Long.BYTES;
+    }
+
+    // FNV-1a 64bit + murmur3 finalizer
+    private static long hash64(String value) {
+        long hash = 0xcbf29ce484222325L;
+        for (byte b : value.getBytes(StandardCharsets.UTF_8)) {
+            hash ^= b;
+            hash *= 0x100000001b3L;
+        }
+        return fmix64(hash);
+    }
+
+    private static long fmix64(long h) {
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb53fe1a85ec3L;
+        h ^= h >>> 33;
+        return h;
+    }
+}
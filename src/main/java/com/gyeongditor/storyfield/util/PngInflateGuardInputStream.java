@@ -0,0 +1,148 @@
+package com.gyeongditor.storyfield.util;
+
+import com.gyeongditor.storyfield.exception.CustomException;
+import com.gyeongditor.storyfield.response.ErrorCode;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * gzip 해제 스트림 감시용 InputStream
+ * 해제된 바이트를 흘려보내면서 누적 크기 / 압축률 상한을 확인하고,
+ * 앞 33바이트(PNG 시그니처 + IHDR)가 모이는 즉시 형식과 가로/세로 크기를 검사한다.
+ * 한도를 넘는 순간 예외를 던지므로 압축 폭탄도 전체를 풀기 전에 중단된다.
+ */
+public class PngInflateGuardInputStream extends FilterInputStream {
+
+    private static final byte[] PNG_SIGNATURE = {
+            (byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'
+    };
+    // 시그니처(8) + IHDR 길이(4) + 타입(4) + 가로(4) + 세로(4) + 나머지 필드(5)
+    private static final int HEADER_LENGTH = 33;
+    private static final int IHDR_DATA_LENGTH = 13;
+
+    private final String fileName;
+    private final long maxInflatedBytes;
+    private final int maxDimension;
+    private final long maxPixels;
+
+    private final byte[] header = new byte[HEADER_LENGTH];
+    private long inflated;
+
+    /**
+     * @param compressedSize   업로드된 .gz 크기 (압축률 상한 계산용)
+     * @param maxInflatedSize  해제 결과 최대 크기
+     * @param maxRatio         해제 크기 / 압축 크기 최대 비율
+     */
+    public PngInflateGuardInputStream(InputStream in, String fileName, long compressedSize,
+                                      long maxInflatedSize, int maxRatio, int maxDimension, long maxPixels) {
+        super(in);
+        this.fileName = fileName;
+        this.maxInflatedBytes = Math.min(maxInflatedSize, Math.max(compressedSize, 1) * maxRatio);
+        this.maxDimension = maxDimension;
+        this.maxPixels = maxPixels;
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = super.read();
+        if (b == -1) {
+            onEnd();
+        } else {
+            onRead(new byte[]{(byte) b}, 0, 1);
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        // 한도 바로 다음 바이트까지만 읽어서 초과 여부를 판단한다
+        long allowed = maxInflatedBytes - inflated + 1;
+        int read = super.read(b, off, (int) Math.min(len, allowed));
+        if (read == -1) {
+            onEnd();
+        } else {
+            onRead(b, off, read);
+        }
+        return read;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        // 건너뛴 바이트도 해제된 양이므로 read 를 거쳐 한도에 포함시킨다
+        byte[] scratch = new byte[(int) Math.min(Math.max(n, 0), 8 * 1024)];
+        long skipped = 0;
+        while (skipped < n) {
+            int read = read(scratch, 0, (int) Math.min(scratch.length, n - skipped));
+            if (read == -1) {
+                break;
+            }
+            skipped += read;
+        }
+        return skipped;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    private void onRead(byte[] b, int off, int read) {
+        if (inflated < HEADER_LENGTH) {
+            int copy = (int) Math.min(read, HEADER_LENGTH - inflated);
+            System.arraycopy(b, off, header, (int) inflated, copy);
+            if (inflated + copy == HEADER_LENGTH) {
+                inflated += read;
+                checkLimit();
+                checkHeader();
+                return;
+            }
+        }
+        inflated += read;
+        checkLimit();
+    }
+
+    private void onEnd() {
+        if (inflated < HEADER_LENGTH) {
+            throw new CustomException(ErrorCode.STORY_400_002, "PNG 헤더가 없는 압축 파일입니다: " + fileName);
+        }
+    }
+
+    private void checkLimit() {
+        if (inflated > maxInflatedBytes) {
+            throw new CustomException(ErrorCode.STORY_413_001,
+                    "압축 해제 크기가 허용 범위를 넘었습니다: " + fileName);
+        }
+    }
+
+    private void checkHeader() {
+        for (int i = 0; i < PNG_SIGNATURE.length; i++) {
+            if (header[i] != PNG_SIGNATURE[i]) {
+                throw new CustomException(ErrorCode.STORY_400_002, "압축 해제 결과가 PNG 가 아닙니다: " + fileName);
+            }
+        }
+        if (readInt(8) != IHDR_DATA_LENGTH
+                || header[12] != 'I' || header[13] != 'H' || header[14] != 'D' || header[15] != 'R') {
+            throw new CustomException(ErrorCode.STORY_400_002, "PNG IHDR 청크가 올바르지 않습니다: " + fileName);
+        }
+
+        long width = readInt(16) & 0xFFFFFFFFL;
+        long height = readInt(20) & 0xFFFFFFFFL;
+        if (width == 0 || height == 0) {
+            throw new CustomException(ErrorCode.STORY_400_002, "PNG 크기가 올바르지 않습니다: " + fileName);
+        }
+        // 파생본 생성 시 전체를 디코딩하므로 픽셀 수도 제한한다
+        if (width > maxDimension || height > maxDimension || width * height > maxPixels) {
+            throw new CustomException(ErrorCode.STORY_413_001,
+                    "이미지 해상도가 너무 큽니다: " + fileName + " (" + width + "x" + height + ")");
+        }
+    }
+
+    private int readInt(int offset) {
+        return ((header[offset] & 0xFF) << 24)
+                | ((header[offset + 1] & 0xFF) << 16)
+                | ((header[offset + 2] & 0xFF) << 8)
+                | (header[offset + 3] & 0xFF);
+    }
+}
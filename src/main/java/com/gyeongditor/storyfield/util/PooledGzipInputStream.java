@@ -0,0 +1,245 @@
+package com.gyeongditor.storyfield.util;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.util.zip.CRC32;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+/**
+ * 외부에서 받은 Inflater / 버퍼로 gzip 을 해제하는 InputStream
+ * GZIPInputStream 은 스트림마다 네이티브 Inflater 와 버퍼를 새로 만들기 때문에,
+ * 인제스트 경로에서는 풀에서 빌린 객체를 재사용하도록 헤더/트레일러(RFC 1952)를 직접 처리한다.
+ * 닫아도 Inflater 는 끝내지 않는다 (반납은 빌려준 쪽 책임).
+ * 예외 메시지는 GZIPInputStream 과 같게 맞춰 기존 오류 분류가 그대로 동작한다.
+ */
+public class PooledGzipInputStream extends InputStream {
+
+    private static final int GZIP_MAGIC = 0x8b1f;
+    private static final int FHCRC = 2;
+    private static final int FEXTRA = 4;
+    private static final int FNAME = 8;
+    private static final int FCOMMENT = 16;
+
+    private final InputStream in;
+    private final Inflater inflater;
+    private final CRC32 crc;
+    private final byte[] readBuffer;
+    // null 이 아니면 Inflater 입력을 이 (direct) 버퍼로 넘긴다
+    private final ByteBuffer inputBuffer;
+
+    // readBuffer 중 아직 Inflater 에 넘기지 않은 구간 [pos, len)
+    private int pos;
+    private int len;
+    private boolean eof;
+    private boolean closed;
+
+    public PooledGzipInputStream(InputStream in, Inflater inflater, CRC32 crc,
+                                 byte[] readBuffer, ByteBuffer inputBuffer) throws IOException {
+        this.in = in;
+        this.inflater = inflater;
+        this.crc = crc;
+        this.readBuffer = readBuffer;
+        this.inputBuffer = inputBuffer;
+        inflater.reset();
+        crc.reset();
+        readHeader();
+    }
+
+    @Override
+    public int read() throws IOException {
+        byte[] single = new byte[1];
+        return read(single, 0, 1) == -1 ? -1 : single[0] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int length) throws IOException {
+        ensureOpen();
+        if (length == 0) {
+            return 0;
+        }
+        while (!eof) {
+            int n;
+            try {
+                n = inflater.inflate(b, off, length);
+            } catch (DataFormatException e) {
+                String message = e.getMessage();
+                throw new ZipException(message != null ? message : "Invalid ZLIB data format");
+            }
+            if (n > 0) {
+                crc.update(b, off, n);
+                return n;
+            }
+            if (inflater.finished()) {
+                readTrailer();
+                continue;
+            }
+            if (inflater.needsDictionary()) {
+                throw new ZipException("ZLIB dictionary missing");
+            }
+            if (inflater.needsInput()) {
+                feedInflater();
+            }
+        }
+        return -1;
+    }
+
+    @Override
+    public int available() throws IOException {
+        ensureOpen();
+        return eof ? 0 : 1;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (!closed) {
+            closed = true;
+            eof = true;
+            in.close();
+        }
+    }
+
+    private void feedInflater() throws IOException {
+        if (pos >= len && fill() == -1) {
+            throw new EOFException("Unexpected end of ZLIB input stream");
+        }
+        if (inputBuffer != null) {
+            inputBuffer.clear();
+            inputBuffer.put(readBuffer, pos, len - pos);
+            inputBuffer.flip();
+            inflater.setInput(inputBuffer);
+        } else {
+            inflater.setInput(readBuffer, pos, len - pos);
+        }
+        pos = len;
+    }
+
+    private void readTrailer() throws IOException {
+        // Inflater 가 쓰고 남긴 입력은 readBuffer 끝부분에 그대로 있다
+        pos = len - inflater.getRemaining();
+
+        long expectedCrc = readUInt();
+        long expectedSize = readUInt();
+        if (expectedCrc != crc.getValue() || expectedSize != (inflater.getBytesWritten() & 0xFFFFFFFFL)) {
+            throw new ZipException("Corrupt GZIP trailer");
+        }
+
+        // 이어지는 멤버가 있으면 계속 해제하고, gzip 이 아닌 꼬리 데이터는 무시한다 (GZIPInputStream 과 동일)
+        if (pos >= len && fill() == -1) {
+            eof = true;
+            return;
+        }
+        if (len - pos < 2 && fillMore() < 2
+                || ((readBuffer[pos] & 0xFF) | ((readBuffer[pos + 1] & 0xFF) << 8)) != GZIP_MAGIC) {
+            eof = true;
+            return;
+        }
+        inflater.reset();
+        crc.reset();
+        readHeader();
+    }
+
+    private void readHeader() throws IOException {
+        CRC32 headerCrc = null;
+        int magic = readUShort(null);
+        if (magic != GZIP_MAGIC) {
+            throw new ZipException("Not in GZIP format");
+        }
+        if (readUByte() != 8) {
+            throw new ZipException("Unsupported compression method");
+        }
+        int flags = readUByte();
+        if ((flags & FHCRC) == FHCRC) {
+            headerCrc = new CRC32();
+            headerCrc.update(0x1f);
+            headerCrc.update(0x8b);
+            headerCrc.update(8);
+            headerCrc.update(flags);
+        }
+        // MTIME(4) XFL(1) OS(1)
+        for (int i = 0; i < 6; i++) {
+            update(headerCrc, readUByte());
+        }
+        if ((flags & FEXTRA) == FEXTRA) {
+            int extraLength = readUShort(headerCrc);
+            for (int i = 0; i < extraLength; i++) {
+                update(headerCrc, readUByte());
+            }
+        }
+        if ((flags & FNAME) == FNAME) {
+            skipZeroTerminated(headerCrc);
+        }
+        if ((flags & FCOMMENT) == FCOMMENT) {
+            skipZeroTerminated(headerCrc);
+        }
+        if (headerCrc != null) {
+            int expected = readUShort(null);
+            if (expected != ((int) headerCrc.getValue() & 0xFFFF)) {
+                throw new ZipException("Corrupt GZIP header");
+            }
+        }
+    }
+
+    private void skipZeroTerminated(CRC32 headerCrc) throws IOException {
+        int b;
+        do {
+            b = readUByte();
+            update(headerCrc, b);
+        } while (b != 0);
+    }
+
+    private static void update(CRC32 headerCrc, int b) {
+        if (headerCrc != null) {
+            headerCrc.update(b);
+        }
+    }
+
+    private long readUInt() throws IOException {
+        long low = readUShort(null);
+        return ((long) readUShort(null) << 16) | low;
+    }
+
+    private int readUShort(CRC32 headerCrc) throws IOException {
+        int low = readUByte();
+        int high = readUByte();
+        update(headerCrc, low);
+        update(headerCrc, high);
+        return (high << 8) | low;
+    }
+
+    private int readUByte() throws IOException {
+        if (pos >= len && fill() == -1) {
+            throw new EOFException();
+        }
+        return readBuffer[pos++] & 0xFF;
+    }
+
+    private int fill() throws IOException {
+        int n = in.read(readBuffer, 0, readBuffer.length);
+        pos = 0;
+        len = Math.max(n, 0);
+        return n;
+    }
+
+    // 남은 구간을 앞으로 당기고 뒤를 채운다, 남은 바이트 수 반환
+    private int fillMore() throws IOException {
+        int remaining = len - pos;
+        System.arraycopy(readBuffer, pos, readBuffer, 0, remaining);
+        pos = 0;
+        len = remaining;
+        int n = in.read(readBuffer, len, readBuffer.length - len);
+        if (n > 0) {
+            len += n;
+        }
+        return len;
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.gyeongditor.storyfield.util;
+
+import java.util.List;
+
+/**
+ * 클라이언트가 보낸 오브젝트 키 검사
+ * 서명 URL 과 프록시 스트리밍이 같은 기준으로 앱이 만든 프리픽스 아래의 키만 내보내도록 한다.
+ */
+public final class StorageKeys {
+
+    public static final String AUDIO_PREFIX = "audio/";
+    // 스토리 이미지 원본/파생본이 저장되는 프리픽스 (UUID 키 / 콘텐츠 주소 키)
+    public static final List<String> IMAGE_PREFIXES = List.of("stories/", "cas/");
+
+    private StorageKeys() {
+    }
+
+    // 역슬래시를 경로 구분자로 맞춘다 (URL 디코딩은 호출한 쪽에서 한 번만)
+    public static String normalize(String key) {
+        return key.replace("\\", "/");
+    }
+
+    // 상위 경로(..)가 없고 허용된 프리픽스 중 하나로 시작하는 키인지
+    public static boolean isUnder(String normalizedKey, List<String> prefixes) {
+        return !normalizedKey.contains("..") && prefixes.stream().anyMatch(normalizedKey::startsWith);
+    }
+}
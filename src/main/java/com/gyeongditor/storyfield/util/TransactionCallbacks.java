@@ -0,0 +1,25 @@
+package com.gyeongditor.storyfield.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// 캐시 갱신처럼 DB 반영이 확정된 뒤에만 해야 하는 작업용
+public final class TransactionCallbacks {
+
+    private TransactionCallbacks() {
+    }
+
+    // 트랜잭션 안이면 커밋 후에, 밖이면 바로 실행한다 (롤백되면 실행하지 않음)
+    public static void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
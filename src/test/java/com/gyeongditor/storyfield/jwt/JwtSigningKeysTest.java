@@ -0,0 +1,145 @@
+package com.gyeongditor.storyfield.jwt;
+
+import com.gyeongditor.storyfield.config.JwtSigningProperties;
+import io.jsonwebtoken.SignatureAlgorithm;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigInteger;
+import java.security.KeyPair;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.RSAPublicKey;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class JwtSigningKeysTest {
+
+    @Test
+    void 활성_키가_없으면_HS256_으로_서명하고_HS256_을_끌_수_없다() {
+        JwtSigningProperties properties = new JwtSigningProperties();
+        properties.setAcceptHs256(false);
+
+        JwtSigningKeys keys = new JwtSigningKeys(properties);
+
+        assertThat(keys.active()).isNull();
+        assertThat(keys.acceptsHs256()).isTrue();
+        assertThat(jwkList(keys)).isEmpty();
+    }
+
+    @Test
+    void 활성_키와_검증_전용_키를_kid_로_찾는다() {
+        JwtSigningProperties properties = properties("es-2", false,
+                JwtTestKeys.entry("es-1", "ES256", JwtTestKeys.ec("secp256r1"), false),
+                JwtTestKeys.entry("es-2", "ES256", JwtTestKeys.ec("secp256r1"), true));
+
+        JwtSigningKeys keys = new JwtSigningKeys(properties);
+
+        assertThat(keys.active().kid()).isEqualTo("es-2");
+        assertThat(keys.active().algorithm()).isEqualTo(SignatureAlgorithm.ES256);
+        assertThat(keys.acceptsHs256()).isFalse();
+        assertThat(keys.verificationKey("es-1").privateKey()).isNull();
+        assertThat(keys.verificationKey("es-1").publicKey()).isNotNull();
+        assertThat(keys.verificationKey("unknown")).isNull();
+        assertThat(keys.verificationKey(null)).isNull();
+    }
+
+    @Test
+    void P256_JWKS_좌표는_앞자리_0_을_채워_항상_32바이트다() {
+        // 좌표 앞 바이트가 0 인 키가 나올 때까지 만들어 본다 (키 하나당 약 1/64 확률)
+        boolean sawShortCoordinate = false;
+        for (int i = 0; i < 2_000 && !sawShortCoordinate; i++) {
+            KeyPair pair = JwtTestKeys.ec("secp256r1");
+            ECPublicKey publicKey = (ECPublicKey) pair.getPublic();
+            sawShortCoordinate = publicKey.getW().getAffineX().bitLength() <= 248
+                    || publicKey.getW().getAffineY().bitLength() <= 248;
+
+            Map<String, Object> jwk = jwkList(new JwtSigningKeys(
+                    properties(null, true, JwtTestKeys.entry("es", "ES256", pair, false)))).get(0);
+
+            assertThat(jwk).containsEntry("kty", "EC").containsEntry("crv", "P-256")
+                    .containsEntry("alg", "ES256").containsEntry("use", "sig").containsEntry("kid", "es")
+                    .doesNotContainKey("d");
+            byte[] x = decode(jwk.get("x"));
+            byte[] y = decode(jwk.get("y"));
+            assertThat(x).hasSize(32);
+            assertThat(y).hasSize(32);
+            assertThat(new BigInteger(1, x)).isEqualTo(publicKey.getW().getAffineX());
+            assertThat(new BigInteger(1, y)).isEqualTo(publicKey.getW().getAffineY());
+        }
+        assertThat(sawShortCoordinate).isTrue();
+    }
+
+    @Test
+    void RSA_JWKS_는_부호_바이트를_떼고_내보낸다() {
+        KeyPair pair = JwtTestKeys.rsa();
+        RSAPublicKey publicKey = (RSAPublicKey) pair.getPublic();
+
+        Map<String, Object> jwk = jwkList(new JwtSigningKeys(
+                properties("rs", true, JwtTestKeys.entry("rs", "RS256", pair, true)))).get(0);
+
+        assertThat(jwk).containsEntry("kty", "RSA").containsEntry("alg", "RS256").containsEntry("e", "AQAB")
+                .doesNotContainKeys("d", "p", "q");
+        byte[] n = decode(jwk.get("n"));
+        // 2048비트 모듈러스의 toByteArray 는 부호 바이트 0 이 붙은 257바이트
+        assertThat(publicKey.getModulus().toByteArray()).hasSize(257);
+        assertThat(n).hasSize(256);
+        assertThat(n[0]).isNotZero();
+        assertThat(new BigInteger(1, n)).isEqualTo(publicKey.getModulus());
+    }
+
+    @Test
+    void 중복된_kid_는_시작할_때_실패한다() {
+        JwtSigningProperties properties = properties(null, true,
+                JwtTestKeys.entry("dup", "ES256", JwtTestKeys.ec("secp256r1"), false),
+                JwtTestKeys.entry("dup", "ES256", JwtTestKeys.ec("secp256r1"), false));
+
+        assertThatThrownBy(() -> new JwtSigningKeys(properties))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("중복된 kid");
+    }
+
+    @Test
+    void 개인키가_없거나_없는_kid_를_활성_키로_두면_시작할_때_실패한다() {
+        JwtSigningProperties publicOnly = properties("es", true,
+                JwtTestKeys.entry("es", "ES256", JwtTestKeys.ec("secp256r1"), false));
+        JwtSigningProperties unknown = properties("missing", true,
+                JwtTestKeys.entry("es", "ES256", JwtTestKeys.ec("secp256r1"), true));
+
+        assertThatThrownBy(() -> new JwtSigningKeys(publicOnly)).isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> new JwtSigningKeys(unknown)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void 잘못된_키_설정은_시작할_때_실패한다() {
+        JwtSigningProperties.Key p384 = JwtTestKeys.entry("es", "ES256", JwtTestKeys.ec("secp384r1"), false);
+        JwtSigningProperties.Key hs256 = JwtTestKeys.entry("hs", "HS256", JwtTestKeys.ec("secp256r1"), false);
+        JwtSigningProperties.Key rsaAsEc = JwtTestKeys.entry("mixed", "ES256", JwtTestKeys.rsa(), false);
+        JwtSigningProperties.Key noKid = JwtTestKeys.entry(" ", "ES256", JwtTestKeys.ec("secp256r1"), false);
+
+        for (JwtSigningProperties.Key key : List.of(p384, hs256, rsaAsEc, noKid)) {
+            assertThatThrownBy(() -> new JwtSigningKeys(properties(null, true, key)))
+                    .isInstanceOf(IllegalStateException.class);
+        }
+    }
+
+    private static JwtSigningProperties properties(String activeKeyId, boolean acceptHs256,
+                                                   JwtSigningProperties.Key... keys) {
+        JwtSigningProperties properties = new JwtSigningProperties();
+        properties.setActiveKeyId(activeKeyId);
+        properties.setAcceptHs256(acceptHs256);
+        properties.setKeys(List.of(keys));
+        return properties;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<Map<String, Object>> jwkList(JwtSigningKeys keys) {
+        return (List<Map<String, Object>>) keys.jwks().get("keys");
+    }
+
+    private static byte[] decode(Object value) {
+        return Base64.getUrlDecoder().decode((String) value);
+    }
+}
@@ -0,0 +1,54 @@
+package com.gyeongditor.storyfield.jwt;
+
+import com.gyeongditor.storyfield.config.JwtSigningProperties;
+
+import java.security.GeneralSecurityException;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Base64;
+
+// 테스트마다 새로 만드는 서명 키와 jwt.signing.keys 설정 항목
+final class JwtTestKeys {
+
+    private JwtTestKeys() {
+    }
+
+    static KeyPair ec(String curve) {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+            generator.initialize(new ECGenParameterSpec(curve));
+            return generator.generateKeyPair();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    static KeyPair rsa() {
+        try {
+            KeyPairGenerator generator = KeyPairGenerator.getInstance("RSA");
+            generator.initialize(2048);
+            return generator.generateKeyPair();
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // privateKey 를 빼면 검증 전용(교체 후 남겨 둔 이전 키) 항목
+    static JwtSigningProperties.Key entry(String kid, String algorithm, KeyPair pair, boolean withPrivateKey) {
+        JwtSigningProperties.Key key = new JwtSigningProperties.Key();
+        key.setKid(kid);
+        key.setAlgorithm(algorithm);
+        key.setPublicKey(pem("PUBLIC KEY", pair.getPublic().getEncoded()));
+        if (withPrivateKey) {
+            key.setPrivateKey(pem("PRIVATE KEY", pair.getPrivate().getEncoded()));
+        }
+        return key;
+    }
+
+    static String pem(String type, byte[] der) {
+        return "-----BEGIN " + type + "-----\n"
+                + Base64.getMimeEncoder(64, "\n".getBytes()).encodeToString(der)
+                + "\n-----END " + type + "-----\n";
+    }
+}
@@ -0,0 +1,224 @@
+package com.gyeongditor.storyfield.jwt;
+
+import com.gyeongditor.storyfield.Entity.CustomUserDetails;
+import com.gyeongditor.storyfield.config.JwtSigningProperties;
+import com.gyeongditor.storyfield.exception.CustomException;
+import com.gyeongditor.storyfield.repository.JwtTokenRedisRepository;
+import com.gyeongditor.storyfield.response.ErrorCode;
+import com.gyeongditor.storyfield.service.TokenRevocationService;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.security.Key;
+import java.security.KeyPair;
+import java.time.Duration;
+import java.util.Date;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class JwtTokenProviderTest {
+
+    // jjwt 는 문자열 키를 base64 로 해석한다
+    private static final String SECRET = "cHJlc2lnbkJlbmNobWFya1NlY3JldFByZXNpZ25CZW5jaG1hcmtTZWNyZXQ=";
+    private static final Key KEY = Keys.hmacShaKeyFor(Decoders.BASE64.decode(SECRET));
+
+    private TokenRevocationService tokenRevocationService;
+    private JwtTokenProvider jwtTokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        tokenRevocationService = mock(TokenRevocationService.class);
+        jwtTokenProvider = provider(new JwtSigningProperties());
+    }
+
+    @AfterEach
+    void tearDown() {
+        RequestContextHolder.resetRequestAttributes();
+    }
+
+    @Test
+    void 같은_요청_안에서는_토큰을_한_번만_검증한다() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        String token = token("reader@storyfield.com", "jti-1");
+
+        VerifiedPrincipal first = jwtTokenProvider.verify(token);
+        jwtTokenProvider.validateOrThrow(token);
+        VerifiedPrincipal second = jwtTokenProvider.verify(token);
+
+        assertThat(second).isSameAs(first);
+        assertThat(jwtTokenProvider.getEmail(token)).isEqualTo("reader@storyfield.com");
+        assertThat(first.tokenId()).isEqualTo("jti-1");
+        // 블랙리스트 확인도 요청당 한 번
+        verify(tokenRevocationService, times(1)).isRevoked("jti-1");
+    }
+
+    @Test
+    void 같은_요청이라도_다른_토큰은_따로_검증한다() {
+        RequestContextHolder.setRequestAttributes(new ServletRequestAttributes(new MockHttpServletRequest()));
+        String first = token("first@storyfield.com", "jti-1");
+        String second = token("second@storyfield.com", "jti-2");
+
+        assertThat(jwtTokenProvider.verify(first).email()).isEqualTo("first@storyfield.com");
+        assertThat(jwtTokenProvider.verify(second).email()).isEqualTo("second@storyfield.com");
+        verify(tokenRevocationService).isRevoked("jti-1");
+        verify(tokenRevocationService).isRevoked("jti-2");
+    }
+
+    @Test
+    void 요청_밖에서는_매번_폐기_여부를_확인한다() {
+        String token = token("worker@storyfield.com", "jti-1");
+
+        jwtTokenProvider.verify(token);
+        jwtTokenProvider.verify(token);
+
+        // 서명 검증은 캐시로 건너뛰어도 폐기 여부는 호출마다 확인한다
+        verify(tokenRevocationService, times(2)).isRevoked("jti-1");
+    }
+
+    @Test
+    void 폐기된_토큰은_캐시에_있어도_거절한다() {
+        String token = token("reader@storyfield.com", "jti-1");
+        jwtTokenProvider.verify(token);
+
+        when(tokenRevocationService.isRevoked(anyString())).thenReturn(true);
+
+        assertThatThrownBy(() -> jwtTokenProvider.verify(token)).isInstanceOf(CustomException.class);
+    }
+
+    @Test
+    void ES256_활성_키로_서명한_토큰을_검증한다() {
+        KeyPair pair = JwtTestKeys.ec("secp256r1");
+        JwtTokenProvider es256 = provider(signing("es-1", false, JwtTestKeys.entry("es-1", "ES256", pair, true)));
+
+        String token = es256.createToken(authentication("writer@storyfield.com"));
+
+        assertThat(es256.verify(token).email()).isEqualTo("writer@storyfield.com");
+        // 공개키만으로 검증되고 헤더에 kid 가 실린다
+        JwsHeader<?> header = Jwts.parserBuilder().setSigningKey(pair.getPublic()).build()
+                .parseClaimsJws(token).getHeader();
+        assertThat(header.getAlgorithm()).isEqualTo("ES256");
+        assertThat(header.getKeyId()).isEqualTo("es-1");
+    }
+
+    @Test
+    void 교체_후에도_검증_전용으로_남긴_이전_키의_토큰을_받는다() {
+        KeyPair old = JwtTestKeys.rsa();
+        String oldToken = provider(signing("rs-old", true, JwtTestKeys.entry("rs-old", "RS256", old, true)))
+                .createToken(authentication("reader@storyfield.com"));
+
+        JwtTokenProvider rotated = provider(signing("es-new", false,
+                JwtTestKeys.entry("rs-old", "RS256", old, false),
+                JwtTestKeys.entry("es-new", "ES256", JwtTestKeys.ec("secp256r1"), true)));
+
+        // RS256 로 발급된 토큰도 공개키만 남은 kid 로 검증된다
+        assertThat(rotated.verify(oldToken).email()).isEqualTo("reader@storyfield.com");
+    }
+
+    @Test
+    void accept_hs256_가_false_면_HS256_토큰을_거절한다() {
+        JwtTokenProvider es256Only = provider(signing("es-1", false,
+                JwtTestKeys.entry("es-1", "ES256", JwtTestKeys.ec("secp256r1"), true)));
+        JwtTokenProvider transitional = provider(signing("es-1", true,
+                JwtTestKeys.entry("es-1", "ES256", JwtTestKeys.ec("secp256r1"), true)));
+        String hs256 = token("reader@storyfield.com", "jti-1");
+
+        assertInvalid(es256Only, hs256);
+        assertThat(transitional.verify(hs256).email()).isEqualTo("reader@storyfield.com");
+    }
+
+    @Test
+    void ES256_kid_에_RS256_헤더를_붙인_토큰을_거절한다() {
+        JwtTokenProvider es256 = provider(signing("es-1", false,
+                JwtTestKeys.entry("es-1", "ES256", JwtTestKeys.ec("secp256r1"), true)));
+        KeyPair attacker = JwtTestKeys.rsa();
+
+        String forged = Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, "es-1")
+                .setSubject("reader@storyfield.com")
+                .setId("jti-1")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(attacker.getPrivate(), SignatureAlgorithm.RS256)
+                .compact();
+
+        assertInvalid(es256, forged);
+    }
+
+    @Test
+    void 알_수_없는_kid_는_거절한다() {
+        JwtTokenProvider es256 = provider(signing("es-1", false,
+                JwtTestKeys.entry("es-1", "ES256", JwtTestKeys.ec("secp256r1"), true)));
+        KeyPair other = JwtTestKeys.ec("secp256r1");
+
+        String unknownKid = Jwts.builder()
+                .setHeaderParam(JwsHeader.KEY_ID, "es-2")
+                .setSubject("reader@storyfield.com")
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(other.getPrivate(), SignatureAlgorithm.ES256)
+                .compact();
+
+        assertInvalid(es256, unknownKid);
+    }
+
+    private JwtTokenProvider provider(JwtSigningProperties signing) {
+        JwtTokenProvider provider = new JwtTokenProvider(mock(JwtTokenRedisRepository.class), null,
+                tokenRevocationService, new JwtSigningKeys(signing));
+        ReflectionTestUtils.setField(provider, "secretKey", SECRET);
+        ReflectionTestUtils.setField(provider, "accessTokenValiditySeconds", 60L);
+        ReflectionTestUtils.setField(provider, "verifiedCacheSize", 100);
+        ReflectionTestUtils.setField(provider, "verifiedCacheTtl", Duration.ofMinutes(1));
+        provider.init();
+        return provider;
+    }
+
+    private static JwtSigningProperties signing(String activeKeyId, boolean acceptHs256,
+                                                JwtSigningProperties.Key... keys) {
+        JwtSigningProperties properties = new JwtSigningProperties();
+        properties.setActiveKeyId(activeKeyId);
+        properties.setAcceptHs256(acceptHs256);
+        properties.setKeys(List.of(keys));
+        return properties;
+    }
+
+    private static Authentication authentication(String email) {
+        CustomUserDetails user = new CustomUserDetails(UUID.randomUUID().toString(), email, "password", "writer",
+                true, true, true, true, 0, null, null, null, List.of());
+        return new UsernamePasswordAuthenticationToken(user, null, List.of());
+    }
+
+    private static void assertInvalid(JwtTokenProvider provider, String token) {
+        assertThatThrownBy(() -> provider.verify(token))
+                .isInstanceOfSatisfying(CustomException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.AUTH_401_012));
+    }
+
+    private static String token(String email, String jti) {
+        return Jwts.builder()
+                .setSubject(email)
+                .claim("userUUID", UUID.randomUUID().toString())
+                .setId(jti)
+                .setIssuedAt(new Date())
+                .setExpiration(new Date(System.currentTimeMillis() + 60_000))
+                .signWith(KEY, SignatureAlgorithm.HS256)
+                .compact();
+    }
+}
@@ -0,0 +1,110 @@
+package com.gyeongditor.storyfield.repository;
+
+import com.gyeongditor.storyfield.Entity.StoryIngestJob;
+import com.gyeongditor.storyfield.Entity.StoryIngestStatus;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:story-ingest-job;MODE=MariaDB;NON_KEYWORDS=USER",
+        "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class StoryIngestJobRepositoryTest {
+
+    private static final Set<StoryIngestStatus> UNFINISHED =
+            EnumSet.of(StoryIngestStatus.RECEIVED, StoryIngestStatus.UPLOADING, StoryIngestStatus.PERSISTING);
+
+    @Autowired
+    private StoryIngestJobRepository storyIngestJobRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    private UUID jobId;
+
+    @BeforeEach
+    void setUp() {
+        jobId = UUID.randomUUID();
+        storyIngestJobRepository.saveAndFlush(StoryIngestJob.builder()
+                .jobId(jobId)
+                .userId(UUID.randomUUID().toString())
+                .saveStoryDto("{}")
+                .pageCount(1)
+                .status(StoryIngestStatus.RECEIVED)
+                .createdAt(LocalDateTime.now())
+                .ownerNode("node-a")
+                .leaseUntil(LocalDateTime.now().minusMinutes(1))
+                .build());
+        entityManager.clear();
+    }
+
+    @Test
+    void 소유자는_상태를_기록한다() {
+        StoryIngestJob job = load();
+        job.changeStatus(StoryIngestStatus.UPLOADING);
+
+        assertThat(storyIngestJobRepository.updateStatusIfOwner(job, "node-a", UNFINISHED)).isEqualTo(1);
+
+        entityManager.clear();
+        assertThat(storyIngestJobRepository.findById(jobId).orElseThrow().getStatus())
+                .isEqualTo(StoryIngestStatus.UPLOADING);
+    }
+
+    @Test
+    void 리스를_넘겨받은_인스턴스의_실패를_이전_소유자가_덮어쓰지_못한다() {
+        // node-a 가 읽어 둔 작업
+        StoryIngestJob stale = load();
+
+        // 리스가 끝나 node-b 가 가져가고 스풀이 없어 실패로 기록
+        LocalDateTime now = LocalDateTime.now();
+        assertThat(storyIngestJobRepository.claimExpired(jobId, "node-b", UNFINISHED, now, now.plusMinutes(2)))
+                .isEqualTo(1);
+        StoryIngestJob takenOver = load();
+        takenOver.fail("STORY_500_005", "스풀 없음");
+        assertThat(storyIngestJobRepository.updateStatusIfOwner(takenOver, "node-b", UNFINISHED)).isEqualTo(1);
+
+        // 뒤늦게 끝난 node-a 의 완료 기록은 반영되지 않는다
+        stale.complete(UUID.randomUUID());
+        assertThat(storyIngestJobRepository.updateStatusIfOwner(stale, "node-a", UNFINISHED)).isZero();
+
+        entityManager.clear();
+        StoryIngestJob stored = storyIngestJobRepository.findById(jobId).orElseThrow();
+        assertThat(stored.getStatus()).isEqualTo(StoryIngestStatus.FAILED);
+        assertThat(stored.getStoryId()).isNull();
+        assertThat(stored.getErrorCode()).isEqualTo("STORY_500_005");
+    }
+
+    @Test
+    void 끝난_작업은_소유자라도_다시_바꾸지_않는다() {
+        StoryIngestJob job = load();
+        job.complete(UUID.randomUUID());
+        assertThat(storyIngestJobRepository.updateStatusIfOwner(job, "node-a", UNFINISHED)).isEqualTo(1);
+
+        job.fail("SERVER_500_001", "늦은 실패");
+        assertThat(storyIngestJobRepository.updateStatusIfOwner(job, "node-a", UNFINISHED)).isZero();
+
+        entityManager.clear();
+        assertThat(storyIngestJobRepository.findById(jobId).orElseThrow().getStatus())
+                .isEqualTo(StoryIngestStatus.DONE);
+    }
+
+    // 서비스처럼 트랜잭션 밖에서 읽은(분리된) 엔티티로 다룬다, 관리 상태면 벌크 UPDATE 전에 엔티티 전체가 flush 된다
+    private StoryIngestJob load() {
+        entityManager.clear();
+        StoryIngestJob job = storyIngestJobRepository.findById(jobId).orElseThrow();
+        entityManager.detach(job);
+        return job;
+    }
+}
@@ -0,0 +1,171 @@
+package com.gyeongditor.storyfield.repository;
+
+import com.gyeongditor.storyfield.Entity.Story;
+import com.gyeongditor.storyfield.Entity.StoryPage;
+import com.gyeongditor.storyfield.Entity.User;
+import com.gyeongditor.storyfield.dto.Story.StoryFeedCursor;
+import com.gyeongditor.storyfield.dto.Story.StoryFeedView;
+import com.gyeongditor.storyfield.dto.Story.StoryPageView;
+import com.gyeongditor.storyfield.exception.CustomException;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:story-repository;MODE=MariaDB;NON_KEYWORDS=USER",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class StoryRepositoryTest {
+
+    private static final int PAGE_COUNT = 20;
+    private static final int FEED_STORY_COUNT = 23;
+    private static final int FEED_PAGE_SIZE = 5;
+
+    @Autowired
+    private StoryRepository storyRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = User.builder()
+                .email("writer@storyfield.com")
+                .password("password")
+                .username("writer")
+                .build();
+        entityManager.persist(user);
+    }
+
+    @Test
+    void 스토리_페이지_조회는_한_번의_쿼리로_필요한_컬럼만_가져온다() {
+        Story story = newStory();
+        // 역순으로 저장해도 pageNumber 순으로 나와야 한다
+        for (int i = PAGE_COUNT; i >= 1; i--) {
+            story.getPages().add(StoryPage.builder()
+                    .story(story)
+                    .pageNumber(i)
+                    .content("페이지 " + i)
+                    .imageFileName("stories/page-" + i + ".png")
+                    .build());
+        }
+        entityManager.persist(story);
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<StoryPageView> pages = storyRepository.findPageViewsByStoryId(story.getStoryId());
+
+        // 작성자(User) / Story / StoryPage 엔티티를 읽지 않고 SELECT 1번
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getCollectionLoadCount()).isZero();
+        assertThat(pages).hasSize(PAGE_COUNT);
+        assertThat(pages).extracting(StoryPageView::pageNumber)
+                .containsExactlyElementsOf(IntStream.rangeClosed(1, PAGE_COUNT).boxed().toList());
+        assertThat(pages.get(0).imageFileName()).isEqualTo("stories/page-1.png");
+    }
+
+    @Test
+    void 페이지가_없는_스토리와_없는_스토리를_구분한다() {
+        Story story = newStory();
+        entityManager.persist(story);
+        entityManager.flush();
+        entityManager.clear();
+
+        List<StoryPageView> empty = storyRepository.findPageViewsByStoryId(story.getStoryId());
+        assertThat(empty).hasSize(1);
+        assertThat(empty.get(0).pageNumber()).isNull();
+
+        assertThat(storyRepository.findPageViewsByStoryId(UUID.randomUUID())).isEmpty();
+    }
+
+    @Test
+    void 피드는_커서로_중복_없이_최신순으로_이어진다() {
+        // 같은 createdAt 이 섞여 있어도 storyId 로 순서가 정해져야 한다
+        LocalDateTime base = LocalDateTime.of(2025, 1, 1, 0, 0);
+        for (int i = 0; i < FEED_STORY_COUNT; i++) {
+            entityManager.persist(newStory(base.plusMinutes(i / 3)));
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        List<StoryFeedView> all = new ArrayList<>();
+        StoryFeedCursor cursor = null;
+        int calls = 0;
+        while (true) {
+            statistics.clear();
+            PageRequest limit = PageRequest.of(0, FEED_PAGE_SIZE);
+            Slice<StoryFeedView> slice = cursor == null
+                    ? storyRepository.findFeed(limit)
+                    : storyRepository.findFeedAfter(cursor.createdAt(), cursor.storyId(), limit);
+            calls++;
+
+            // COUNT 쿼리 없이 SELECT 1번, 엔티티 로딩 없음
+            assertThat(statistics.getPrepareStatementCount()).isEqualTo(1);
+            assertThat(statistics.getEntityLoadCount()).isZero();
+
+            all.addAll(slice.getContent());
+            if (!slice.hasNext()) {
+                break;
+            }
+            // 인코딩/디코딩을 거친 커서로 이어서 조회
+            cursor = StoryFeedCursor.decode(StoryFeedCursor.of(slice.getContent().get(FEED_PAGE_SIZE - 1)).encode());
+        }
+
+        assertThat(calls).isEqualTo((FEED_STORY_COUNT + FEED_PAGE_SIZE - 1) / FEED_PAGE_SIZE);
+        assertThat(all).hasSize(FEED_STORY_COUNT);
+        assertThat(all).extracting(StoryFeedView::storyId).doesNotHaveDuplicates();
+        // DB 는 UUID 를 부호 없는 바이트 순으로 비교한다 (UUID.compareTo 는 부호 있는 비교라 문자열로 비교)
+        assertThat(all).isSortedAccordingTo(Comparator.comparing(StoryFeedView::createdAt)
+                .thenComparing(view -> view.storyId().toString())
+                .reversed());
+    }
+
+    @Test
+    void 잘못된_피드_커서는_거절한다() {
+        assertThatThrownBy(() -> StoryFeedCursor.decode("not-a-cursor"))
+                .isInstanceOf(CustomException.class);
+    }
+
+    private Story newStory() {
+        return newStory(LocalDateTime.now());
+    }
+
+    private Story newStory(LocalDateTime createdAt) {
+        return Story.builder()
+                .user(user)
+                .storyTitle("테스트 이야기")
+                .thumbnailFileName("stories/thumbnail.png")
+                .createdAt(createdAt)
+                .build();
+    }
+}
@@ -0,0 +1,69 @@
+package com.gyeongditor.storyfield.service.impl;
+
+import com.gyeongditor.storyfield.config.ObjectProxyProperties;
+import com.gyeongditor.storyfield.exception.CustomException;
+import com.gyeongditor.storyfield.response.ErrorCode;
+import com.gyeongditor.storyfield.service.ObjectStorage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ObjectProxyServiceImplTest {
+
+    private ObjectStorage objectStorage;
+    private ObjectProxyServiceImpl objectProxyService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        objectStorage = mock(ObjectStorage.class);
+        // 캐시 없이 스토리지를 바로 읽는 구성으로도 키 검사는 같다
+        objectProxyService = new ObjectProxyServiceImpl(objectStorage, new ObjectProxyProperties(), new SimpleMeterRegistry());
+    }
+
+    @Test
+    void 앱_프리픽스_밖의_키는_스토리지를_보지_않고_404() {
+        for (String key : List.of("private/report.pdf", "stories/../private/report.pdf",
+                "cas\\..\\private\\report.pdf", "/stories/a.png", "audio")) {
+            assertNotFound(key);
+        }
+        verify(objectStorage, never()).stat(anyString());
+    }
+
+    @Test
+    void 허용된_프리픽스의_키만_스토리지에서_찾는다() {
+        when(objectStorage.stat(anyString())).thenReturn(Optional.empty());
+
+        for (String key : List.of("stories/a.png", "cas/ab/abcd.png", "audio/b.mp3")) {
+            assertNotFound(key);
+            verify(objectStorage).stat(key);
+        }
+    }
+
+    @Test
+    void 역슬래시는_경로_구분자로_맞춰서_찾는다() {
+        when(objectStorage.stat(anyString())).thenReturn(Optional.empty());
+
+        assertNotFound("stories\\a.png");
+        verify(objectStorage).stat("stories/a.png");
+    }
+
+    private void assertNotFound(String key) {
+        assertThatThrownBy(() -> objectProxyService.serve(key, new MockHttpServletRequest(), new MockHttpServletResponse()))
+                .isInstanceOfSatisfying(CustomException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.FILE_404_001));
+    }
+}
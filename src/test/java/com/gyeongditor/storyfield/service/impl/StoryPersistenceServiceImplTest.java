@@ -0,0 +1,85 @@
+package com.gyeongditor.storyfield.service.impl;
+
+import com.gyeongditor.storyfield.Entity.User;
+import com.gyeongditor.storyfield.dto.Story.SaveStoryDTO;
+import com.gyeongditor.storyfield.dto.Story.StoryPageDTO;
+import com.gyeongditor.storyfield.service.StoryFeedCacheService;
+import com.gyeongditor.storyfield.service.StoryPersistenceService;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.Mockito.verify;
+
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:story-persistence;MODE=MariaDB;NON_KEYWORDS=USER",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.generate_statistics=true",
+        "spring.jpa.properties.hibernate.jdbc.batch_size=50",
+        "spring.jpa.properties.hibernate.order_inserts=true"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import(StoryPersistenceServiceImpl.class)
+class StoryPersistenceServiceImplTest {
+
+    private static final int PAGE_COUNT = 30;
+
+    @Autowired
+    private StoryPersistenceService storyPersistenceService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @MockBean
+    private StoryFeedCacheService storyFeedCacheService;
+
+    @Test
+    void 스토리_저장은_페이지_수와_무관하게_몇_번의_쿼리로_끝난다() {
+        User user = User.builder()
+                .email("writer@storyfield.com")
+                .password("password")
+                .username("writer")
+                .build();
+        entityManager.persist(user);
+        entityManager.flush();
+
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        List<StoryPageDTO> pages = IntStream.rangeClosed(1, PAGE_COUNT)
+                .mapToObj(i -> StoryPageDTO.builder().pageNumber(i).content("페이지 " + i).build())
+                .toList();
+        List<String> imageKeys = IntStream.rangeClosed(1, PAGE_COUNT)
+                .mapToObj(i -> "stories/page-" + i + ".png")
+                .toList();
+
+        UUID storyId = storyPersistenceService.persistStory(
+                user, new SaveStoryDTO("테스트 이야기", null, pages), "stories/thumbnail.png", imageKeys);
+        entityManager.flush();
+
+        // story INSERT 1 + story_page 배치 INSERT 1 + 시퀀스 조회 (pooled 최초 할당 시 최대 2)
+        assertThat(storyId).isNotNull();
+        assertThat(statistics.getEntityInsertCount()).isEqualTo(1 + PAGE_COUNT);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        assertThat(statistics.getPrepareStatementCount()).isLessThanOrEqualTo(4);
+        // 캐시에 넣는 createdAt 은 DB 정밀도(마이크로초)를 넘지 않아야 피드 커서가 DB 값과 맞는다
+        verify(storyFeedCacheService).added(argThat(view -> view.storyId().equals(storyId)
+                && view.createdAt().getNano() % 1_000 == 0));
+    }
+}
@@ -0,0 +1,158 @@
+package com.gyeongditor.storyfield.service.impl;
+
+import com.gyeongditor.storyfield.config.RevocationProperties;
+import com.gyeongditor.storyfield.repository.JwtTokenRedisRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class TokenRevocationServiceImplTest {
+
+    private JwtTokenRedisRepository jwtTokenRedisRepository;
+    private RedisMessageListenerContainer listenerContainer;
+    private RevocationProperties properties;
+
+    @BeforeEach
+    void setUp() {
+        jwtTokenRedisRepository = mock(JwtTokenRedisRepository.class);
+        listenerContainer = mock(RedisMessageListenerContainer.class);
+        properties = new RevocationProperties();
+        properties.setExpectedRevocations(1_000);
+    }
+
+    @Test
+    void 생성_시점에는_리스너만_등록하고_SCAN_은_준비된_뒤에_한다() {
+        TokenRevocationServiceImpl service = newService();
+
+        verify(listenerContainer).addMessageListener(any(MessageListener.class), eq(new ChannelTopic("auth:revocation")));
+        verify(jwtTokenRedisRepository, never()).scanBlacklist();
+
+        when(jwtTokenRedisRepository.scanBlacklist()).thenReturn(Map.of("revoked-jti", 60_000L));
+        service.initialSync();
+
+        assertThat(service.isRevoked("revoked-jti")).isTrue();
+        assertThat(service.isRevoked("live-jti")).isFalse();
+    }
+
+    @Test
+    void 만료된_항목은_폐기로_보지_않는다() {
+        when(jwtTokenRedisRepository.scanBlacklist()).thenReturn(Map.of("expired-jti", 0L, "forever-jti", -1L));
+        TokenRevocationServiceImpl service = newService();
+        service.initialSync();
+
+        assertThat(service.isRevoked("expired-jti")).isFalse();
+        assertThat(service.isRevoked("forever-jti")).isTrue();
+    }
+
+    @Test
+    void 폐기하면_Redis_에_등록하고_알린_뒤_바로_반영한다() {
+        when(jwtTokenRedisRepository.scanBlacklist()).thenReturn(Map.of());
+        when(jwtTokenRedisRepository.addTokenToBlacklist("jti-1", 60)).thenReturn(true);
+        TokenRevocationServiceImpl service = newService();
+        service.initialSync();
+
+        assertThat(service.revoke("jti-1", 60)).isTrue();
+
+        verify(jwtTokenRedisRepository).publishBlacklisted("auth:revocation", "jti-1", 60_000L);
+        assertThat(service.isRevoked("jti-1")).isTrue();
+    }
+
+    @Test
+    void 이미_폐기된_토큰은_다시_알리지_않는다() {
+        when(jwtTokenRedisRepository.scanBlacklist()).thenReturn(Map.of());
+        when(jwtTokenRedisRepository.addTokenToBlacklist("jti-1", 60)).thenReturn(false);
+        TokenRevocationServiceImpl service = newService();
+        service.initialSync();
+
+        assertThat(service.revoke("jti-1", 60)).isFalse();
+
+        verify(jwtTokenRedisRepository, never()).publishBlacklisted(anyString(), anyString(), eq(60_000L));
+    }
+
+    @Test
+    void 다른_인스턴스의_폐기_알림을_반영한다() {
+        when(jwtTokenRedisRepository.scanBlacklist()).thenReturn(Map.of());
+        TokenRevocationServiceImpl service = newService();
+        service.initialSync();
+
+        listener().onMessage(message("jti-remote 60000"), null);
+        listener().onMessage(message("broken"), null);
+
+        assertThat(service.isRevoked("jti-remote")).isTrue();
+        assertThat(service.isRevoked("broken")).isFalse();
+    }
+
+    @Test
+    void failOpen_이면_동기화에_실패해도_가진_사본으로_판단한다() {
+        when(jwtTokenRedisRepository.scanBlacklist()).thenReturn(Map.of("revoked-jti", 60_000L));
+        TokenRevocationServiceImpl service = newService();
+        service.initialSync();
+
+        when(jwtTokenRedisRepository.scanBlacklist()).thenThrow(new IllegalStateException("redis down"));
+        service.resync();
+
+        assertThat(service.isRevoked("revoked-jti")).isTrue();
+        assertThat(service.isRevoked("live-jti")).isFalse();
+    }
+
+    @Test
+    void failClosed_이면_동기화_전이나_실패_후에는_모든_토큰을_거절한다() {
+        properties.setFailOpen(false);
+        when(jwtTokenRedisRepository.scanBlacklist()).thenReturn(Map.of());
+        TokenRevocationServiceImpl service = newService();
+
+        assertThat(service.isRevoked("live-jti")).isTrue();
+
+        service.initialSync();
+        assertThat(service.isRevoked("live-jti")).isFalse();
+
+        when(jwtTokenRedisRepository.scanBlacklist()).thenThrow(new IllegalStateException("redis down"));
+        service.resync();
+        assertThat(service.isRevoked("live-jti")).isTrue();
+    }
+
+    @Test
+    void 사본을_끄면_Redis_를_직접_조회한다() {
+        properties.setReplicaEnabled(false);
+        when(jwtTokenRedisRepository.isTokenBlacklisted("jti-1")).thenReturn(true);
+        TokenRevocationServiceImpl service = newService();
+        service.initialSync();
+
+        assertThat(service.isRevoked("jti-1")).isTrue();
+        verify(listenerContainer, never()).addMessageListener(any(MessageListener.class), any(ChannelTopic.class));
+        verify(jwtTokenRedisRepository, never()).scanBlacklist();
+    }
+
+    private TokenRevocationServiceImpl newService() {
+        return new TokenRevocationServiceImpl(jwtTokenRedisRepository, properties, listenerContainer,
+                new SimpleMeterRegistry());
+    }
+
+    private MessageListener listener() {
+        ArgumentCaptor<MessageListener> captor = ArgumentCaptor.forClass(MessageListener.class);
+        verify(listenerContainer).addMessageListener(captor.capture(), any(ChannelTopic.class));
+        return captor.getValue();
+    }
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage("auth:revocation".getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,191 @@
+package com.gyeongditor.storyfield.util;
+
+import com.gyeongditor.storyfield.exception.CustomException;
+import com.gyeongditor.storyfield.response.ErrorCode;
+import org.assertj.core.api.ThrowableAssert.ThrowingCallable;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PngInflateGuardInputStreamTest {
+
+    private static final int HEADER_LENGTH = 33;
+    private static final long MAX_INFLATED_SIZE = 1_000_000;
+    private static final int MAX_RATIO = 10;
+    private static final int MAX_DIMENSION = 4_000;
+    private static final long MAX_PIXELS = 4_000_000;
+
+    @Test
+    void 한도_안의_PNG_는_그대로_통과시킨다() throws IOException {
+        byte[] png = png(800, 600, 5_000);
+
+        try (InputStream in = guard(png, png.length)) {
+            assertThat(in.readAllBytes()).isEqualTo(png);
+        }
+    }
+
+    @Test
+    void 압축률_상한을_넘으면_한도_직후에_중단한다() {
+        // 압축 크기 100 x 비율 10 = 1000 바이트까지
+        CountingInputStream source = new CountingInputStream(new ByteArrayInputStream(png(800, 600, 100_000)));
+
+        assertStoryError(() -> guard(source, 100, MAX_INFLATED_SIZE).readAllBytes(), ErrorCode.STORY_413_001);
+        // 폭탄 전체를 풀지 않고 한도 + 1 바이트에서 멈춘다
+        assertThat(source.count).isEqualTo(1_001);
+    }
+
+    @Test
+    void 절대_크기_상한을_넘으면_예외를_던진다() {
+        byte[] png = png(800, 600, 10_000);
+
+        // 압축률로는 허용되지만 절대 상한 5000 을 넘는다
+        assertStoryError(() -> guard(new ByteArrayInputStream(png), png.length, 5_000).readAllBytes(),
+                ErrorCode.STORY_413_001);
+    }
+
+    @Test
+    void 한_바이트씩_읽거나_건너뛰어도_상한에_포함한다() {
+        byte[] png = png(800, 600, 10_000);
+
+        assertStoryError(() -> {
+            try (InputStream in = guard(new ByteArrayInputStream(png), 100, MAX_INFLATED_SIZE)) {
+                while (in.read() != -1) {
+                    // 끝까지 읽는다
+                }
+            }
+        }, ErrorCode.STORY_413_001);
+        assertStoryError(() -> guard(new ByteArrayInputStream(png), 100, MAX_INFLATED_SIZE).skip(png.length),
+                ErrorCode.STORY_413_001);
+    }
+
+    @Test
+    void PNG_시그니처가_아니면_400() {
+        byte[] png = png(800, 600, 100);
+        png[1] = 'J';
+
+        assertStoryError(() -> guard(png, png.length).readAllBytes(), ErrorCode.STORY_400_002);
+    }
+
+    @Test
+    void IHDR_길이나_타입이_다르면_400() {
+        byte[] oversizedIhdr = png(800, 600, 100);
+        ByteBuffer.wrap(oversizedIhdr).putInt(8, 14);
+        byte[] wrongType = png(800, 600, 100);
+        wrongType[12] = 'X';
+
+        assertStoryError(() -> guard(oversizedIhdr, oversizedIhdr.length).readAllBytes(), ErrorCode.STORY_400_002);
+        assertStoryError(() -> guard(wrongType, wrongType.length).readAllBytes(), ErrorCode.STORY_400_002);
+    }
+
+    @Test
+    void 가로나_세로가_0_이면_400() {
+        byte[] png = png(0, 600, 100);
+
+        assertStoryError(() -> guard(png, png.length).readAllBytes(), ErrorCode.STORY_400_002);
+    }
+
+    @Test
+    void IHDR_해상도가_상한을_넘으면_413() {
+        byte[] tooWide = png(MAX_DIMENSION + 1, 10, 100);
+        byte[] tooManyPixels = png(3_000, 3_000, 100);
+        // 부호 없는 32비트 크기도 음수로 보지 않는다
+        byte[] unsignedWidth = png(0, 10, 100);
+        ByteBuffer.wrap(unsignedWidth).putInt(16, 0x8000_0000);
+
+        assertStoryError(() -> guard(tooWide, tooWide.length).readAllBytes(), ErrorCode.STORY_413_001);
+        assertStoryError(() -> guard(tooManyPixels, tooManyPixels.length).readAllBytes(), ErrorCode.STORY_413_001);
+        assertStoryError(() -> guard(unsignedWidth, unsignedWidth.length).readAllBytes(), ErrorCode.STORY_413_001);
+    }
+
+    @Test
+    void 헤더보다_짧으면_400() {
+        byte[] truncated = Arrays.copyOf(png(800, 600, 0), HEADER_LENGTH - 1);
+
+        assertStoryError(() -> guard(truncated, truncated.length).readAllBytes(), ErrorCode.STORY_400_002);
+    }
+
+    @Test
+    void 헤더는_한_바이트씩_들어와도_모이는_즉시_검사한다() {
+        byte[] png = png(800, 600, 100);
+        png[0] = 0;
+        OneByteInputStream source = new OneByteInputStream(new ByteArrayInputStream(png));
+
+        assertStoryError(() -> guard(source, png.length, MAX_INFLATED_SIZE).transferTo(OutputStream.nullOutputStream()),
+                ErrorCode.STORY_400_002);
+        assertThat(source.count).isEqualTo(HEADER_LENGTH);
+    }
+
+    private static PngInflateGuardInputStream guard(byte[] png, long compressedSize) {
+        return guard(new ByteArrayInputStream(png), compressedSize, MAX_INFLATED_SIZE);
+    }
+
+    private static PngInflateGuardInputStream guard(InputStream in, long compressedSize, long maxInflatedSize) {
+        return new PngInflateGuardInputStream(in, "page.png.gz", compressedSize,
+                maxInflatedSize, MAX_RATIO, MAX_DIMENSION, MAX_PIXELS);
+    }
+
+    private static void assertStoryError(ThrowingCallable body, ErrorCode expected) {
+        assertThatThrownBy(body)
+                .isInstanceOfSatisfying(CustomException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(expected));
+    }
+
+    // PNG 시그니처 + IHDR(13바이트) + CRC 자리 + 임의 본문
+    private static byte[] png(int width, int height, int bodyLength) {
+        ByteBuffer buffer = ByteBuffer.allocate(HEADER_LENGTH + 4 + bodyLength);
+        buffer.put(new byte[]{(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'});
+        buffer.putInt(13).put(new byte[]{'I', 'H', 'D', 'R'});
+        buffer.putInt(width).putInt(height);
+        buffer.put(new byte[]{8, 6, 0, 0, 0});
+        return buffer.array();
+    }
+
+    private static class CountingInputStream extends FilterInputStream {
+
+        long count;
+
+        CountingInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read() throws IOException {
+            int b = super.read();
+            if (b != -1) {
+                count++;
+            }
+            return b;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            int read = super.read(b, off, len);
+            if (read > 0) {
+                count += read;
+            }
+            return read;
+        }
+    }
+
+    // inflater 처럼 한 번에 조금씩만 돌려주는 소스
+    private static class OneByteInputStream extends CountingInputStream {
+
+        OneByteInputStream(InputStream in) {
+            super(in);
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            return super.read(b, off, Math.min(len, 1));
+        }
+    }
+}
@@ -0,0 +1,314 @@
+package com.gyeongditor.storyfield.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.Inflater;
+import java.util.zip.ZipException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PooledGzipInputStreamTest {
+
+    private static final int FHCRC = 2;
+    private static final int FEXTRA = 4;
+    private static final int FNAME = 8;
+    private static final int FCOMMENT = 16;
+
+    // 헤더/트레일러가 버퍼 경계에 걸치도록 작은 버퍼도 함께 확인한다
+    private static final int[] BUFFER_SIZES = {7, 64 * 1024};
+
+    @Test
+    void GZIPOutputStream_결과를_GZIPInputStream_과_같게_해제한다() throws IOException {
+        byte[] original = sample(300_000);
+        byte[] gz = gzipWithJdk(original);
+
+        for (int bufferSize : BUFFER_SIZES) {
+            assertThat(readPooled(gz, bufferSize, false)).isEqualTo(readJdk(gz)).isEqualTo(original);
+            assertThat(readPooled(gz, bufferSize, true)).isEqualTo(original);
+        }
+    }
+
+    @Test
+    void FEXTRA_FNAME_FCOMMENT_FHCRC_헤더를_건너뛴다() throws IOException {
+        byte[] original = sample(50_000);
+        byte[] gz = gzip(original, FEXTRA | FNAME | FCOMMENT | FHCRC);
+
+        assertThat(readJdk(gz)).isEqualTo(original);
+        for (int bufferSize : BUFFER_SIZES) {
+            assertThat(readPooled(gz, bufferSize, false)).isEqualTo(original);
+            assertThat(readPooled(gz, bufferSize, true)).isEqualTo(original);
+        }
+    }
+
+    @Test
+    void 헤더_CRC_가_다르면_GZIPInputStream_과_같은_예외를_던진다() throws IOException {
+        byte[] gz = gzip(sample(1_000), FNAME | FHCRC);
+        // FHCRC 는 헤더 마지막 2바이트 (FNAME 뒤)
+        int headerCrcOffset = indexOfZero(gz, 10) + 1;
+        gz[headerCrcOffset] ^= 0x01;
+
+        assertSameFailure(gz);
+        assertThatThrownBy(() -> readPooled(gz, 64, false))
+                .isInstanceOf(ZipException.class)
+                .hasMessage("Corrupt GZIP header");
+    }
+
+    @Test
+    void 이어붙인_멤버를_모두_해제한다() throws IOException {
+        byte[] first = sample(10_000);
+        byte[] second = "두 번째 멤버".getBytes(StandardCharsets.UTF_8);
+        byte[] third = sample(70_000);
+        byte[] gz = concat(gzipWithJdk(first), gzip(second, FNAME), gzipWithJdk(third));
+
+        byte[] expected = concat(first, second, third);
+        assertThat(readJdk(gz)).isEqualTo(expected);
+        for (int bufferSize : BUFFER_SIZES) {
+            assertThat(readPooled(gz, bufferSize, false)).isEqualTo(expected);
+            assertThat(readPooled(gz, bufferSize, true)).isEqualTo(expected);
+        }
+    }
+
+    @Test
+    void 멤버_뒤의_gzip_이_아닌_데이터는_무시한다() throws IOException {
+        byte[] original = sample(5_000);
+        byte[] gz = concat(gzipWithJdk(original), new byte[]{'j', 'u', 'n', 'k'});
+
+        assertThat(readJdk(gz)).isEqualTo(original);
+        for (int bufferSize : BUFFER_SIZES) {
+            assertThat(readPooled(gz, bufferSize, false)).isEqualTo(original);
+        }
+    }
+
+    @Test
+    void 트레일러_CRC_가_다르면_GZIPInputStream_과_같은_예외를_던진다() throws IOException {
+        byte[] gz = gzipWithJdk(sample(20_000));
+        gz[gz.length - 8] ^= 0x01;
+
+        assertSameFailure(gz);
+        assertThatThrownBy(() -> readPooled(gz, 64 * 1024, false))
+                .isInstanceOf(ZipException.class)
+                .hasMessage("Corrupt GZIP trailer");
+    }
+
+    @Test
+    void 트레일러가_잘리면_EOFException_을_던진다() throws IOException {
+        byte[] full = gzipWithJdk(sample(20_000));
+        byte[] gz = Arrays.copyOf(full, full.length - 3);
+
+        assertSameFailure(gz);
+        for (int bufferSize : BUFFER_SIZES) {
+            assertThatThrownBy(() -> readPooled(gz, bufferSize, false)).isInstanceOf(EOFException.class);
+        }
+    }
+
+    @Test
+    void gzip_이_아니면_GZIPInputStream_과_같은_예외를_던진다() {
+        byte[] png = {(byte) 0x89, 'P', 'N', 'G', '\r', '\n', 0x1A, '\n'};
+
+        assertSameFailure(png);
+        assertThatThrownBy(() -> readPooled(png, 64, false))
+                .isInstanceOf(ZipException.class)
+                .hasMessage("Not in GZIP format");
+    }
+
+    @Test
+    void 예외가_난_뒤에도_같은_Inflater_와_버퍼로_다음_스트림을_해제한다() throws IOException {
+        Inflater inflater = new Inflater(true);
+        CRC32 crc = new CRC32();
+        byte[] readBuffer = new byte[1024];
+        ByteBuffer inputBuffer = ByteBuffer.allocateDirect(readBuffer.length);
+        try {
+            byte[] corrupt = gzipWithJdk(sample(30_000));
+            corrupt[corrupt.length - 8] ^= 0x01;
+            byte[] truncated = Arrays.copyOf(gzipWithJdk(sample(30_000)), 500);
+            byte[] original = sample(40_000);
+            byte[] valid = gzip(original, FNAME | FHCRC);
+
+            assertThatThrownBy(() -> readAll(new PooledGzipInputStream(
+                    new ByteArrayInputStream(corrupt), inflater, crc, readBuffer, inputBuffer)))
+                    .isInstanceOf(ZipException.class);
+            assertThatThrownBy(() -> readAll(new PooledGzipInputStream(
+                    new ByteArrayInputStream(truncated), inflater, crc, readBuffer, inputBuffer)))
+                    .isInstanceOf(EOFException.class);
+
+            // 풀에 반납된 상태 그대로 (reset 은 생성자가 한다)
+            byte[] result = readAll(new PooledGzipInputStream(
+                    new ByteArrayInputStream(valid), inflater, crc, readBuffer, inputBuffer));
+            assertThat(result).isEqualTo(original);
+        } finally {
+            inflater.end();
+        }
+    }
+
+    @Test
+    void 닫은_뒤_읽으면_IOException_을_던진다() throws IOException {
+        InputStream in = pooled(gzipWithJdk(sample(100)), 64, false);
+        in.close();
+
+        assertThatThrownBy(in::read).isInstanceOf(IOException.class).hasMessage("Stream closed");
+    }
+
+    private static void assertSameFailure(byte[] gz) {
+        Throwable expected = catchFailure(() -> readJdk(gz));
+        Throwable actual = catchFailure(() -> readPooled(gz, 64 * 1024, false));
+
+        assertThat(expected).isNotNull();
+        assertThat(actual).isInstanceOf(expected.getClass());
+        if (expected instanceof ZipException) {
+            assertThat(actual).hasMessage(expected.getMessage());
+        }
+    }
+
+    private static Throwable catchFailure(IoAction action) {
+        try {
+            action.run();
+            return null;
+        } catch (IOException e) {
+            return e;
+        }
+    }
+
+    @FunctionalInterface
+    private interface IoAction {
+        void run() throws IOException;
+    }
+
+    private static byte[] readJdk(byte[] gz) throws IOException {
+        return readAll(new GZIPInputStream(new ByteArrayInputStream(gz)));
+    }
+
+    private static byte[] readPooled(byte[] gz, int bufferSize, boolean direct) throws IOException {
+        Inflater inflater = new Inflater(true);
+        try {
+            return readAll(pooled(gz, bufferSize, direct, inflater));
+        } finally {
+            inflater.end();
+        }
+    }
+
+    private static InputStream pooled(byte[] gz, int bufferSize, boolean direct) throws IOException {
+        return pooled(gz, bufferSize, direct, new Inflater(true));
+    }
+
+    private static InputStream pooled(byte[] gz, int bufferSize, boolean direct, Inflater inflater) throws IOException {
+        return new PooledGzipInputStream(new ByteArrayInputStream(gz), inflater, new CRC32(), new byte[bufferSize],
+                direct ? ByteBuffer.allocateDirect(bufferSize) : null);
+    }
+
+    private static byte[] readAll(InputStream in) throws IOException {
+        try (in) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            // 한 번에 다 읽지 않도록 작은 버퍼로 나눠 읽는다
+            byte[] buffer = new byte[1000];
+            int read;
+            while ((read = in.read(buffer, 0, buffer.length)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        }
+    }
+
+    // 반은 압축이 잘 되는 텍스트, 반은 난수
+    private static byte[] sample(int size) {
+        byte[] data = new byte[size];
+        byte[] text = "storyfield page image ".getBytes(StandardCharsets.US_ASCII);
+        for (int i = 0; i < size / 2; i++) {
+            data[i] = text[i % text.length];
+        }
+        byte[] noise = new byte[size - size / 2];
+        new Random(size).nextBytes(noise);
+        System.arraycopy(noise, 0, data, size / 2, noise.length);
+        return data;
+    }
+
+    private static byte[] gzipWithJdk(byte[] data) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gz = new GZIPOutputStream(out)) {
+            gz.write(data);
+        }
+        return out.toByteArray();
+    }
+
+    // GZIPOutputStream 이 쓰지 않는 선택 필드를 넣어 RFC 1952 헤더를 직접 만든다
+    private static byte[] gzip(byte[] data, int flags) {
+        ByteArrayOutputStream header = new ByteArrayOutputStream();
+        header.writeBytes(new byte[]{0x1f, (byte) 0x8b, 8, (byte) flags, 1, 2, 3, 4, 0, (byte) 0xff});
+        if ((flags & FEXTRA) != 0) {
+            byte[] extra = {'S', 'F', 2, 0, 'o', 'k'};
+            header.write(extra.length & 0xFF);
+            header.write(extra.length >> 8);
+            header.writeBytes(extra);
+        }
+        if ((flags & FNAME) != 0) {
+            header.writeBytes("page-001.png".getBytes(StandardCharsets.ISO_8859_1));
+            header.write(0);
+        }
+        if ((flags & FCOMMENT) != 0) {
+            header.writeBytes("story image".getBytes(StandardCharsets.ISO_8859_1));
+            header.write(0);
+        }
+        if ((flags & FHCRC) != 0) {
+            CRC32 headerCrc = new CRC32();
+            headerCrc.update(header.toByteArray());
+            int value = (int) headerCrc.getValue();
+            header.write(value & 0xFF);
+            header.write((value >> 8) & 0xFF);
+        }
+
+        Deflater deflater = new Deflater(Deflater.DEFAULT_COMPRESSION, true);
+        deflater.setInput(data);
+        deflater.finish();
+        ByteArrayOutputStream body = new ByteArrayOutputStream();
+        byte[] buffer = new byte[8192];
+        while (!deflater.finished()) {
+            body.write(buffer, 0, deflater.deflate(buffer));
+        }
+        deflater.end();
+
+        CRC32 crc = new CRC32();
+        crc.update(data);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        out.writeBytes(header.toByteArray());
+        out.writeBytes(body.toByteArray());
+        writeUInt(out, crc.getValue());
+        writeUInt(out, data.length & 0xFFFFFFFFL);
+        return out.toByteArray();
+    }
+
+    private static void writeUInt(ByteArrayOutputStream out, long value) {
+        for (int i = 0; i < 4; i++) {
+            out.write((int) (value >> (8 * i)) & 0xFF);
+        }
+    }
+
+    private static int indexOfZero(byte[] data, int from) {
+        for (int i = from; i < data.length; i++) {
+            if (data[i] == 0) {
+                return i;
+            }
+        }
+        throw new IllegalArgumentException("0 이 없습니다");
+    }
+
+    private static byte[] concat(byte[]... parts) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        for (byte[] part : parts) {
+            out.writeBytes(part);
+        }
+        return out.toByteArray();
+    }
+}